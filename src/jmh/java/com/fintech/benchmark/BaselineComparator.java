@@ -0,0 +1,103 @@
+package com.fintech.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara el resultado JSON de JMH contra el baseline versionado.
+ * Todos los benchmarks miden throughput (ops/s): una caída mayor a maxRegressionPercent falla
+ * el build. Con updateBaseline=true reescribe el baseline con el resultado actual.
+ *
+ * Uso: BaselineComparator &lt;result.json&gt; &lt;baseline.json&gt; &lt;maxRegressionPercent&gt; [updateBaseline]
+ */
+public final class BaselineComparator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private BaselineComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Uso: BaselineComparator <result.json> <baseline.json> <maxRegressionPercent> [updateBaseline]");
+            System.exit(2);
+        }
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        double maxRegressionPercent = Double.parseDouble(args[2]);
+        boolean update = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        Map<String, Double> current = readResult(resultFile);
+        if (update || !Files.exists(baselineFile)) {
+            writeBaseline(baselineFile, current);
+            System.out.printf("Baseline actualizado: %s (%d benchmarks)%n", baselineFile, current.size());
+            return;
+        }
+
+        List<String> regressions = compare(readBaseline(baselineFile), current, maxRegressionPercent);
+        if (!regressions.isEmpty()) {
+            System.err.println("Regresiones de rendimiento (> " + maxRegressionPercent + "%):");
+            regressions.forEach(line -> System.err.println("  " + line));
+            System.exit(1);
+        }
+        System.out.println("Sin regresiones frente al baseline.");
+    }
+
+    static List<String> compare(Map<String, Double> baseline, Map<String, Double> current, double maxRegressionPercent) {
+        List<String> regressions = new ArrayList<>();
+        baseline.forEach((benchmark, expected) -> {
+            Double actual = current.get(benchmark);
+            if (actual == null) {
+                // Ejecución filtrada con -Djmh.includes: no se compara lo que no corrió
+                return;
+            }
+            double changePercent = (actual - expected) / expected * 100.0;
+            String line = String.format("%s: %.2f -> %.2f ops/s (%+.1f%%)", benchmark, expected, actual, changePercent);
+            System.out.println(line);
+            if (changePercent < -maxRegressionPercent) {
+                regressions.add(line);
+            }
+        });
+        return regressions;
+    }
+
+    private static Map<String, Double> readResult(Path file) throws IOException {
+        Map<String, Double> scores = new TreeMap<>();
+        for (JsonNode run : MAPPER.readTree(file.toFile())) {
+            String benchmark = run.path("benchmark").asText();
+            if (!"thrpt".equals(run.path("mode").asText())) {
+                throw new IllegalStateException("Solo se comparan benchmarks en modo throughput: " + benchmark);
+            }
+            scores.put(benchmark, run.path("primaryMetric").path("score").asDouble());
+        }
+        return scores;
+    }
+
+    private static Map<String, Double> readBaseline(Path file) throws IOException {
+        Map<String, Double> scores = new TreeMap<>();
+        MAPPER.readTree(file.toFile()).path("scores").fields()
+                .forEachRemaining(entry -> scores.put(entry.getKey(), entry.getValue().asDouble()));
+        return scores;
+    }
+
+    private static void writeBaseline(Path file, Map<String, Double> scores) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("unit", "ops/s");
+        root.put("java", System.getProperty("java.version"));
+        root.put("cpus", Runtime.getRuntime().availableProcessors());
+        ObjectNode node = root.putObject("scores");
+        scores.forEach((benchmark, score) -> node.put(benchmark, Math.round(score * 100.0) / 100.0));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        MAPPER.writeValue(file.toFile(), root);
+    }
+}
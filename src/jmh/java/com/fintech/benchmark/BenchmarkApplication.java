@@ -0,0 +1,130 @@
+package com.fintech.benchmark;
+
+import com.fintech.FintechApiApplication;
+import com.fintech.model.Account;
+import com.fintech.model.Customer;
+import com.fintech.model.Role;
+import com.fintech.model.RoleType;
+import com.fintech.model.SystemSetting;
+import com.fintech.model.Transaction;
+import com.fintech.model.TransactionType;
+import com.fintech.model.User;
+import com.fintech.repository.AccountRepository;
+import com.fintech.repository.CustomerRepository;
+import com.fintech.repository.RoleRepository;
+import com.fintech.repository.SettingsRepository;
+import com.fintech.repository.TransactionRepository;
+import com.fintech.repository.UserRepository;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Contexto Spring compartido por los benchmarks de un mismo fork: perfil "test" sobre H2
+ * en memoria, sin servidor web, con un dataset determinístico (semilla fija).
+ * Tamaño configurable con -Djmh.dataset.accounts y -Djmh.dataset.transactionsPerAccount.
+ */
+public final class BenchmarkApplication {
+
+    public static final long SEED = 42L;
+
+    private static ConfigurableApplicationContext context;
+    private static List<String> accountNumbers;
+
+    private BenchmarkApplication() {
+    }
+
+    public static synchronized ConfigurableApplicationContext context() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(FintechApiApplication.class)
+                    .web(WebApplicationType.NONE)
+                    // Como argumentos de línea de comando para que tengan prioridad sobre application*.properties
+                    .run(
+                            "--spring.profiles.active=test",
+                            "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.root=WARN",
+                            "--jwt.secret=BenchmarkSecretKeyForJmhRunsOnly1234567890123456789012345",
+                            "--jwt.expiration=3600000",
+                            "--reports.dashboard.max-staleness=0s"
+                    );
+            accountNumbers = seed(context);
+        }
+        return context;
+    }
+
+    public static List<String> accountNumbers() {
+        context();
+        return accountNumbers;
+    }
+
+    private static List<String> seed(ConfigurableApplicationContext context) {
+        int accounts = Integer.getInteger("jmh.dataset.accounts", 200);
+        int transactionsPerAccount = Integer.getInteger("jmh.dataset.transactionsPerAccount", 50);
+        Random random = new Random(SEED);
+
+        SettingsRepository settingsRepository = context.getBean(SettingsRepository.class);
+        saveSetting(settingsRepository, "MIN_TRANSACTION_AMOUNT", "1.00");
+        saveSetting(settingsRepository, "MAX_TRANSACTION_AMOUNT", "100000.00");
+        saveSetting(settingsRepository, "MAX_DAILY_WITHDRAWAL", "5000.00");
+
+        Role userRole = context.getBean(RoleRepository.class).findByName(RoleType.ROLE_USER).orElseThrow();
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        CustomerRepository customerRepository = context.getBean(CustomerRepository.class);
+        AccountRepository accountRepository = context.getBean(AccountRepository.class);
+        TransactionRepository transactionRepository = context.getBean(TransactionRepository.class);
+
+        List<String> numbers = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            User user = new User();
+            user.setEmail("bench" + i + "@fintech.com");
+            user.setPassword("not-used");
+            user.setRole(userRole);
+            userRepository.save(user);
+
+            Customer customer = new Customer();
+            customer.setUser(user);
+            customer.setName("Benchmark Customer " + i);
+            customerRepository.save(customer);
+
+            Account account = new Account();
+            account.setAccountNumber(String.format("%010d", 1_000_000_000L + i));
+            account.setCustomer(customer);
+            BigDecimal balance = BigDecimal.valueOf(1_000_000, 2);
+
+            List<Transaction> transactions = new ArrayList<>(transactionsPerAccount);
+            for (int t = 0; t < transactionsPerAccount; t++) {
+                TransactionType type = random.nextInt(3) == 0 ? TransactionType.WITHDRAW : TransactionType.DEPOSIT;
+                BigDecimal amount = BigDecimal.valueOf(random.nextLong(100, 50_000), 2);
+                balance = type == TransactionType.DEPOSIT ? balance.add(amount) : balance.subtract(amount);
+
+                Transaction transaction = new Transaction();
+                transaction.setAccount(account);
+                transaction.setType(type);
+                transaction.setAmount(amount);
+                transaction.setBalanceAfter(balance);
+                transaction.setDescription("Seed " + t);
+                transaction.setSequenceNumber(t + 1L);
+                transactions.add(transaction);
+            }
+            account.setBalance(balance);
+            account.setLedgerSequence((long) transactionsPerAccount);
+            accountRepository.save(account);
+            transactionRepository.saveAll(transactions);
+            numbers.add(account.getAccountNumber());
+        }
+        return List.copyOf(numbers);
+    }
+
+    private static void saveSetting(SettingsRepository repository, String key, String value) {
+        SystemSetting setting = new SystemSetting();
+        setting.setSettingKey(key);
+        setting.setSettingValue(value);
+        repository.save(setting);
+    }
+}
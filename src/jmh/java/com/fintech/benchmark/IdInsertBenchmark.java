@@ -0,0 +1,140 @@
+package com.fintech.benchmark;
+
+import com.fintech.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Inserción en una tabla con forma de transactions ya cargada con muchas filas, comparando
+ * ids UUID v4 aleatorios en varchar(36) (esquema anterior) contra UUID v7 en uuid nativo.
+ * Cada operación inserta y commitea un lote de {@value #BATCH_SIZE} filas.
+ * <p>
+ * Propiedades (pasar con {@code -jvmArgsAppend}):
+ * {@code jmh.ids.rows} filas precargadas (10M),
+ * {@code jmh.ids.url} / {@code jmh.ids.user} / {@code jmh.ids.password} base a usar
+ * (por defecto H2 en archivo bajo target/, también sirve PostgreSQL).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    static final int BATCH_SIZE = 1_000;
+
+    @Benchmark
+    public int insertRandomUuidVarchar(RandomUuidTable table) throws SQLException {
+        return table.insertBatch(BATCH_SIZE);
+    }
+
+    @Benchmark
+    public int insertUuidV7Native(UuidV7Table table) throws SQLException {
+        return table.insertBatch(BATCH_SIZE);
+    }
+
+    @State(Scope.Benchmark)
+    public static class RandomUuidTable extends IdTable {
+        public RandomUuidTable() {
+            super("ids_random", "varchar(36)", () -> UUID.randomUUID().toString());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UuidV7Table extends IdTable {
+        public UuidV7Table() {
+            super("ids_time_ordered", "uuid", UuidV7::generate);
+        }
+    }
+
+    // Cada benchmark crea y precarga solo su tabla
+    abstract static class IdTable {
+
+        private static final int LOAD_BATCH_SIZE = 10_000;
+        private static final int ACCOUNTS = 1_000;
+
+        private final String table;
+        private final String idType;
+        private final Supplier<Object> ids;
+        private final Object[] accounts = new Object[ACCOUNTS];
+
+        private Connection connection;
+        private PreparedStatement insert;
+
+        IdTable(String table, String idType, Supplier<Object> ids) {
+            this.table = table;
+            this.idType = idType;
+            this.ids = ids;
+        }
+
+        @Setup(Level.Trial)
+        public void setUp() throws SQLException {
+            connection = DriverManager.getConnection(
+                    System.getProperty("jmh.ids.url", "jdbc:h2:file:./target/jmh-ids/ids"),
+                    System.getProperty("jmh.ids.user", "sa"),
+                    System.getProperty("jmh.ids.password", ""));
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute("CREATE TABLE " + table + " (id " + idType + " PRIMARY KEY, account_id " + idType
+                        + " NOT NULL, amount numeric(19,2) NOT NULL, timestamp timestamp(6) NOT NULL)");
+            }
+            connection.commit();
+
+            for (int i = 0; i < ACCOUNTS; i++) {
+                accounts[i] = ids.get();
+            }
+            insert = connection.prepareStatement("INSERT INTO " + table + " VALUES (?, ?, ?, ?)");
+            long rows = Long.getLong("jmh.ids.rows", 10_000_000L);
+            for (long loaded = 0; loaded < rows; loaded += LOAD_BATCH_SIZE) {
+                insertBatch((int) Math.min(LOAD_BATCH_SIZE, rows - loaded));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE " + table);
+            }
+            connection.commit();
+            connection.close();
+        }
+
+        int insertBatch(int size) throws SQLException {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 0; i < size; i++) {
+                insert.setObject(1, ids.get());
+                insert.setObject(2, accounts[random.nextInt(accounts.length)]);
+                insert.setBigDecimal(3, BigDecimal.valueOf(random.nextLong(1, 1_000_000), 2));
+                insert.setTimestamp(4, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+            connection.commit();
+            return size;
+        }
+    }
+}
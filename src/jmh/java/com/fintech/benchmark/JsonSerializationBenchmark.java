@@ -0,0 +1,127 @@
+package com.fintech.benchmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.json.RecordListWriter;
+import com.fintech.model.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de un listado de {@value #TRANSACTIONS} TransactionResponse, como el de
+ * GET /admin/transactions: Jackson por reflexión (el converter por defecto), con Blackbird,
+ * con RecordListWriter y en Smile/CBOR. Los mappers se configuran como los de Spring Boot
+ * (fechas ISO, JavaTimeModule). El tamaño de cada formato queda en el README de benchmarks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    static final int TRANSACTIONS = 10_000;
+
+    private static final TypeReference<List<TransactionResponse>> LIST_TYPE = new TypeReference<>() {};
+
+    private List<TransactionResponse> transactions;
+    private ObjectWriter reflectionWriter;
+    private ObjectWriter blackbirdWriter;
+    private RecordListWriter jsonListWriter;
+    private RecordListWriter smileListWriter;
+    private RecordListWriter cborListWriter;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4 * 1024 * 1024);
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkApplication.SEED);
+        transactions = new ArrayList<>(TRANSACTIONS);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            transactions.add(new TransactionResponse(
+                    new UUID(random.nextLong(), random.nextLong()).toString(),
+                    String.format("%010d", random.nextInt(1_000_000)),
+                    "Customer " + random.nextInt(200),
+                    random.nextBoolean() ? TransactionType.DEPOSIT : TransactionType.WITHDRAW,
+                    BigDecimal.valueOf(random.nextLong(1_00, 1_000_00), 2),
+                    BigDecimal.valueOf(random.nextLong(0, 10_000_000_00L), 2),
+                    start.plusSeconds(random.nextInt(30 * 24 * 3600)),
+                    random.nextInt(4) == 0 ? null : "Pago de servicios " + i));
+        }
+        reflectionWriter = mapper(new JsonFactory(), false).writerFor(LIST_TYPE);
+        blackbirdWriter = mapper(new JsonFactory(), true).writerFor(LIST_TYPE);
+        jsonListWriter = new RecordListWriter(mapper(new JsonFactory(), true));
+        smileListWriter = new RecordListWriter(mapper(new SmileFactory(), true));
+        cborListWriter = new RecordListWriter(mapper(new CBORFactory(), true));
+    }
+
+    @Benchmark
+    public int reflectionJson() throws IOException {
+        out.reset();
+        reflectionWriter.writeValue(out, transactions);
+        return out.size();
+    }
+
+    @Benchmark
+    public int blackbirdJson() throws IOException {
+        out.reset();
+        blackbirdWriter.writeValue(out, transactions);
+        return out.size();
+    }
+
+    @Benchmark
+    public int streamingJson() throws IOException {
+        return write(jsonListWriter);
+    }
+
+    @Benchmark
+    public int streamingSmile() throws IOException {
+        return write(smileListWriter);
+    }
+
+    @Benchmark
+    public int streamingCbor() throws IOException {
+        return write(cborListWriter);
+    }
+
+    private int write(RecordListWriter writer) throws IOException {
+        out.reset();
+        writer.write(transactions, TransactionResponse.class, out, JsonEncoding.UTF8);
+        return out.size();
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory, boolean blackbird) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder().factory(factory);
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,53 @@
+package com.fintech.benchmark;
+
+import com.fintech.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil sin contexto Spring: generación de token (login) y validación + lectura del
+ * subject, que es lo que hace JwtAuthenticationFilter en cada request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "BenchmarkSecretKeyForJmhRunsOnly1234567890123456789012345");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        token = jwtUtil.generateToken("bench0@fintech.com", "Benchmark Customer 0", "customer-0");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("bench0@fintech.com", "Benchmark Customer 0", "customer-0");
+    }
+
+    @Benchmark
+    public String validateAndParse() {
+        if (!jwtUtil.validateToken(token)) {
+            throw new IllegalStateException("Benchmark token must be valid");
+        }
+        return jwtUtil.getEmailFromToken(token);
+    }
+}
@@ -0,0 +1,114 @@
+package com.fintech.benchmark;
+
+import com.fintech.util.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aritmética de montos del camino de una transacción: BigDecimal (implementación anterior)
+ * contra Money en centavos. Las asignaciones por operación se ven con {@code -prof gc}.
+ * <p>
+ * validateAndApply* reproduce validateMin/Max, el límite diario y la actualización de saldo,
+ * incluyendo el parseo de settings y la conversión en la frontera (BigDecimal de entrada y salida).
+ * sum* reproduce una agregación en memoria sobre {@value #AMOUNTS} montos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    static final int AMOUNTS = 100_000;
+
+    private static final String MIN_SETTING = "1.00";
+    private static final String MAX_SETTING = "100000.00";
+    private static final String DAILY_SETTING = "5000.00";
+
+    private static final Money MIN = Money.of(new BigDecimal(MIN_SETTING));
+    private static final Money MAX = Money.of(new BigDecimal(MAX_SETTING));
+    private static final Money DAILY = Money.of(new BigDecimal(DAILY_SETTING));
+
+    private BigDecimal[] amounts;
+    private long[] cents;
+    private BigDecimal balance;
+    private BigDecimal todayWithdrawals;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkApplication.SEED);
+        amounts = new BigDecimal[AMOUNTS];
+        cents = new long[AMOUNTS];
+        for (int i = 0; i < AMOUNTS; i++) {
+            cents[i] = random.nextLong(1_00, 1_000_00);
+            amounts[i] = BigDecimal.valueOf(cents[i], 2);
+        }
+        balance = new BigDecimal("250000.00");
+        todayWithdrawals = new BigDecimal("1200.00");
+    }
+
+    @Benchmark
+    public BigDecimal validateAndApplyBigDecimal() {
+        BigDecimal amount = nextAmount();
+        // Settings parseados en cada request, como hacía TransactionService
+        if (amount.compareTo(new BigDecimal(MIN_SETTING)) < 0
+                || amount.compareTo(new BigDecimal(MAX_SETTING)) > 0
+                || todayWithdrawals.add(amount).compareTo(new BigDecimal(DAILY_SETTING)) > 0
+                || balance.compareTo(amount) < 0) {
+            return balance;
+        }
+        return balance.subtract(amount);
+    }
+
+    @Benchmark
+    public BigDecimal validateAndApplyMoney() {
+        Money amount = Money.of(nextAmount());
+        Money current = Money.of(balance);
+        if (amount.isLessThan(MIN)
+                || amount.isGreaterThan(MAX)
+                || Money.of(todayWithdrawals).plus(amount).isGreaterThan(DAILY)
+                || current.isLessThan(amount)) {
+            return balance;
+        }
+        return current.minus(amount).toBigDecimal();
+    }
+
+    @Benchmark
+    public BigDecimal sumBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    // Como en los acumuladores de reportes: centavos en un long y Money solo al final
+    @Benchmark
+    public BigDecimal sumCents() {
+        long total = 0;
+        for (long amount : cents) {
+            total = Math.addExact(total, amount);
+        }
+        return Money.ofCents(total).toBigDecimal();
+    }
+
+    private BigDecimal nextAmount() {
+        BigDecimal amount = amounts[next];
+        next = (next + 1) % AMOUNTS;
+        return amount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.fintech.benchmark;
+
+import com.fintech.dto.response.AccountStatisticsResponse;
+import com.fintech.dto.response.DashboardStatisticsResponse;
+import com.fintech.dto.response.TransactionStatisticsResponse;
+import com.fintech.service.ReportsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agregaciones de ReportsService sobre el dataset sembrado. El snapshot del dashboard se
+ * desactiva (max-staleness=0s) para medir el cálculo completo en cada invocación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReportsServiceBenchmark {
+
+    private ReportsService reportsService;
+
+    @Setup
+    public void setUp() {
+        reportsService = BenchmarkApplication.context().getBean(ReportsService.class);
+    }
+
+    @Benchmark
+    public AccountStatisticsResponse accountStatistics() {
+        return reportsService.getAccountStatistics();
+    }
+
+    @Benchmark
+    public TransactionStatisticsResponse transactionStatistics() {
+        return reportsService.getTransactionStatistics();
+    }
+
+    @Benchmark
+    public DashboardStatisticsResponse dashboard() {
+        return reportsService.getDashboardStatistics();
+    }
+}
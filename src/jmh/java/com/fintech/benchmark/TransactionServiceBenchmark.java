@@ -0,0 +1,88 @@
+package com.fintech.benchmark;
+
+import com.fintech.dto.request.TransactionRequest;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.model.Transaction;
+import com.fintech.model.TransactionType;
+import com.fintech.repository.TransactionRepository;
+import com.fintech.service.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+
+    private TransactionService transactionService;
+    private MethodHandle mapToResponse;
+    private List<String> accountNumbers;
+    private List<Transaction> loadedTransactions;
+    private Random random;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        ConfigurableApplicationContext context = BenchmarkApplication.context();
+        transactionService = context.getBean(TransactionService.class);
+        accountNumbers = BenchmarkApplication.accountNumbers();
+        random = new Random(BenchmarkApplication.SEED);
+
+        // mapToResponse es privado: se invoca sobre el objeto real (sin proxy) vía MethodHandle
+        TransactionService target = AopTestUtils.getTargetObject(transactionService);
+        mapToResponse = MethodHandles.privateLookupIn(TransactionService.class, MethodHandles.lookup())
+                .findVirtual(TransactionService.class, "mapToResponse",
+                        MethodType.methodType(TransactionResponse.class, Transaction.class))
+                .bindTo(target);
+
+        // Entidades con cuenta y cliente ya inicializados, fuera de la sesión
+        TransactionRepository transactionRepository = context.getBean(TransactionRepository.class);
+        loadedTransactions = new TransactionTemplate(context.getBean(
+                org.springframework.transaction.PlatformTransactionManager.class)).execute(status -> {
+            List<Transaction> page = transactionRepository.findAll(PageRequest.of(0, 1_000)).getContent();
+            page.forEach(t -> t.getAccount().getCustomer().getName());
+            return page;
+        });
+    }
+
+    @Benchmark
+    public TransactionResponse createDeposit() {
+        String accountNumber = accountNumbers.get(random.nextInt(accountNumbers.size()));
+        return transactionService.createTransaction(new TransactionRequest(
+                accountNumber, TransactionType.DEPOSIT, new BigDecimal("25.00"), "Benchmark deposit"));
+    }
+
+    @Benchmark
+    public TransactionResponse mapToResponse() throws Throwable {
+        Transaction transaction = loadedTransactions.get(random.nextInt(loadedTransactions.size()));
+        return (TransactionResponse) mapToResponse.invokeExact(transaction);
+    }
+
+    @Benchmark
+    public List<TransactionResponse> historyByAccountNumber() {
+        return transactionService.getTransactionsByAccountNumber(
+                accountNumbers.get(random.nextInt(accountNumbers.size())));
+    }
+}
@@ -0,0 +1,28 @@
+package com.fintech.coalescing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca un método de solo lectura cuyas llamadas concurrentes idénticas (mismo método, mismos
+ * argumentos y, si perUser, mismo usuario) comparten una sola ejecución en curso: el primero la
+ * ejecuta y los demás reciben su resultado o su excepción. El resultado es compartido y no debe
+ * modificarse. Ver RequestCoalescer.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesce {
+
+    /**
+     * Si el resultado depende del usuario autenticado (por ejemplo, por el control de dueño).
+     */
+    boolean perUser() default true;
+
+    /**
+     * Espera máxima por la ejecución en curso, en milisegundos; al vencer, la llamada se
+     * ejecuta por su cuenta. Con -1 aplica coalescing.max-wait.
+     */
+    long maxWaitMillis() default -1;
+}
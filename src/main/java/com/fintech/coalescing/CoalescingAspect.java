@@ -0,0 +1,32 @@
+package com.fintech.coalescing;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aplica @Coalesce. Corre antes que @Transactional: las llamadas que esperan una ejecución en
+ * curso no abren transacción ni toman conexión. Va después de ExposeInvocationInterceptor
+ * (HIGHEST_PRECEDENCE + 1), que AspectJ necesita al frente de la cadena.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class CoalescingAspect {
+
+    private final RequestCoalescer requestCoalescer;
+
+    @Around("@annotation(coalesce)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesce coalesce) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String method = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        return requestCoalescer.execute(method, joinPoint.getArgs(), coalesce.perUser(),
+                coalesce.maxWaitMillis(), joinPoint::proceed);
+    }
+}
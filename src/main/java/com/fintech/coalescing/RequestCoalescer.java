@@ -0,0 +1,137 @@
+package com.fintech.coalescing;
+
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.event.TransactionCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight de lecturas: mientras una llamada está en curso, las idénticas que llegan
+ * esperan su resultado en lugar de ejecutar otra vez la consulta.
+ * <p>
+ * Al confirmarse una transacción o un cambio de cuenta, las ejecuciones en curso cuyos argumentos
+ * incluyen esa cuenta (número o id) dejan de aceptar nuevas llamadas: quien lee después de
+ * escribir nunca recibe un resultado que empezó antes de su escritura.
+ * <p>
+ * Métricas: fintech.coalescing.calls{method, outcome}, donde outcome es executed (fue a la base),
+ * joined (recibió el resultado de otra llamada: una consulta ahorrada) o timeout (se cansó de
+ * esperar y ejecutó por su cuenta).
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestCoalescer {
+
+    static final String METRIC_NAME = "fintech.coalescing.calls";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coalescing.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${coalescing.max-wait:2s}")
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private record CallKey(String method, List<Object> args, String user) {}
+
+    @FunctionalInterface
+    public interface Call {
+        Object run() throws Throwable;
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("fintech.coalescing.in.flight", inFlight, Map::size)
+                .description("Ejecuciones en curso que aceptan llamadas idénticas")
+                .register(meterRegistry);
+    }
+
+    public Object execute(String method, Object[] args, boolean perUser, long maxWaitMillis, Call call)
+            throws Throwable {
+        if (!enabled) {
+            return call.run();
+        }
+        CallKey key = new CallKey(method, Arrays.asList(args.clone()), perUser ? currentUser() : null);
+        CompletableFuture<Object> execution = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            return join(method, running, maxWaitMillis >= 0 ? maxWaitMillis : maxWait.toMillis(), call);
+        }
+
+        counter(method, "executed").increment();
+        try {
+            Object result = call.run();
+            execution.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            execution.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        detach(Set.of(event.transaction().accountNumber(), event.accountId().toString()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAccountChanged(AccountChangedEvent event) {
+        detach(Set.of(event.accountNumber(), event.accountId().toString()));
+    }
+
+    // Quien ya esperaba recibe el resultado; las llamadas nuevas inician otra ejecución
+    private void detach(Set<String> accountKeys) {
+        inFlight.keySet().removeIf(key -> key.args().stream().anyMatch(accountKeys::contains));
+    }
+
+    private Object join(String method, CompletableFuture<Object> running, long waitMillis, Call call)
+            throws Throwable {
+        try {
+            Object result = running.get(waitMillis, TimeUnit.MILLISECONDS);
+            counter(method, "joined").increment();
+            return result;
+        } catch (ExecutionException ex) {
+            counter(method, "joined").increment();
+            throw ex.getCause();
+        } catch (TimeoutException ex) {
+            counter(method, "timeout").increment();
+            return call.run();
+        }
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "";
+    }
+
+    private Counter counter(String method, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .description("Lecturas con @Coalesce por resultado")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
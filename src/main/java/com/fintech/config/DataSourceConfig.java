@@ -0,0 +1,73 @@
+package com.fintech.config;
+
+import com.fintech.datasource.BulkheadDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Envuelve el pool de Hikari en un BulkheadDataSource (datasource.bulkhead.enabled).
+ * Por defecto el bulkhead admite tantas conexiones concurrentes como el pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    // Cada pool Hikari queda detrás de su propio bulkhead
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                // Sin maximum-pool-size Hikari toma su default (10) recién al arrancar el pool
+                int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+                return new BulkheadDataSource(
+                        hikari,
+                        environment.getProperty("datasource.bulkhead.max-concurrent", Integer.class, poolSize),
+                        environment.getProperty("datasource.bulkhead.max-waiters", Integer.class, 200),
+                        environment.getProperty("datasource.bulkhead.acquire-timeout", Duration.class, Duration.ofSeconds(5))
+                );
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder bulkheadMetrics(Map<String, DataSource> dataSources) {
+        return registry -> dataSources.forEach((name, dataSource) -> {
+            if (dataSource instanceof BulkheadDataSource bulkhead) {
+                bindMetrics(bulkhead, name, registry);
+            }
+        });
+    }
+
+    private static void bindMetrics(BulkheadDataSource bulkhead, String name, MeterRegistry registry) {
+        Gauge.builder("fintech.datasource.bulkhead.active", bulkhead, BulkheadDataSource::getActive)
+                .description("Conexiones prestadas a través del bulkhead")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("fintech.datasource.bulkhead.waiting", bulkhead, BulkheadDataSource::getWaiting)
+                .description("Hilos esperando un permiso del bulkhead")
+                .tag("name", name)
+                .register(registry);
+        FunctionCounter.builder("fintech.datasource.bulkhead.rejected", bulkhead, BulkheadDataSource::getRejected)
+                .description("Pedidos de conexión rechazados por el bulkhead")
+                .tag("name", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.fintech.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.fintech.json.StreamingCborHttpMessageConverter;
+import com.fintech.json.StreamingJsonHttpMessageConverter;
+import com.fintech.json.StreamingSmileHttpMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serialización de las respuestas: Blackbird (accesos a los records generados en bytecode en
+ * lugar de reflexión) en el ObjectMapper de la aplicación, listas de records escritas con
+ * RecordListWriter y, con json.binary.enabled, Smile y CBOR por content negotiation para
+ * clientes internos. Los tres converters usan la configuración de Jackson de Spring Boot.
+ */
+@Configuration
+public class JsonConfig implements WebMvcConfigurer {
+
+    private static final Set<Class<?>> DEFAULT_JACKSON_CONVERTERS = Set.of(
+            MappingJackson2HttpMessageConverter.class,
+            MappingJackson2SmileHttpMessageConverter.class,
+            MappingJackson2CborHttpMessageConverter.class);
+
+    // Spring Boot registra los Module en el ObjectMapper de la aplicación
+    @Bean
+    @ConditionalOnProperty(name = "json.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // Con este bean Spring Boot no crea su MappingJackson2HttpMessageConverter
+    @Bean
+    public StreamingJsonHttpMessageConverter streamingJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new StreamingJsonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "json.binary.enabled", havingValue = "true")
+    public StreamingSmileHttpMessageConverter streamingSmileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new StreamingSmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "json.binary.enabled", havingValue = "true")
+    public StreamingCborHttpMessageConverter streamingCborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new StreamingCborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    // Spring MVC agrega sus converters de Jackson (Smile y CBOR si están en el classpath) detrás
+    // de los de esta clase: se quitan, y sin json.binary.enabled no queda converter Smile ni CBOR
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> DEFAULT_JACKSON_CONVERTERS.contains(converter.getClass()));
+    }
+}
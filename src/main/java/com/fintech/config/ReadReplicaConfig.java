@@ -0,0 +1,122 @@
+package com.fintech.config;
+
+import com.fintech.datasource.ReadYourWritesFilter;
+import com.fintech.datasource.ReplicaLagMonitor;
+import com.fintech.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Réplica de lectura (datasource.replica.url): las transacciones de solo lectura van a la
+ * réplica y el resto al primario (ReplicaRoutingDataSource). Cada pool queda detrás de su
+ * propio bulkhead. Sin la propiedad la aplicación usa el DataSource autoconfigurado.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.url")
+public class ReadReplicaConfig {
+
+    private static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN pg_is_in_recovery() "
+                    + "THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) ELSE 0 END";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Usuario y contraseña del primario salvo que se definan para la réplica
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(environment.getRequiredProperty("datasource.replica.url"))
+                .username(environment.getProperty("datasource.replica.username", properties.determineUsername()))
+                .password(environment.getProperty("datasource.replica.password", properties.determinePassword()))
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               Environment environment) {
+        return new ReplicaLagMonitor(
+                replica,
+                environment.getProperty("datasource.replica.lag-query", POSTGRES_LAG_QUERY),
+                environment.getProperty("datasource.replica.max-lag", Duration.class, Duration.ofSeconds(5))
+        );
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                             @Qualifier("replicaDataSource") DataSource replica,
+                                                             ReplicaLagMonitor lagMonitor) {
+        return new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+    }
+
+    // El que usan JPA, JdbcTemplate y Flyway: pide la conexión real en la primera sentencia
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Con la conexión retenida hasta el fin del request (open-in-view) todas las transacciones
+    // del request usarían la de la primera; se libera al terminar cada transacción
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(new ReadYourWritesFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(ReplicaRoutingDataSource routing, ReplicaLagMonitor lagMonitor) {
+        return registry -> {
+            for (ReplicaRoutingDataSource.Reason reason : ReplicaRoutingDataSource.Reason.values()) {
+                FunctionCounter.builder("fintech.datasource.routing", routing, r -> r.getRouted(reason))
+                        .description("Conexiones transaccionales por destino y motivo")
+                        .tag("reason", reason.name().toLowerCase())
+                        .register(registry);
+            }
+            Gauge.builder("fintech.datasource.replica.lag", lagMonitor, ReplicaLagMonitor::getLagSeconds)
+                    .description("Atraso de la réplica en segundos (NaN si la medición falló)")
+                    .baseUnit("seconds")
+                    .register(registry);
+            Gauge.builder("fintech.datasource.replica.usable", lagMonitor, m -> m.isReplicaUsable() ? 1 : 0)
+                    .description("1 si las lecturas van a la réplica")
+                    .register(registry);
+        };
+    }
+}
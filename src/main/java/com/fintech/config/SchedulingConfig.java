@@ -0,0 +1,12 @@
+package com.fintech.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (persistencia de histogramas, mantenimiento, etc.).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,137 @@
+package com.fintech.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.cache.spi.CachingProvider;
+import javax.management.JMX;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache de segundo nivel de Hibernate en proceso (JCache sobre Caffeine), con una región por
+ * entidad cacheada y otra para el cache de consultas. Cada región tiene tamaño máximo y
+ * vencimiento (second-level-cache.{región}.max-size / ttl). Las escrituras hechas a través
+ * de Hibernate actualizan o invalidan el cache al confirmarse; las de otros nodos o por SQL
+ * directo se ven al vencer ttl.
+ * <p>
+ * El CacheManager es propio de cada contexto (URI con el id del contexto y un contador) y se
+ * cierra con él: dos contextos en la misma JVM, como los de los tests, no comparten regiones ni
+ * se pisan la configuración.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // Una entrada por tabla: no vence, o el cache de consultas devolvería resultados invalidados
+    private static final long TIMESTAMPS_MAX_SIZE = 10_000;
+
+    private static final AtomicLong CONTEXTS = new AtomicLong();
+
+    private record Region(String name, String property, long maxSize, Duration ttl) {}
+
+    private static final List<Region> REGIONS = List.of(
+            new Region("roles", "roles", 100, Duration.ofHours(1)),
+            new Region("system-settings", "system-settings", 1_000, Duration.ofMinutes(10)),
+            new Region("customers", "customers", 10_000, Duration.ofMinutes(10)),
+            new Region(QUERY_RESULTS_REGION, "query-results", 1_000, Duration.ofMinutes(10))
+    );
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(ApplicationContext applicationContext, Environment environment) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        URI uri = URI.create("fintech-l2:" + URLEncoder.encode(applicationContext.getId(), StandardCharsets.UTF_8)
+                + "-" + CONTEXTS.incrementAndGet());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+        for (Region region : REGIONS) {
+            String prefix = "second-level-cache." + region.property();
+            createIfMissing(cacheManager, region.name(),
+                    environment.getProperty(prefix + ".max-size", Long.class, region.maxSize()),
+                    environment.getProperty(prefix + ".ttl", Duration.class, region.ttl()));
+        }
+        createIfMissing(cacheManager, TIMESTAMPS_REGION, TIMESTAMPS_MAX_SIZE, null);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManager(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    // cache_gets_total{cache, result}, cache_puts_total, cache_evictions_total y el hit ratio por región
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : hibernateCacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = hibernateCacheManager.getCache(region);
+                JCacheMetrics.monitor(registry, cache);
+                Gauge.builder("fintech.cache.l2.hit.ratio", statistics(hibernateCacheManager, region),
+                                statistics -> statistics.getCacheHitPercentage() / 100.0)
+                        .description("Proporción de lecturas de la región resueltas por el cache de segundo nivel")
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    // Una región que ya existe con otro tamaño o vencimiento no se reutiliza en silencio
+    private static void createIfMissing(CacheManager cacheManager, String name, long maxSize, Duration ttl) {
+        Cache<Object, Object> existing = cacheManager.getCache(name);
+        if (existing != null) {
+            CaffeineConfiguration<?, ?> current = existing.getConfiguration(CaffeineConfiguration.class);
+            OptionalLong expireAfterWrite = ttl == null ? OptionalLong.empty() : OptionalLong.of(ttl.toNanos());
+            if (!current.getMaximumSize().equals(OptionalLong.of(maxSize))
+                    || !current.getExpireAfterWrite().equals(expireAfterWrite)) {
+                throw new IllegalStateException("Cache region " + name + " already exists in " + cacheManager.getURI()
+                        + " with different settings");
+            }
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+
+    // MBean que registra Caffeine al habilitar estadísticas (mismo nombre que usa JCacheMetrics)
+    private static CacheStatisticsMXBean statistics(CacheManager cacheManager, String region) {
+        try {
+            ObjectName name = new ObjectName("javax.cache:type=CacheStatistics"
+                    + ",CacheManager=" + sanitize(cacheManager.getURI().toString())
+                    + ",Cache=" + sanitize(region));
+            return JMX.newMXBeanProxy(ManagementFactory.getPlatformMBeanServer(), name, CacheStatisticsMXBean.class);
+        } catch (MalformedObjectNameException ex) {
+            throw new IllegalStateException("Invalid cache name: " + region, ex);
+        }
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[,:=\n]", ".");
+    }
+}
@@ -1,6 +1,7 @@
 package com.fintech.config;
 
 import com.fintech.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -32,11 +33,15 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .authorizeHttpRequests(auth -> auth
+                        // Dispatch asíncrono (SSE/streaming): la petición original ya fue autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Auth endpoints
                         .requestMatchers("/auth/**").permitAll()
                         .requestMatchers("/accounts").permitAll()
                         // Actuator endpoints (Health Check)
                         .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+                        // Métricas Prometheus: solo administradores (scraper con token de admin)
+                        .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
                         // Swagger/OpenAPI endpoints
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/v3/api-docs.yaml").permitAll()
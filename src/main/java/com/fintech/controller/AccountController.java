@@ -2,18 +2,26 @@ package com.fintech.controller;
 
 import com.fintech.dto.request.AccountRequest;
 import com.fintech.dto.response.AccountResponse;
+import com.fintech.dto.response.BalanceAsOfResponse;
+import com.fintech.dto.response.StatementResponse;
+import com.fintech.metrics.QueryBudget;
 import com.fintech.service.AccountService;
+import com.fintech.service.StatementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 @Tag(name = "Accounts", description = "API de gestión de cuentas bancarias")
@@ -24,6 +32,7 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final StatementService statementService;
 
     @Operation(summary = "Crear nueva cuenta bancaria")
     @PostMapping
@@ -34,20 +43,21 @@ public class AccountController {
 
     @Operation(summary = "Obtener cuenta por ID")
     @GetMapping("/{id}")
-    public ResponseEntity<AccountResponse> getAccountById(@PathVariable String id) {
-        AccountResponse response = accountService.getAccountById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<AccountResponse> getAccountById(@PathVariable String id, WebRequest request) {
+        return ConditionalResponses.okIfModified(request, accountService.getAccountETag(id),
+                ConditionalResponses.REVALIDATE, () -> accountService.getAccountById(id));
     }
 
     @Operation(summary = "Obtener cuenta por número")
     @GetMapping("/number/{accountNumber}")
-    public ResponseEntity<AccountResponse> getAccountByNumber(@PathVariable String accountNumber) {
-        AccountResponse response = accountService.getAccountByNumber(accountNumber);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<AccountResponse> getAccountByNumber(@PathVariable String accountNumber, WebRequest request) {
+        return ConditionalResponses.okIfModified(request, accountService.getAccountETagByNumber(accountNumber),
+                ConditionalResponses.REVALIDATE, () -> accountService.getAccountByNumber(accountNumber));
     }
 
     @Operation(summary = "Listar todas las cuentas del usuario autenticado")
     @GetMapping
+    @QueryBudget(statements = 8)
     public ResponseEntity<List<AccountResponse>> getAllAccounts() {
         List<AccountResponse> accounts = accountService.getAllAccounts();
         return ResponseEntity.ok(accounts);
@@ -55,6 +65,7 @@ public class AccountController {
 
     @Operation(summary = "Listar cuentas activas del usuario autenticado")
     @GetMapping("/active")
+    @QueryBudget(statements = 8)
     public ResponseEntity<List<AccountResponse>> getActiveAccounts() {
         List<AccountResponse> accounts = accountService.getActiveAccounts();
         return ResponseEntity.ok(accounts);
@@ -76,8 +87,35 @@ public class AccountController {
 
     @Operation(summary = "Consultar saldo de cuenta")
     @GetMapping("/number/{accountNumber}/balance")
-    public ResponseEntity<BigDecimal> getAccountBalance(@PathVariable String accountNumber) {
-        BigDecimal balance = accountService.getAccountBalance(accountNumber);
-        return ResponseEntity.ok(balance);
+    public ResponseEntity<BigDecimal> getAccountBalance(@PathVariable String accountNumber, WebRequest request) {
+        return ConditionalResponses.okIfModified(request, accountService.getBalanceETag(accountNumber),
+                ConditionalResponses.REVALIDATE, () -> accountService.getAccountBalance(accountNumber));
+    }
+
+    @Operation(summary = "Consultar saldo a una fecha o número de secuencia del ledger",
+            description = "Indicar timestamp (ISO-8601) o sequence; parte del snapshot más cercano y reproduce las entradas siguientes")
+    @GetMapping("/number/{accountNumber}/balance/as-of")
+    public ResponseEntity<BalanceAsOfResponse> getAccountBalanceAsOf(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime timestamp,
+            @RequestParam(required = false) Long sequence) {
+        BalanceAsOfResponse response = accountService.getBalanceAsOf(accountNumber, timestamp, sequence);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Listar los meses con estado de cuenta generado")
+    @GetMapping("/number/{accountNumber}/statements")
+    public ResponseEntity<List<YearMonth>> getStatementMonths(@PathVariable String accountNumber) {
+        return ResponseEntity.ok(statementService.getStatementMonths(accountNumber));
+    }
+
+    @Operation(summary = "Obtener el estado de cuenta de un mes cerrado",
+            description = "Mes en formato yyyy-MM; el estado se genera al cierre y no cambia")
+    @GetMapping("/number/{accountNumber}/statements/{month}")
+    public ResponseEntity<StatementResponse> getStatement(
+            @PathVariable String accountNumber,
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        StatementResponse response = statementService.getStatement(accountNumber, month);
+        return ResponseEntity.ok().cacheControl(ConditionalResponses.IMMUTABLE).body(response);
     }
 }
@@ -1,15 +1,20 @@
 package com.fintech.controller;
 
 import com.fintech.dto.response.AccountResponse;
+import com.fintech.dto.response.StatementGenerationResponse;
+import com.fintech.metrics.QueryBudget;
 import com.fintech.service.AccountService;
+import com.fintech.service.StatementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 
 @Tag(name = "Admin - Accounts", description = "API de administración de cuentas (solo ADMIN)")
@@ -20,9 +25,11 @@ import java.util.List;
 public class AdminAccountController {
 
     private final AccountService accountService;
+    private final StatementService statementService;
 
     @Operation(summary = "Listar todas las cuentas de todos los usuarios")
     @GetMapping
+    @QueryBudget(statements = 8)
     public ResponseEntity<List<AccountResponse>> getAllAccounts() {
         List<AccountResponse> accounts = accountService.getAllAccountsAdmin();
         return ResponseEntity.ok(accounts);
@@ -48,4 +55,13 @@ public class AdminAccountController {
         AccountResponse response = accountService.activateAccountAdmin(id);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Generar los estados de cuenta faltantes de un mes cerrado",
+            description = "Mes en formato yyyy-MM; las cuentas que ya tienen estado se saltean")
+    @PostMapping("/statements/{month}")
+    public ResponseEntity<StatementGenerationResponse> generateStatements(
+            @PathVariable @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        StatementGenerationResponse response = statementService.generate(month);
+        return ResponseEntity.ok(response);
+    }
 }
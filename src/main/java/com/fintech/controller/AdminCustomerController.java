@@ -2,6 +2,7 @@ package com.fintech.controller;
 
 import com.fintech.dto.request.UpdateKycRequest;
 import com.fintech.dto.response.CustomerResponse;
+import com.fintech.metrics.QueryBudget;
 import com.fintech.service.CustomerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +25,7 @@ public class AdminCustomerController {
 
     @Operation(summary = "Listar todos los clientes")
     @GetMapping
+    @QueryBudget(statements = 8)
     public ResponseEntity<List<CustomerResponse>> getAllCustomers() {
         List<CustomerResponse> customers = customerService.getAllCustomersAdmin();
         return ResponseEntity.ok(customers);
@@ -1,16 +1,30 @@
 package com.fintech.controller;
 
+import com.fintech.dto.response.AccountActivityRankingResponse;
+import com.fintech.dto.response.AccountBalanceRankingResponse;
 import com.fintech.dto.response.AccountStatisticsResponse;
+import com.fintech.dto.response.AmountDistributionResponse;
+import com.fintech.dto.response.CustomerVolumeRankingResponse;
 import com.fintech.dto.response.DashboardStatisticsResponse;
 import com.fintech.dto.response.TransactionStatisticsResponse;
 import com.fintech.dto.response.UserStatisticsResponse;
+import com.fintech.model.TransactionType;
+import com.fintech.service.AmountDistributionService;
+import com.fintech.service.DashboardStreamService;
+import com.fintech.service.RankingService;
 import com.fintech.service.ReportsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @Tag(name = "Admin - Reports", description = "API de reportes y estadísticas (solo ADMIN)")
 @RestController
@@ -20,6 +34,9 @@ import org.springframework.web.bind.annotation.*;
 public class AdminReportsController {
 
     private final ReportsService reportsService;
+    private final AmountDistributionService amountDistributionService;
+    private final RankingService rankingService;
+    private final DashboardStreamService dashboardStreamService;
 
     @Operation(summary = "Obtener dashboard completo con todas las estadísticas")
     @GetMapping("/dashboard")
@@ -28,6 +45,12 @@ public class AdminReportsController {
         return ResponseEntity.ok(stats);
     }
 
+    @Operation(summary = "Stream en vivo (SSE) del dashboard: snapshot inicial y luego deltas por tick")
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDashboard() {
+        return dashboardStreamService.subscribe();
+    }
+
     @Operation(summary = "Obtener estadísticas de usuarios")
     @GetMapping("/users")
     public ResponseEntity<UserStatisticsResponse> getUserStatistics() {
@@ -48,4 +71,38 @@ public class AdminReportsController {
         TransactionStatisticsResponse stats = reportsService.getTransactionStatistics();
         return ResponseEntity.ok(stats);
     }
+
+    @Operation(summary = "Obtener percentiles de montos de transacciones por tipo en un rango de días")
+    @GetMapping("/transactions/distribution")
+    public ResponseEntity<List<AmountDistributionResponse>> getAmountDistribution(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(defaultValue = "50,90,99") List<Double> percentiles) {
+        List<AmountDistributionResponse> distribution =
+                amountDistributionService.getDistribution(from, to, type, percentiles);
+        return ResponseEntity.ok(distribution);
+    }
+
+    @Operation(summary = "Ranking de cuentas con mayor saldo")
+    @GetMapping("/rankings/accounts/balance")
+    public ResponseEntity<List<AccountBalanceRankingResponse>> getTopAccountsByBalance(
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(rankingService.getTopAccountsByBalance(limit));
+    }
+
+    @Operation(summary = "Ranking de clientes por volumen transaccionado en los últimos días")
+    @GetMapping("/rankings/customers/volume")
+    public ResponseEntity<List<CustomerVolumeRankingResponse>> getTopCustomersByVolume(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(rankingService.getTopCustomersByVolume(days, limit));
+    }
+
+    @Operation(summary = "Ranking de cuentas con más transacciones hoy")
+    @GetMapping("/rankings/accounts/activity")
+    public ResponseEntity<List<AccountActivityRankingResponse>> getMostActiveAccountsToday(
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(rankingService.getMostActiveAccountsToday(limit));
+    }
 }
@@ -1,15 +1,25 @@
 package com.fintech.controller;
 
+import com.fintech.dto.request.TransactionSearchRequest;
+import com.fintech.dto.response.ArchivedTransactionResponse;
+import com.fintech.dto.response.ChangeFeedResponse;
 import com.fintech.dto.response.TransactionResponse;
+import com.fintech.dto.response.TransactionSearchResponse;
+import com.fintech.metrics.QueryBudget;
+import com.fintech.model.TransactionType;
+import com.fintech.service.OutboxService;
+import com.fintech.service.TransactionArchiveService;
 import com.fintech.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 
 @Tag(name = "Admin - Transactions", description = "API de administración de transacciones (solo ADMIN)")
@@ -20,11 +30,49 @@ import java.util.List;
 public class AdminTransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionArchiveService transactionArchiveService;
+    private final OutboxService outboxService;
 
     @Operation(summary = "Listar todas las transacciones de todos los usuarios")
     @GetMapping
+    @QueryBudget(statements = 8)
     public ResponseEntity<List<TransactionResponse>> getAllTransactions() {
         List<TransactionResponse> transactions = transactionService.getAllTransactionsAdmin();
         return ResponseEntity.ok(transactions);
     }
+
+    @Operation(summary = "Buscar transacciones en todas las cuentas",
+            description = "Sin accountNumber requiere un rango from/to acotado (también con q); paginado por cursor")
+    @GetMapping("/search")
+    @QueryBudget(statements = 8)
+    public ResponseEntity<TransactionSearchResponse> searchTransactions(TransactionSearchRequest request) {
+        return ResponseEntity.ok(transactionService.searchTransactionsAdmin(request));
+    }
+
+    @Operation(summary = "Change feed de transacciones y cuentas a partir de un cursor (nextCursor de la página anterior)")
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedResponse> getChanges(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(outboxService.getChanges(after, limit));
+    }
+
+    @Operation(summary = "Listar los meses de transacciones archivados")
+    @GetMapping("/archive/months")
+    public ResponseEntity<List<YearMonth>> getArchivedMonths() {
+        return ResponseEntity.ok(transactionArchiveService.getArchivedMonths());
+    }
+
+    @Operation(summary = "Consultar transacciones archivadas (solo lectura, meses fuera de la retención)")
+    @GetMapping("/archive")
+    public ResponseEntity<List<ArchivedTransactionResponse>> searchArchive(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(required = false) String accountNumber,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(defaultValue = "1000") int limit) {
+        List<ArchivedTransactionResponse> transactions =
+                transactionArchiveService.search(from, to, accountNumber, type, limit);
+        return ResponseEntity.ok(transactions);
+    }
 }
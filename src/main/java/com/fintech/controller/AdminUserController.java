@@ -2,6 +2,7 @@ package com.fintech.controller;
 
 import com.fintech.dto.request.UpdateUserRoleRequest;
 import com.fintech.dto.response.UserResponse;
+import com.fintech.metrics.QueryBudget;
 import com.fintech.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -24,6 +25,7 @@ public class AdminUserController {
 
     @Operation(summary = "Listar todos los usuarios")
     @GetMapping
+    @QueryBudget(statements = 8)
     public ResponseEntity<List<UserResponse>> getAllUsers() {
         List<UserResponse> users = userService.getAllUsersAdmin();
         return ResponseEntity.ok(users);
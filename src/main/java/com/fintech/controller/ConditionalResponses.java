@@ -0,0 +1,38 @@
+package com.fintech.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional: con un If-None-Match que coincide con el ETag responde 304 sin construir
+ * el cuerpo. El ETag se calcula antes que el cuerpo, así que si una escritura ocurre entre
+ * medio el cliente recibe datos más nuevos que su ETag y los vuelve a pedir la próxima vez;
+ * nunca al revés.
+ */
+final class ConditionalResponses {
+
+    // Clientes y caches pueden guardar la respuesta, pero la revalidan en cada uso
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // Para recursos que no cambian una vez creados
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+
+    private ConditionalResponses() {
+    }
+
+    static <T> ResponseEntity<T> okIfModified(WebRequest request, String eTag, CacheControl cacheControl,
+                                              Supplier<T> body) {
+        if (eTag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(body.get());
+    }
+}
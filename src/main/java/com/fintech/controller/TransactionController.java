@@ -1,8 +1,13 @@
 package com.fintech.controller;
 
 import com.fintech.dto.request.TransactionRequest;
+import com.fintech.dto.request.TransactionSearchRequest;
 import com.fintech.dto.response.TransactionResponse;
+import com.fintech.dto.response.TransactionSearchResponse;
+import com.fintech.dto.response.TransactionSubmissionResponse;
+import com.fintech.metrics.QueryBudget;
 import com.fintech.service.TransactionService;
+import com.fintech.service.TransactionSubmissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -12,8 +17,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
+import java.util.Optional;
 
 @Tag(name = "Transactions", description = "API de gestión de transacciones financieras")
 @RestController
@@ -23,6 +31,7 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionSubmissionService transactionSubmissionService;
 
     @Operation(summary = "Crear nueva transacción (depósito o retiro)")
     @PostMapping
@@ -31,15 +40,43 @@ public class TransactionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    @Operation(summary = "Obtener transacción por ID")
-    @GetMapping("/{id}")
-    public ResponseEntity<TransactionResponse> getTransaction(@PathVariable String id) {
-        TransactionResponse response = transactionService.getTransactionById(id);
+    @Operation(summary = "Enviar transacción en modo asíncrono",
+            description = "Valida el formato, la encola y responde 202 con el id para consultar su estado")
+    @PostMapping("/submissions")
+    public ResponseEntity<TransactionSubmissionResponse> submitTransaction(@Valid @RequestBody TransactionRequest request) {
+        TransactionSubmissionResponse response = transactionSubmissionService.submit(request);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}").buildAndExpand(response.id()).toUri())
+                .body(response);
+    }
+
+    @Operation(summary = "Consultar el estado de una transacción enviada (PENDING, APPLIED o REJECTED)")
+    @GetMapping("/submissions/{id}")
+    public ResponseEntity<TransactionSubmissionResponse> getSubmission(@PathVariable String id) {
+        TransactionSubmissionResponse response = transactionSubmissionService.getSubmission(id);
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Buscar transacciones de una cuenta por fechas, tipo, monto y texto",
+            description = "accountNumber es obligatorio; paginado por cursor (nextCursor de la página anterior)")
+    @GetMapping("/search")
+    @QueryBudget(statements = 8)
+    public ResponseEntity<TransactionSearchResponse> searchTransactions(TransactionSearchRequest request) {
+        return ResponseEntity.ok(transactionService.searchTransactions(request));
+    }
+
+    @Operation(summary = "Obtener transacción por ID",
+            description = "La transacción no cambia, pero incluye el nombre del titular: se revalida con ETag")
+    @GetMapping("/{id}")
+    public ResponseEntity<TransactionResponse> getTransaction(@PathVariable String id, WebRequest request) {
+        return ConditionalResponses.okIfModified(request, transactionService.getTransactionETag(id),
+                ConditionalResponses.REVALIDATE, () -> transactionService.getTransactionById(id));
+    }
+
     @Operation(summary = "Listar todas las transacciones")
     @GetMapping
+    @QueryBudget(statements = 8)
     public ResponseEntity<List<TransactionResponse>> getAllTransactions() {
         List<TransactionResponse> transactions = transactionService.getAllTransactions();
         return ResponseEntity.ok(transactions);
@@ -47,15 +84,27 @@ public class TransactionController {
 
     @Operation(summary = "Listar transacciones por ID de cuenta")
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<TransactionResponse>> getTransactionsByAccountId(@PathVariable String accountId) {
-        List<TransactionResponse> transactions = transactionService.getTransactionsByAccountId(accountId);
-        return ResponseEntity.ok(transactions);
+    @QueryBudget(statements = 8)
+    public ResponseEntity<List<TransactionResponse>> getTransactionsByAccountId(@PathVariable String accountId,
+                                                                                WebRequest request) {
+        return ConditionalResponses.okIfModified(request,
+                transactionService.getAccountHistoryETagById(accountId).orElse(null),
+                ConditionalResponses.REVALIDATE, () -> transactionService.getTransactionsByAccountId(accountId));
     }
 
-    @Operation(summary = "Listar transacciones por número de cuenta")
+    @Operation(summary = "Listar transacciones por número de cuenta (limit: solo los últimos N, desde memoria)")
     @GetMapping("/account/number/{accountNumber}")
-    public ResponseEntity<List<TransactionResponse>> getTransactionsByAccountNumber(@PathVariable String accountNumber) {
-        List<TransactionResponse> transactions = transactionService.getTransactionsByAccountNumber(accountNumber);
-        return ResponseEntity.ok(transactions);
+    @QueryBudget(statements = 8)
+    public ResponseEntity<List<TransactionResponse>> getTransactionsByAccountNumber(
+            @PathVariable String accountNumber,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        Optional<String> eTag = limit != null
+                ? transactionService.getLatestTransactionsETag(accountNumber)
+                : transactionService.getAccountHistoryETag(accountNumber);
+        return ConditionalResponses.okIfModified(request, eTag.orElse(null),
+                ConditionalResponses.REVALIDATE, () -> limit != null
+                        ? transactionService.getLatestTransactionsByAccountNumber(accountNumber, limit)
+                        : transactionService.getTransactionsByAccountNumber(accountNumber));
     }
 }
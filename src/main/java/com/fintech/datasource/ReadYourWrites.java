@@ -0,0 +1,38 @@
+package com.fintech.datasource;
+
+/**
+ * Read-your-writes por request: después de la primera escritura, las transacciones de solo
+ * lectura del mismo request van al primario y ven lo que el request acaba de escribir.
+ * Fuera de un request (jobs, @Async) no hay alcance y las escrituras no se recuerdan.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private static final class Scope {
+        private boolean wrote;
+    }
+
+    private ReadYourWrites() {
+    }
+
+    public static void begin() {
+        SCOPE.set(new Scope());
+    }
+
+    public static void end() {
+        SCOPE.remove();
+    }
+
+    static void markWrite() {
+        Scope scope = SCOPE.get();
+        if (scope != null) {
+            scope.wrote = true;
+        }
+    }
+
+    public static boolean isSticky() {
+        Scope scope = SCOPE.get();
+        return scope != null && scope.wrote;
+    }
+}
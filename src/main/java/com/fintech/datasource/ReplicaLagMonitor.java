@@ -0,0 +1,60 @@
+package com.fintech.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Mide el atraso de la réplica con lagQuery (segundos) cada lag-check-interval. Con un atraso
+ * mayor que maxLag, o si la consulta falla, la réplica deja de recibir lecturas hasta la
+ * siguiente medición que la encuentre al día. Hasta la primera medición se usa el primario.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT1S}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            Double lag = replica.queryForObject(lagQuery, Double.class);
+            lagSeconds = lag != null ? lag : Double.NaN;
+            usable = lag != null && lag * 1000 <= maxLag.toMillis();
+            if (wasUsable && !usable) {
+                log.warn("Replica lag {}s exceeds {}s, routing reads to primary", lag, maxLag.toSeconds());
+            }
+        } catch (RuntimeException ex) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", ex.getMessage());
+            }
+        }
+        if (!wasUsable && usable) {
+            log.info("Replica caught up ({}s behind), routing read-only transactions to it", lagSeconds);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,65 @@
+package com.fintech.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Envía las transacciones de solo lectura a la réplica y todo lo demás al primario.
+ * <p>
+ * La decisión se toma al pedir la conexión, así que tiene que ir detrás de un
+ * LazyConnectionDataSourceProxy: sin él la conexión se obtiene al iniciar la transacción,
+ * antes de que se marque como de solo lectura. Una lectura va al primario si el request ya
+ * escribió (ReadYourWrites) o si la réplica está atrasada (ReplicaLagMonitor).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Route { PRIMARY, REPLICA }
+
+    public enum Reason { WRITE, READ, STICKY, LAGGING }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Map<Reason, LongAdder> routed = Map.of(
+            Reason.WRITE, new LongAdder(),
+            Reason.READ, new LongAdder(),
+            Reason.STICKY, new LongAdder(),
+            Reason.LAGGING, new LongAdder());
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        // Sin transacción (Flyway, consultas sueltas) no hay nada que leer de la réplica
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ReadYourWrites.markWrite();
+            return route(Route.PRIMARY, Reason.WRITE);
+        }
+        if (ReadYourWrites.isSticky()) {
+            return route(Route.PRIMARY, Reason.STICKY);
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            return route(Route.PRIMARY, Reason.LAGGING);
+        }
+        return route(Route.REPLICA, Reason.READ);
+    }
+
+    public long getRouted(Reason reason) {
+        return routed.get(reason).sum();
+    }
+
+    private Route route(Route route, Reason reason) {
+        routed.get(reason).increment();
+        return route;
+    }
+}
@@ -2,6 +2,7 @@ package com.fintech.dto.request;
 
 import com.fintech.model.TransactionType;
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -16,6 +17,7 @@ public record TransactionRequest(
 
         @NotNull(message = "Amount is required")
         @DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+        @Digits(integer = 17, fraction = 2, message = "Amount must have at most 2 decimal places")
         BigDecimal amount,
 
         String description
@@ -0,0 +1,23 @@
+package com.fintech.dto.request;
+
+import com.fintech.model.TransactionType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Filtros de GET /transactions/search y /admin/transactions/search. Todos opcionales salvo las
+ * combinaciones que exige cada endpoint; from es inclusivo y to exclusivo.
+ */
+public record TransactionSearchRequest(
+        String accountNumber,
+        TransactionType type,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        String q,
+        String cursor,
+        Integer limit
+) {}
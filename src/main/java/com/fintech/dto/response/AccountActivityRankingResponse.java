@@ -0,0 +1,11 @@
+package com.fintech.dto.response;
+
+import java.math.BigDecimal;
+
+public record AccountActivityRankingResponse(
+        String accountNumber,
+        String customerId,
+        String customerName,
+        Long transactionCount,
+        BigDecimal volume
+) {}
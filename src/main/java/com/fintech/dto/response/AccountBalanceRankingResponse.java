@@ -0,0 +1,10 @@
+package com.fintech.dto.response;
+
+import java.math.BigDecimal;
+
+public record AccountBalanceRankingResponse(
+        String accountNumber,
+        String customerId,
+        String customerName,
+        BigDecimal balance
+) {}
@@ -0,0 +1,17 @@
+package com.fintech.dto.response;
+
+import com.fintech.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+public record AmountDistributionResponse(
+        TransactionType type,
+        LocalDate from,
+        LocalDate to,
+        Long count,
+        BigDecimal minAmount,
+        BigDecimal maxAmount,
+        Map<String, BigDecimal> percentiles
+) {}
@@ -0,0 +1,20 @@
+package com.fintech.dto.response;
+
+import com.fintech.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Transacción leída del archivo histórico. Es también el formato de cada línea JSONL archivada.
+ */
+public record ArchivedTransactionResponse(
+        String id,
+        String accountId,
+        String accountNumber,
+        TransactionType type,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        LocalDateTime timestamp,
+        String description
+) {}
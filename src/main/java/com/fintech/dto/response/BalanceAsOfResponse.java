@@ -0,0 +1,13 @@
+package com.fintech.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record BalanceAsOfResponse(
+        String accountNumber,
+        BigDecimal balance,
+        long sequence,
+        LocalDateTime timestamp,
+        long snapshotSequence,
+        int replayedEntries
+) {}
@@ -0,0 +1,14 @@
+package com.fintech.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+public record ChangeEventResponse(
+        long sequence,
+        String eventType,
+        String aggregateType,
+        String aggregateId,
+        LocalDateTime occurredAt,
+        @JsonRawValue String payload
+) {}
@@ -0,0 +1,9 @@
+package com.fintech.dto.response;
+
+import java.util.List;
+
+public record ChangeFeedResponse(
+        List<ChangeEventResponse> events,
+        long nextCursor,
+        boolean hasMore
+) {}
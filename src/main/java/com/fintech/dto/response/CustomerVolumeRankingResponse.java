@@ -0,0 +1,10 @@
+package com.fintech.dto.response;
+
+import java.math.BigDecimal;
+
+public record CustomerVolumeRankingResponse(
+        String customerId,
+        String customerName,
+        Long transactionCount,
+        BigDecimal volume
+) {}
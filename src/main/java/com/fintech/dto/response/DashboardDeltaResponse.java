@@ -0,0 +1,16 @@
+package com.fintech.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record DashboardDeltaResponse(
+        Long sequence,
+        LocalDateTime emittedAt,
+        Long newDeposits,
+        BigDecimal depositAmount,
+        Long newWithdrawals,
+        BigDecimal withdrawalAmount,
+        BigDecimal balanceChange,
+        Long newAccounts,
+        Long activeAccountsChange
+) {}
@@ -1,7 +1,10 @@
 package com.fintech.dto.response;
 
+import java.time.LocalDateTime;
+
 public record DashboardStatisticsResponse(
         UserStatisticsResponse userStats,
         AccountStatisticsResponse accountStats,
-        TransactionStatisticsResponse transactionStats
+        TransactionStatisticsResponse transactionStats,
+        LocalDateTime computedAt
 ) {}
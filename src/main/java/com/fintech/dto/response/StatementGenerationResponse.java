@@ -0,0 +1,9 @@
+package com.fintech.dto.response;
+
+import java.time.YearMonth;
+
+public record StatementGenerationResponse(
+        YearMonth month,
+        int generated,
+        int failed
+) {}
@@ -0,0 +1,15 @@
+package com.fintech.dto.response;
+
+import com.fintech.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record StatementLineResponse(
+        Long sequence,
+        LocalDateTime timestamp,
+        TransactionType type,
+        BigDecimal amount,
+        BigDecimal balanceAfter,
+        String description
+) {}
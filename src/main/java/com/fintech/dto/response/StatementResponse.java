@@ -0,0 +1,16 @@
+package com.fintech.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+public record StatementResponse(
+        String accountNumber,
+        YearMonth month,
+        BigDecimal openingBalance,
+        BigDecimal closingBalance,
+        List<StatementTotalResponse> totals,
+        List<StatementLineResponse> lines,
+        LocalDateTime generatedAt
+) {}
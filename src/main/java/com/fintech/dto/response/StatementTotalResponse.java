@@ -0,0 +1,11 @@
+package com.fintech.dto.response;
+
+import com.fintech.model.TransactionType;
+
+import java.math.BigDecimal;
+
+public record StatementTotalResponse(
+        TransactionType type,
+        int count,
+        BigDecimal amount
+) {}
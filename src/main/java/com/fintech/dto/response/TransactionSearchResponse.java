@@ -0,0 +1,9 @@
+package com.fintech.dto.response;
+
+import java.util.List;
+
+public record TransactionSearchResponse(
+        List<TransactionResponse> transactions,
+        String nextCursor,
+        boolean hasMore
+) {}
@@ -0,0 +1,19 @@
+package com.fintech.dto.response;
+
+import com.fintech.model.SubmissionStatus;
+import com.fintech.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record TransactionSubmissionResponse(
+        String id,
+        SubmissionStatus status,
+        String accountNumber,
+        TransactionType type,
+        BigDecimal amount,
+        String transactionId,
+        String reason,
+        LocalDateTime submittedAt,
+        LocalDateTime processedAt
+) {}
@@ -0,0 +1,21 @@
+package com.fintech.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Publicado por AccountService cuando una cuenta se crea o cambia de estado activo/inactivo.
+ */
+public record AccountChangedEvent(
+        UUID accountId,
+        String accountNumber,
+        String customerId,
+        ChangeType changeType,
+        BigDecimal balance
+) {
+    public enum ChangeType {
+        CREATED,
+        ACTIVATED,
+        DEACTIVATED
+    }
+}
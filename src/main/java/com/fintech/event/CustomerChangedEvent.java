@@ -0,0 +1,12 @@
+package com.fintech.event;
+
+import java.util.List;
+
+/**
+ * Publicado por CustomerService cuando un customer edita su perfil. Lleva los números de sus
+ * cuentas: el nombre del customer va en cada movimiento de ellas.
+ */
+public record CustomerChangedEvent(
+        String customerId,
+        List<String> accountNumbers
+) {}
@@ -0,0 +1,14 @@
+package com.fintech.event;
+
+import java.time.Duration;
+
+/**
+ * Un request ejecutó más sentencias SQL que el presupuesto de su endpoint.
+ */
+public record QueryBudgetExceededEvent(
+        String method,
+        String uri,
+        int statements,
+        int budget,
+        Duration jdbcTime
+) {}
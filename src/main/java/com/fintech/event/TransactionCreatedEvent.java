@@ -0,0 +1,17 @@
+package com.fintech.event;
+
+import com.fintech.dto.response.TransactionResponse;
+
+import java.util.UUID;
+
+/**
+ * Publicado por TransactionService dentro de la transacción que crea el movimiento.
+ * Los listeners de reportes y caches lo consumen después del commit.
+ * sequenceNumber es la posición del movimiento en el ledger de la cuenta.
+ */
+public record TransactionCreatedEvent(
+        UUID accountId,
+        String customerId,
+        TransactionResponse transaction,
+        long sequenceNumber
+) {}
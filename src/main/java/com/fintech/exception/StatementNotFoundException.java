@@ -0,0 +1,7 @@
+package com.fintech.exception;
+
+public class StatementNotFoundException extends RuntimeException {
+    public StatementNotFoundException(String message) {
+        super(message);
+    }
+}
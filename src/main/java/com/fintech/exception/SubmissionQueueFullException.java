@@ -0,0 +1,7 @@
+package com.fintech.exception;
+
+public class SubmissionQueueFullException extends RuntimeException {
+    public SubmissionQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,75 @@
+package com.fintech.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Escribe una lista de records (los *Response de la API) como array de largo conocido, con un
+ * solo JsonGenerator y el serializer del elemento resuelto una vez por lista (sin la búsqueda
+ * por elemento de la serialización genérica de colecciones). El formato (JSON, Smile o CBOR)
+ * lo define la factory del ObjectMapper.
+ */
+public class RecordListWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public RecordListWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Tipo de elemento si value es una lista declarada como List de un record; null si no.
+     * Los records son finales, así que todos los elementos se serializan igual.
+     */
+    public static Class<?> recordElementType(Object value, Type declaredType) {
+        if (!(value instanceof List<?>) || declaredType == null) {
+            return null;
+        }
+        Class<?> elementType = ResolvableType.forType(declaredType).asCollection().resolveGeneric(0);
+        return elementType != null && elementType.isRecord() ? elementType : null;
+    }
+
+    /**
+     * Escribe value si es una lista de records y devuelve true; si no, false y el converter
+     * sigue por el camino genérico de Jackson.
+     */
+    public boolean writeIfRecordList(Object value, Type declaredType, HttpOutputMessage outputMessage,
+                                     JsonEncoding encoding) throws IOException {
+        Class<?> elementType = recordElementType(value, declaredType);
+        if (elementType == null) {
+            return false;
+        }
+        write((List<?>) value, elementType, StreamUtils.nonClosing(outputMessage.getBody()), encoding);
+        return true;
+    }
+
+    public void write(List<?> values, Class<?> elementType, OutputStream out, JsonEncoding encoding) throws IOException {
+        // Un provider por lista y el serializer del elemento resuelto una vez: ObjectWriter.writeValue
+        // por elemento crearía un provider en cada llamada
+        DefaultSerializerProvider provider = ((DefaultSerializerProvider) objectMapper.getSerializerProvider())
+                .createInstance(objectMapper.getSerializationConfig(), objectMapper.getSerializerFactory());
+        JsonSerializer<Object> serializer = provider.findTypedValueSerializer(elementType, true, null);
+        try (JsonGenerator generator = objectMapper.createGenerator(out, encoding)) {
+            generator.writeStartArray(values, values.size());
+            for (Object value : values) {
+                if (value == null) {
+                    provider.defaultSerializeNull(generator);
+                } else {
+                    serializer.serialize(value, generator, provider);
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+}
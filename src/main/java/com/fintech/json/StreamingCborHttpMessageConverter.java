@@ -0,0 +1,29 @@
+package com.fintech.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Converter CBOR que escribe las listas de records con RecordListWriter.
+ */
+public class StreamingCborHttpMessageConverter extends MappingJackson2CborHttpMessageConverter {
+
+    private final RecordListWriter listWriter;
+
+    public StreamingCborHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.listWriter = new RecordListWriter(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (!listWriter.writeIfRecordList(object, type, outputMessage,
+                getJsonEncoding(outputMessage.getHeaders().getContentType()))) {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+}
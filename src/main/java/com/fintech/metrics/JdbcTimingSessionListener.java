@@ -0,0 +1,40 @@
+package com.fintech.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Mide el tiempo de ejecución JDBC (queries, updates y batches) dentro de un request.
+ * Hibernate crea una instancia por sesión (hibernate.session.events.auto).
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.jdbcExecuted(System.nanoTime() - start);
+        }
+    }
+}
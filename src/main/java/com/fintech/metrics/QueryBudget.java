@@ -0,0 +1,20 @@
+package com.fintech.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Máximo de sentencias SQL que un endpoint debería ejecutar por request.
+ * Se declara en el método del controller (o en la clase, para todos sus endpoints); sin
+ * anotación aplica metrics.query-budget.default-statements. Al excederse se loguea un
+ * warning, se incrementa fintech.http.query.budget.exceeded y se publica
+ * QueryBudgetExceededEvent (los tests con @EnforceQueryBudget fallan).
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements();
+}
@@ -0,0 +1,49 @@
+package com.fintech.metrics;
+
+import java.time.Duration;
+
+/**
+ * Sentencias SQL y tiempo JDBC acumulados por el request en curso (un contexto por hilo).
+ * RequestStatementMetricsFilter abre y cierra el contexto; fuera de un request
+ * (jobs programados, listeners, hilos auxiliares) current() devuelve null y no se cuenta nada.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void jdbcExecuted(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+}
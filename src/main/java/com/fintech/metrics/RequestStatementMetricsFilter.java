@@ -0,0 +1,96 @@
+package com.fintech.metrics;
+
+import com.fintech.event.QueryBudgetExceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Registra cuántas sentencias JPA ejecutó cada request y su tiempo JDBC total
+ * (fintech.http.jpa.statements, fintech.http.jdbc.time), y avisa cuando se excede el
+ * presupuesto del endpoint (@QueryBudget).
+ * Corre antes de Spring Security para incluir la carga del usuario en el filtro JWT.
+ * Tags de baja cardinalidad: método y patrón de URI del handler, nunca la URI concreta.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_METRIC = "fintech.http.jpa.statements";
+    static final String JDBC_TIME_METRIC = "fintech.http.jdbc.time";
+    static final String BUDGET_EXCEEDED_METRIC = "fintech.http.query.budget.exceeded";
+
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${metrics.query-budget.default-statements:25}")
+    private int defaultBudget = 25;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        String uri = uriTemplate(request);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("Sentencias JPA ejecutadas por request")
+                .baseUnit("statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder(JDBC_TIME_METRIC)
+                .description("Tiempo total de ejecución JDBC por request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getJdbcTime());
+
+        Object declared = request.getAttribute(QueryBudgetInterceptor.BUDGET_ATTRIBUTE);
+        int budget = declared instanceof Integer value ? value : defaultBudget;
+        if (stats.getStatements() > budget) {
+            log.warn("Query budget exceeded: {} {} executed {} statements (budget {}), {} ms JDBC",
+                    request.getMethod(), uri, stats.getStatements(), budget, stats.getJdbcTime().toMillis());
+            Counter.builder(BUDGET_EXCEEDED_METRIC)
+                    .description("Requests que excedieron el presupuesto de sentencias SQL")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+            eventPublisher.publishEvent(new QueryBudgetExceededEvent(
+                    request.getMethod(), uri, stats.getStatements(), budget, stats.getJdbcTime()));
+        }
+    }
+
+    private String uriTemplate(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,42 @@
+package com.fintech.metrics;
+
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Contadores de negocio de depósitos y retiros: fintech.transactions{type, outcome, reason}.
+ * Las completadas se cuentan después del commit; las rechazadas con el nombre de la
+ * excepción como reason (conjunto acotado de clases).
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionMetrics {
+
+    static final String METRIC_NAME = "fintech.transactions";
+
+    private final MeterRegistry meterRegistry;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        counter(event.transaction().type(), "completed", "none").increment();
+    }
+
+    public void recordRejected(TransactionType type, RuntimeException ex) {
+        counter(type, "rejected", ex.getClass().getSimpleName()).increment();
+    }
+
+    private Counter counter(TransactionType type, String outcome, String reason) {
+        return Counter.builder(METRIC_NAME)
+                .description("Depósitos y retiros por resultado")
+                .tag("type", type != null ? type.name() : "UNKNOWN")
+                .tag("outcome", outcome)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,84 @@
+package com.fintech.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Detecta virtual threads fijados a su carrier (bloqueo dentro de synchronized o de código
+ * nativo) escuchando el evento JFR jdk.VirtualThreadPinned en proceso. Cada pinning que
+ * supera el umbral se loguea con los frames superiores y se cuenta en
+ * fintech.virtual.threads.pinned{frame}, con el primer método de la aplicación como tag.
+ */
+@Component
+@ConditionalOnProperty(name = "virtual-threads.pinning-detection.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final int LOGGED_FRAMES = 8;
+    private static final String APPLICATION_PACKAGE = "com.fintech.";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${virtual-threads.pinning-detection.threshold:20ms}")
+    private Duration threshold = Duration.ofMillis(20);
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning detection enabled (threshold {} ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        // Tag sin número de línea: clase.método del primer frame propio
+        String applicationFrame = frames.stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .orElse("external");
+
+        Counter.builder("fintech.virtual.threads.pinned")
+                .description("Virtual threads fijados al carrier por encima del umbral")
+                .tag("frame", applicationFrame)
+                .register(meterRegistry)
+                .increment();
+
+        log.warn("Virtual thread pinned for {} ms at:\n\t{}",
+                event.getDuration().toMillis(),
+                frames.stream().limit(LOGGED_FRAMES)
+                        .map(VirtualThreadPinningMonitor::describe)
+                        .collect(Collectors.joining("\n\t")));
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
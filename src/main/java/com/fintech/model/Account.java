@@ -7,17 +7,21 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = {
+        @Index(name = "idx_accounts_balance", columnList = "balance"),
+        @Index(name = "idx_accounts_customer_active", columnList = "customer_id, active")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Account {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedUuid
+    private UUID id;
 
     @Column(nullable = false, unique = true)
     private String accountNumber;
@@ -32,6 +36,10 @@ public class Account {
     @Column(nullable = false)
     private Boolean active = true;
 
+    // Último número de secuencia asignado en el ledger de la cuenta
+    @Column(nullable = false)
+    private Long ledgerSequence = 0L;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,66 @@
+package com.fintech.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Estado de cuenta de un mes cerrado: saldos inicial y final, totales por tipo y los movimientos
+ * del mes como JSON comprimido con gzip (ver StatementService). No se modifica nunca.
+ */
+@Entity
+@Table(name = "account_statements", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_account_statements_account_period", columnNames = {"account_id", "period_start"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountStatement {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false, updatable = false)
+    private Account account;
+
+    // Primer día del mes
+    @Column(nullable = false, updatable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal openingBalance;
+
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal closingBalance;
+
+    @Column(nullable = false, updatable = false)
+    private Integer depositCount;
+
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal depositTotal;
+
+    @Column(nullable = false, updatable = false)
+    private Integer withdrawalCount;
+
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal withdrawalTotal;
+
+    @Column(nullable = false, updatable = false, length = 1_048_576)
+    private byte[] lineItems;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime generatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.generatedAt = LocalDateTime.now();
+    }
+}
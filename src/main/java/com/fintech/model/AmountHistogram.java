@@ -0,0 +1,51 @@
+package com.fintech.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Histograma persistido de montos (en centavos) por día y tipo de transacción.
+ * El contenido es un {@link com.fintech.util.LogLinearHistogram} codificado.
+ */
+@Entity
+@Table(name = "amount_histograms",
+        uniqueConstraints = @UniqueConstraint(name = "uk_amount_histograms_day_type", columnNames = {"histogram_day", "type"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AmountHistogram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "histogram_day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false)
+    private Long totalCount = 0L;
+
+    @Column(nullable = false, length = 32768)
+    private byte[] counts;
+
+    @Version
+    private Long version;
+
+    @Column
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,43 @@
+package com.fintech.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Saldo de una cuenta después de la entrada sequenceNumber de su ledger (0 = apertura).
+ * Se guarda uno cada ledger.snapshot-interval entradas; no se modifica nunca.
+ */
+@Entity
+@Table(name = "balance_snapshots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_balance_snapshots_account_sequence", columnNames = {"account_id", "sequence_number"})
+}, indexes = {
+        @Index(name = "idx_balance_snapshots_account_timestamp", columnList = "account_id, timestamp")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceSnapshot {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false, updatable = false)
+    private Account account;
+
+    @Column(nullable = false, updatable = false)
+    private Long sequenceNumber;
+
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime timestamp;
+}
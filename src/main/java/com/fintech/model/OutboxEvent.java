@@ -0,0 +1,54 @@
+package com.fintech.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento de dominio guardado en la misma transacción que el cambio que lo origina.
+ * El id sigue el orden de inserción; feedSequence lo asigna el relay en orden de commit
+ * y es la posición que usan los consumidores del change feed.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_feed_sequence", columnList = "feedSequence", unique = true),
+        @Index(name = "idx_outbox_events_published_at", columnList = "publishedAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private String aggregateType;
+
+    @Column(nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    @Column(nullable = false, updatable = false)
+    private String eventType;
+
+    // Evento serializado a JSON
+    @Column(nullable = false, updatable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private Long feedSequence;
+
+    private LocalDateTime publishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.fintech.model;
+
+public enum SubmissionStatus {
+    PENDING,  // En cola
+    APPLIED,  // Transacción creada
+    REJECTED  // Rechazada, con motivo
+}
@@ -7,17 +7,24 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_account_timestamp", columnList = "account_id, timestamp desc"),
+        @Index(name = "idx_transactions_account_type_timestamp", columnList = "account_id, type, timestamp"),
+        @Index(name = "idx_transactions_timestamp", columnList = "timestamp"),
+        @Index(name = "idx_transactions_account_sequence", columnList = "account_id, sequence_number")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String id;
+    @TimeOrderedUuid
+    private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false)
@@ -33,13 +40,18 @@ public class Transaction {
     @Column(nullable = false, updatable = false)
     private LocalDateTime timestamp;
 
+    // Posición en el ledger de la cuenta: 1, 2, 3... sin huecos
+    @Column(nullable = false, updatable = false)
+    private Long sequenceNumber;
+
     private String description;
 
     @Column(nullable = false)
     private BigDecimal balanceAfter;
 
+    // Misma precisión que la columna (timestamp(6)): el valor devuelto por la API es el guardado
     @PrePersist
     protected void onCreate() {
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,62 @@
+package com.fintech.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Transacción enviada en modo asíncrono. La fila es la cola durable: queda PENDING hasta
+ * que un worker la aplica (APPLIED, con el id de la transacción) o la rechaza (REJECTED, con el motivo).
+ */
+@Entity
+@Table(name = "transaction_submissions", indexes = {
+        @Index(name = "idx_transaction_submissions_status", columnList = "status, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSubmission {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    // Evita aplicar dos veces la misma fila si dos procesos la toman a la vez
+    @Version
+    private Long version;
+
+    @Column(nullable = false)
+    private String accountNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SubmissionStatus status;
+
+    private String reason;
+
+    private UUID transactionId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime submittedAt;
+
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.submittedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,60 @@
+package com.fintech.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.dto.response.ChangeEventResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Agrega cada evento como una línea JSON al final de outbox.sinks.file.path.
+ * Omite las secuencias ya escritas por este proceso; tras un reinicio puede repetir el último lote.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sinks.file.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.sinks.file.path:./data/outbox/events.jsonl}")
+    private Path path = Path.of("./data/outbox/events.jsonl");
+
+    // Sin sincronización propia: el relay entrega un lote por vez bajo su relayLock
+    private long lastWritten;
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void publish(List<ChangeEventResponse> events) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        long written = lastWritten;
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ChangeEventResponse event : events) {
+                if (event.sequence() <= written) {
+                    continue;
+                }
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.newLine();
+                written = event.sequence();
+            }
+        }
+        lastWritten = written;
+    }
+}
@@ -0,0 +1,22 @@
+package com.fintech.outbox;
+
+import com.fintech.dto.response.ChangeEventResponse;
+
+import java.util.List;
+
+/**
+ * Destino al que el relay entrega los eventos del outbox, en lotes ordenados por secuencia.
+ * La entrega es al menos una vez: si un sink falla el lote se reintenta completo en todos,
+ * así que cada sink (o su consumidor) debe descartar secuencias ya vistas.
+ * OutboxRelay llama a publish desde un solo hilo por vez, así que un sink no necesita
+ * sincronizar su propio estado.
+ */
+public interface OutboxSink {
+
+    String name();
+
+    /**
+     * Entrega el lote o lanza una excepción; en ese caso el lote queda pendiente.
+     */
+    void publish(List<ChangeEventResponse> events) throws Exception;
+}
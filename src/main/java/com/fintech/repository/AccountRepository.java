@@ -1,21 +1,68 @@
 package com.fintech.repository;
 
+import com.fintech.dto.response.AccountBalanceRankingResponse;
 import com.fintech.model.Account;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, String> {
+public interface AccountRepository extends JpaRepository<Account, UUID> {
 
     Optional<Account> findByAccountNumber(String accountNumber);
 
+    // Bloquea la fila hasta el commit: serializa las transacciones de una misma cuenta
+    // (saldo y número de secuencia del ledger)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Account> findForUpdateByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    // Versión para ETags: solo columnas, sin cargar cuenta ni customer
+    @Query("SELECT new com.fintech.repository.AccountVersion(a.id, c.id, a.ledgerSequence, a.updatedAt, c.updatedAt) " +
+           "FROM Account a JOIN a.customer c WHERE a.accountNumber = :accountNumber")
+    Optional<AccountVersion> findVersionByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Query("SELECT new com.fintech.repository.AccountVersion(a.id, c.id, a.ledgerSequence, a.updatedAt, c.updatedAt) " +
+           "FROM Account a JOIN a.customer c WHERE a.id = :id")
+    Optional<AccountVersion> findVersionById(@Param("id") UUID id);
+
+    // El customer se carga en la misma consulta: mapToResponse lo lee por cada cuenta
+    @Override
+    @EntityGraph(attributePaths = "customer")
+    List<Account> findAll();
+
+    @EntityGraph(attributePaths = "customer")
     List<Account> findByActive(Boolean active);
 
+    @EntityGraph(attributePaths = "customer")
+    List<Account> findByCustomerId(String customerId);
+
+    @Query("SELECT a.accountNumber FROM Account a WHERE a.customer.id = :customerId")
+    List<String> findAccountNumbersByCustomerId(@Param("customerId") String customerId);
+
+    @EntityGraph(attributePaths = "customer")
+    List<Account> findByCustomerIdAndActive(String customerId, Boolean active);
+
     boolean existsByAccountNumber(String accountNumber);
 
     // Métodos para reportes
     long countByActive(Boolean active);
+
+    @Query("SELECT SUM(a.balance) FROM Account a")
+    Optional<BigDecimal> sumBalance();
+
+    @Query("SELECT new com.fintech.dto.response.AccountBalanceRankingResponse(" +
+           "a.accountNumber, c.id, c.name, a.balance) " +
+           "FROM Account a JOIN a.customer c ORDER BY a.balance DESC")
+    List<AccountBalanceRankingResponse> findTopByBalance(Pageable pageable);
 }
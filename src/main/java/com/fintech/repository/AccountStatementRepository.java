@@ -0,0 +1,35 @@
+package com.fintech.repository;
+
+import com.fintech.model.AccountStatement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AccountStatementRepository extends JpaRepository<AccountStatement, UUID> {
+
+    // Por uk_account_statements_account_period
+    Optional<AccountStatement> findByAccountIdAndPeriodStart(UUID accountId, LocalDate periodStart);
+
+    @Query("SELECT s.periodStart FROM AccountStatement s WHERE s.account.id = :accountId ORDER BY s.periodStart DESC")
+    List<LocalDate> findPeriodStartsByAccountId(@Param("accountId") UUID accountId);
+
+    // Cuentas abiertas antes del fin del mes que todavía no tienen su estado, por keyset de id
+    @Query("SELECT a.id FROM Account a WHERE a.id > :after AND a.createdAt < :periodEnd " +
+           "AND NOT EXISTS (SELECT 1 FROM AccountStatement s WHERE s.account = a AND s.periodStart = :periodStart) " +
+           "ORDER BY a.id")
+    List<UUID> findAccountsWithoutStatement(
+            @Param("after") UUID after,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("periodEnd") LocalDateTime periodEnd,
+            Pageable pageable
+    );
+}
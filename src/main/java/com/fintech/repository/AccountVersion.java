@@ -0,0 +1,16 @@
+package com.fintech.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lo que cambia cuando cambia la respuesta de una cuenta o de su historial: secuencia del
+ * ledger, última actualización de la cuenta y del customer (su nombre va en las respuestas).
+ */
+public record AccountVersion(
+        UUID accountId,
+        String customerId,
+        Long ledgerSequence,
+        LocalDateTime updatedAt,
+        LocalDateTime customerUpdatedAt
+) {}
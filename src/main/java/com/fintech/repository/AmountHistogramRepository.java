@@ -0,0 +1,18 @@
+package com.fintech.repository;
+
+import com.fintech.model.AmountHistogram;
+import com.fintech.model.TransactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AmountHistogramRepository extends JpaRepository<AmountHistogram, String> {
+
+    Optional<AmountHistogram> findByDayAndType(LocalDate day, TransactionType type);
+
+    List<AmountHistogram> findByDayBetween(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,22 @@
+package com.fintech.repository;
+
+import com.fintech.model.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, UUID> {
+
+    Optional<BalanceSnapshot> findFirstByAccountIdAndTimestampLessThanEqualOrderBySequenceNumberDesc(
+            UUID accountId, LocalDateTime timestamp);
+
+    Optional<BalanceSnapshot> findFirstByAccountIdAndSequenceNumberLessThanEqualOrderBySequenceNumberDesc(
+            UUID accountId, Long sequenceNumber);
+
+    Optional<BalanceSnapshot> findFirstByAccountIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(
+            UUID accountId, Long sequenceNumber);
+}
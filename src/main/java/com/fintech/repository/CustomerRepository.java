@@ -5,11 +5,14 @@ import com.fintech.model.KycStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, String> {
     Optional<Customer> findByUserId(String userId);
+    List<Customer> findByUserIdIn(Collection<String> userIds);
     boolean existsByDni(String dni);
     boolean existsByPhone(String phone);
 
@@ -0,0 +1,19 @@
+package com.fintech.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Proyección agregada de transacciones por cuenta y día, usada por los rankings.
+ * lastSequence es la mayor secuencia del ledger de la cuenta incluida en el día.
+ */
+public record DailyAccountActivity(
+        UUID accountId,
+        String accountNumber,
+        String customerId,
+        LocalDate day,
+        Long transactionCount,
+        BigDecimal volume,
+        Long lastSequence
+) {}
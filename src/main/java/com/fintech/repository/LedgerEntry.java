@@ -0,0 +1,16 @@
+package com.fintech.repository;
+
+import com.fintech.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entrada del ledger de una cuenta, lo mínimo para reproducir su saldo.
+ */
+public record LedgerEntry(
+        Long sequenceNumber,
+        TransactionType type,
+        BigDecimal amount,
+        LocalDateTime timestamp
+) {}
@@ -0,0 +1,40 @@
+package com.fintech.repository;
+
+import com.fintech.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Eventos confirmados que el relay todavía no ordenó en el feed
+    @Query("SELECT e FROM OutboxEvent e WHERE e.feedSequence IS NULL ORDER BY e.id")
+    List<OutboxEvent> findUnsequenced(Pageable pageable);
+
+    @Query("SELECT MAX(e.feedSequence) FROM OutboxEvent e")
+    Optional<Long> findMaxFeedSequence();
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.feedSequence IS NOT NULL AND e.publishedAt IS NULL " +
+           "ORDER BY e.feedSequence")
+    List<OutboxEvent> findUnpublished(Pageable pageable);
+
+    // Change feed: paginación por clave sobre idx_outbox_events_feed_sequence
+    @Query("SELECT e FROM OutboxEvent e WHERE e.feedSequence > :after ORDER BY e.feedSequence")
+    List<OutboxEvent> findFeedAfter(@Param("after") long after, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,11 @@
+package com.fintech.repository;
+
+import java.util.UUID;
+
+/**
+ * Entrada de la cola en memoria: el id de la fila y la cuenta que decide el worker.
+ */
+public record PendingSubmission(
+        UUID id,
+        String accountNumber
+) {}
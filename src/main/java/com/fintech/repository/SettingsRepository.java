@@ -1,13 +1,18 @@
 package com.fintech.repository;
 
 import com.fintech.model.SystemSetting;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface SettingsRepository extends JpaRepository<SystemSetting, String> {
+    // En el cache de consultas: los límites se leen en cada transacción. Se invalida al escribir system_settings
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SystemSetting> findBySettingKey(String settingKey);
     boolean existsBySettingKey(String settingKey);
 }
@@ -1,35 +1,112 @@
 package com.fintech.repository;
 
+import com.fintech.dto.response.StatementLineResponse;
 import com.fintech.model.Transaction;
 import com.fintech.model.TransactionType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, String> {
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>,
+        JpaSpecificationExecutor<Transaction> {
 
+    // Cuenta y customer en la misma consulta: mapToResponse los lee por cada transacción
+    @Override
+    @EntityGraph(attributePaths = {"account", "account.customer"})
+    List<Transaction> findAll();
+
+    @EntityGraph(attributePaths = {"account", "account.customer"})
     @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId ORDER BY t.timestamp DESC")
-    List<Transaction> findByAccountIdOrderByTimestampDesc(String accountId);
+    List<Transaction> findByAccountIdOrderByTimestampDesc(UUID accountId);
 
+    @EntityGraph(attributePaths = {"account", "account.customer"})
     @Query("SELECT t FROM Transaction t WHERE t.account.accountNumber = :accountNumber ORDER BY t.timestamp DESC")
     List<Transaction> findByAccountNumberOrderByTimestampDesc(String accountNumber);
 
-    @Query("SELECT t FROM Transaction t WHERE t.account.accountNumber = :accountNumber " +
+    // Versión para ETags: solo columnas, sin cargar transacción, cuenta ni customer
+    @Query("SELECT new com.fintech.repository.TransactionVersion(t.id, c.updatedAt) " +
+           "FROM Transaction t JOIN t.account a JOIN a.customer c WHERE t.id = :id")
+    Optional<TransactionVersion> findVersionById(@Param("id") UUID id);
+
+    // Últimos movimientos por idx_transactions_account_sequence
+    @EntityGraph(attributePaths = {"account", "account.customer"})
+    @Query("SELECT t FROM Transaction t WHERE t.account.accountNumber = :accountNumber ORDER BY t.sequenceNumber DESC")
+    List<Transaction> findLatestByAccountNumber(@Param("accountNumber") String accountNumber, Pageable pageable);
+
+    @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.account.accountNumber = :accountNumber " +
            "AND t.type = :type " +
-           "AND t.timestamp BETWEEN :startDate AND :endDate " +
-           "ORDER BY t.timestamp DESC")
-    List<Transaction> findByAccountAndTypeBetweenDates(
+           "AND t.timestamp BETWEEN :startDate AND :endDate")
+    Optional<BigDecimal> sumAmountByAccountAndTypeBetweenDates(
             @Param("accountNumber") String accountNumber,
             @Param("type") TransactionType type,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
 
+    // Tramo del ledger entre dos snapshots, por idx_transactions_account_sequence.
+    // La cota inferior de timestamp permite descartar particiones en PostgreSQL
+    @Query("SELECT new com.fintech.repository.LedgerEntry(t.sequenceNumber, t.type, t.amount, t.timestamp) " +
+           "FROM Transaction t WHERE t.account.id = :accountId " +
+           "AND t.sequenceNumber > :afterSequence AND t.sequenceNumber <= :upToSequence " +
+           "AND t.timestamp >= :from AND t.timestamp <= :until " +
+           "ORDER BY t.sequenceNumber")
+    List<LedgerEntry> findLedgerEntries(
+            @Param("accountId") UUID accountId,
+            @Param("afterSequence") long afterSequence,
+            @Param("upToSequence") long upToSequence,
+            @Param("from") LocalDateTime from,
+            @Param("until") LocalDateTime until
+    );
+
+    // Movimientos de un mes para su estado de cuenta, por idx_transactions_account_timestamp
+    // y con poda de particiones en PostgreSQL
+    @Query("SELECT new com.fintech.dto.response.StatementLineResponse(" +
+           "t.sequenceNumber, t.timestamp, t.type, t.amount, t.balanceAfter, t.description) " +
+           "FROM Transaction t WHERE t.account.id = :accountId " +
+           "AND t.timestamp >= :from AND t.timestamp < :to " +
+           "ORDER BY t.sequenceNumber")
+    List<StatementLineResponse> findStatementLines(
+            @Param("accountId") UUID accountId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // Primeros movimientos desde from: el saldo previo al primero es el de la cuenta en from
+    @Query("SELECT new com.fintech.dto.response.StatementLineResponse(" +
+           "t.sequenceNumber, t.timestamp, t.type, t.amount, t.balanceAfter, t.description) " +
+           "FROM Transaction t WHERE t.account.id = :accountId AND t.timestamp >= :from " +
+           "ORDER BY t.timestamp, t.sequenceNumber")
+    List<StatementLineResponse> findStatementLinesFrom(
+            @Param("accountId") UUID accountId,
+            @Param("from") LocalDateTime from,
+            Pageable pageable
+    );
+
     // Métodos para reportes
     long countByType(TransactionType type);
+
+    @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.type = :type")
+    Optional<BigDecimal> sumAmountByType(@Param("type") TransactionType type);
+
+    @Query("SELECT new com.fintech.repository.DailyAccountActivity(" +
+           "a.id, a.accountNumber, a.customer.id, extract(date from t.timestamp), COUNT(t), SUM(t.amount), " +
+           "MAX(t.sequenceNumber)) " +
+           "FROM Transaction t JOIN t.account a " +
+           "WHERE t.timestamp >= :from AND t.timestamp < :to " +
+           "GROUP BY a.id, a.accountNumber, a.customer.id, extract(date from t.timestamp)")
+    List<DailyAccountActivity> summarizeDailyActivity(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 }
@@ -0,0 +1,82 @@
+package com.fintech.repository;
+
+import com.fintech.model.Transaction;
+import com.fintech.model.TransactionType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Filtros de la búsqueda de transacciones (ver TransactionService.searchTransactions). Cada
+ * búsqueda combina alguno que recorre un índice: cuenta (account_id, timestamp), cuenta y tipo
+ * (account_id, type, timestamp), rango de fechas (timestamp) o texto (trigramas sobre
+ * lower(description) en PostgreSQL); el resto filtra las filas que ese índice devuelve.
+ */
+public final class TransactionSpecifications {
+
+    // Orden de la búsqueda y del cursor: más recientes primero, id como desempate
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("timestamp"), Sort.Order.desc("id"));
+
+    private TransactionSpecifications() {
+    }
+
+    // Cuenta y customer en la misma consulta: mapToResponse los lee por cada transacción
+    public static Specification<Transaction> fetchAccountAndCustomer() {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("account").fetch("customer");
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Transaction> accountIs(UUID accountId) {
+        return (root, query, cb) -> cb.equal(root.get("account").get("id"), accountId);
+    }
+
+    public static Specification<Transaction> typeIs(TransactionType type) {
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+
+    public static Specification<Transaction> timestampFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<LocalDateTime>get("timestamp"), from);
+    }
+
+    public static Specification<Transaction> timestampBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.<LocalDateTime>get("timestamp"), to);
+    }
+
+    public static Specification<Transaction> amountAtLeast(BigDecimal minAmount) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.<BigDecimal>get("amount"), minAmount);
+    }
+
+    public static Specification<Transaction> amountAtMost(BigDecimal maxAmount) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.<BigDecimal>get("amount"), maxAmount);
+    }
+
+    /**
+     * Descripción que contiene el texto, sin distinguir mayúsculas. lower(description) LIKE
+     * '%texto%' es la forma que sirve el índice de trigramas.
+     */
+    public static Specification<Transaction> descriptionContains(String text) {
+        String pattern = "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("description")), pattern, '\\');
+    }
+
+    /**
+     * Keyset: filas posteriores, en NEWEST_FIRST, a la última de la página anterior.
+     */
+    public static Specification<Transaction> after(LocalDateTime timestamp, UUID id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<LocalDateTime>get("timestamp"), timestamp),
+                cb.and(cb.equal(root.get("timestamp"), timestamp), cb.lessThan(root.<UUID>get("id"), id)));
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,28 @@
+package com.fintech.repository;
+
+import com.fintech.model.SubmissionStatus;
+import com.fintech.model.TransactionSubmission;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TransactionSubmissionRepository extends JpaRepository<TransactionSubmission, UUID> {
+
+    // Paginación por clave sobre idx_transaction_submissions_status
+    @Query("SELECT new com.fintech.repository.PendingSubmission(s.id, s.accountNumber) " +
+           "FROM TransactionSubmission s WHERE s.status = :status AND s.id > :after " +
+           "AND s.submittedAt < :submittedBefore ORDER BY s.id")
+    List<PendingSubmission> findPendingAfter(
+            @Param("status") SubmissionStatus status,
+            @Param("after") UUID after,
+            @Param("submittedBefore") LocalDateTime submittedBefore,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,13 @@
+package com.fintech.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lo que cambia cuando cambia la respuesta de una transacción: la fila no se modifica, pero
+ * lleva el nombre del customer, que sí puede cambiar.
+ */
+public record TransactionVersion(
+        UUID transactionId,
+        LocalDateTime customerUpdatedAt
+) {}
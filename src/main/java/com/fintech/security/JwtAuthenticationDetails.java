@@ -0,0 +1,22 @@
+package com.fintech.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * Detalles de una autenticación por JWT: además de los datos del request guarda el claim
+ * customerId, así los servicios conocen el customer del usuario sin consultarlo.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class JwtAuthenticationDetails extends WebAuthenticationDetails {
+
+    private final String customerId;
+
+    public JwtAuthenticationDetails(HttpServletRequest request, String customerId) {
+        super(request);
+        this.customerId = customerId;
+    }
+}
@@ -1,7 +1,10 @@
 package com.fintech.service;
 
+import com.fintech.coalescing.Coalesce;
 import com.fintech.dto.request.AccountRequest;
 import com.fintech.dto.response.AccountResponse;
+import com.fintech.dto.response.BalanceAsOfResponse;
+import com.fintech.event.AccountChangedEvent;
 import com.fintech.exception.AccountNotFoundException;
 import com.fintech.exception.DuplicateAccountException;
 import com.fintech.exception.UnauthorizedAccessException;
@@ -9,10 +12,16 @@ import com.fintech.model.Account;
 import com.fintech.model.Customer;
 import com.fintech.model.User;
 import com.fintech.repository.AccountRepository;
+import com.fintech.repository.AccountVersion;
 import com.fintech.repository.CustomerRepository;
 import com.fintech.repository.UserRepository;
+import com.fintech.security.JwtAuthenticationDetails;
+import com.fintech.util.ETags;
+import com.fintech.util.UuidV7;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -20,10 +29,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("fintech.service")
 @RequiredArgsConstructor
 @Slf4j
 public class AccountService {
@@ -31,6 +43,9 @@ public class AccountService {
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
     private final CustomerRepository customerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LedgerService ledgerService;
+    private final BalanceCache balanceCache;
 
     @Transactional
     public AccountResponse createAccount(AccountRequest request) {
@@ -46,17 +61,21 @@ public class AccountService {
         account.setCustomer(customer);
         account.setBalance(request.initialBalance());
 
-        return mapToResponse(accountRepository.save(account));
+        Account savedAccount = accountRepository.save(account);
+        ledgerService.openAccount(savedAccount);
+        publishChange(savedAccount, AccountChangedEvent.ChangeType.CREATED);
+        return mapToResponse(savedAccount);
     }
 
     @Transactional(readOnly = true)
     public AccountResponse getAccountById(String id) {
-        Account account = accountRepository.findById(id)
+        Account account = UuidV7.parse(id).flatMap(accountRepository::findById)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + id));
         validateOwnership(account);
         return mapToResponse(account);
     }
 
+    @Coalesce
     @Transactional(readOnly = true)
     public AccountResponse getAccountByNumber(String accountNumber) {
         Account account = accountRepository.findByAccountNumber(accountNumber)
@@ -69,9 +88,8 @@ public class AccountService {
     @Transactional(readOnly = true)
     public List<AccountResponse> getAllAccounts() {
         Customer currentCustomer = getAuthenticatedCustomer();
-        return accountRepository.findAll()
+        return accountRepository.findByCustomerId(currentCustomer.getId())
                 .stream()
-                .filter(account -> account.getCustomer().getId().equals(currentCustomer.getId()))
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
@@ -79,38 +97,90 @@ public class AccountService {
     @Transactional(readOnly = true)
     public List<AccountResponse> getActiveAccounts() {
         Customer currentCustomer = getAuthenticatedCustomer();
-        return accountRepository.findByActive(true)
+        return accountRepository.findByCustomerIdAndActive(currentCustomer.getId(), true)
                 .stream()
-                .filter(account -> account.getCustomer().getId().equals(currentCustomer.getId()))
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
     @Transactional
     public AccountResponse deactivateAccount(String id) {
-        Account account = accountRepository.findById(id)
+        Account account = UuidV7.parse(id).flatMap(accountRepository::findById)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + id));
         validateOwnership(account);
-        account.setActive(false);
-        return mapToResponse(accountRepository.save(account));
+        return updateActiveState(account, false);
     }
 
     @Transactional
     public AccountResponse activateAccount(String id) {
-        Account account = accountRepository.findById(id)
+        Account account = UuidV7.parse(id).flatMap(accountRepository::findById)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + id));
         validateOwnership(account);
-        account.setActive(true);
-        return mapToResponse(accountRepository.save(account));
+        return updateActiveState(account, true);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Con el saldo en BalanceCache no consulta la base: el customer del usuario sale del token
+     * y el dueño de la cuenta del cache. Sin @Transactional para no tomar una conexión en un acierto.
+     */
+    @Coalesce
     public BigDecimal getAccountBalance(String accountNumber) {
+        return getCachedBalance(accountNumber).balance();
+    }
+
+    /**
+     * ETag del saldo: la secuencia del ledger con la que se leyó, desde el mismo cache.
+     */
+    public String getBalanceETag(String accountNumber) {
+        return ETags.weak(getCachedBalance(accountNumber).sequence());
+    }
+
+    /**
+     * ETag de la cuenta: cambia con cada transacción, activación o cambio del customer.
+     * Se calcula con una consulta de columnas y sin cargar la cuenta, para responder 304 barato.
+     * De solo lectura como getAccountById: ETag y cuerpo se leen de la misma base (réplica o
+     * primario), y una réplica atrasada no da un ETag nuevo con un cuerpo viejo.
+     */
+    @Transactional(readOnly = true)
+    public String getAccountETag(String id) {
+        return accountETag(UuidV7.parse(id).flatMap(accountRepository::findVersionById)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + id)));
+    }
+
+    @Transactional(readOnly = true)
+    public String getAccountETagByNumber(String accountNumber) {
+        return accountETag(accountRepository.findVersionByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(
+                        "Account not found with number: " + accountNumber)));
+    }
+
+    /**
+     * Saldo de la cuenta a una fecha o después de una entrada del ledger (se indica uno de los dos).
+     */
+    @Transactional(readOnly = true)
+    public BalanceAsOfResponse getBalanceAsOf(String accountNumber, LocalDateTime timestamp, Long sequence) {
+        if ((timestamp == null) == (sequence == null)) {
+            throw new IllegalArgumentException("Exactly one of 'timestamp' or 'sequence' is required");
+        }
         Account account = accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException(
                         "Account not found with number: " + accountNumber));
         validateOwnership(account);
-        return account.getBalance();
+        return timestamp != null
+                ? ledgerService.balanceAt(account, timestamp)
+                : ledgerService.balanceAt(account, sequence);
+    }
+
+    /**
+     * Id de una cuenta del usuario autenticado, sin cargarla: para las consultas de otros
+     * servicios que solo filtran por cuenta.
+     */
+    public UUID getOwnedAccountId(String accountNumber) {
+        AccountVersion version = accountRepository.findVersionByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(
+                        "Account not found with number: " + accountNumber));
+        validateOwnership(version);
+        return version.accountId();
     }
 
     // Internal method used by TransactionService
@@ -139,6 +209,44 @@ public class AccountService {
                 .orElseThrow(() -> new RuntimeException("Customer not found for user"));
     }
 
+    private String getAuthenticatedCustomerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails details
+                && details.getCustomerId() != null) {
+            return details.getCustomerId();
+        }
+        return getAuthenticatedCustomer().getId();
+    }
+
+    private BalanceCache.CachedBalance getCachedBalance(String accountNumber) {
+        String customerId = getAuthenticatedCustomerId();
+        BalanceCache.CachedBalance cached = balanceCache.get(accountNumber).orElseGet(() -> {
+            Account account = accountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new AccountNotFoundException(
+                            "Account not found with number: " + accountNumber));
+            // El id del proxy de Customer no requiere cargarlo
+            String ownerId = account.getCustomer().getId();
+            balanceCache.put(accountNumber, account.getBalance(), ownerId, account.getLedgerSequence());
+            return new BalanceCache.CachedBalance(account.getBalance(), ownerId, account.getLedgerSequence(), 0L);
+        });
+        if (!cached.customerId().equals(customerId)) {
+            throw new UnauthorizedAccessException("You don't have permission to access this account");
+        }
+        return cached;
+    }
+
+    // El dueño se valida igual que en las lecturas, para no responder 304 a quien recibiría 403
+    private String accountETag(AccountVersion version) {
+        validateOwnership(version);
+        return ETags.weak(version.ledgerSequence(), version.updatedAt(), version.customerUpdatedAt());
+    }
+
+    private void validateOwnership(AccountVersion version) {
+        if (!version.customerId().equals(getAuthenticatedCustomerId())) {
+            throw new UnauthorizedAccessException("You don't have permission to access this account");
+        }
+    }
+
     private void validateOwnership(Account account) {
         Customer currentCustomer = getAuthenticatedCustomer();
         if (!account.getCustomer().getId().equals(currentCustomer.getId())) {
@@ -146,10 +254,32 @@ public class AccountService {
         }
     }
 
+    private AccountResponse updateActiveState(Account account, boolean active) {
+        boolean changed = account.getActive() != active;
+        account.setActive(active);
+        Account savedAccount = accountRepository.save(account);
+        if (changed) {
+            publishChange(savedAccount, active
+                    ? AccountChangedEvent.ChangeType.ACTIVATED
+                    : AccountChangedEvent.ChangeType.DEACTIVATED);
+        }
+        return mapToResponse(savedAccount);
+    }
+
+    private void publishChange(Account account, AccountChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new AccountChangedEvent(
+                account.getId(),
+                account.getAccountNumber(),
+                account.getCustomer().getId(),
+                changeType,
+                account.getBalance()
+        ));
+    }
+
     private AccountResponse mapToResponse(Account account) {
         Customer customer = account.getCustomer();
         return new AccountResponse(
-                account.getId(),
+                account.getId().toString(),
                 account.getAccountNumber(),
                 customer.getId(),
                 customer.getName(),
@@ -172,24 +302,22 @@ public class AccountService {
 
     @Transactional(readOnly = true)
     public AccountResponse getAccountByIdAdmin(String id) {
-        Account account = accountRepository.findById(id)
+        Account account = UuidV7.parse(id).flatMap(accountRepository::findById)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + id));
         return mapToResponse(account);
     }
 
     @Transactional
     public AccountResponse deactivateAccountAdmin(String id) {
-        Account account = accountRepository.findById(id)
+        Account account = UuidV7.parse(id).flatMap(accountRepository::findById)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + id));
-        account.setActive(false);
-        return mapToResponse(accountRepository.save(account));
+        return updateActiveState(account, false);
     }
 
     @Transactional
     public AccountResponse activateAccountAdmin(String id) {
-        Account account = accountRepository.findById(id)
+        Account account = UuidV7.parse(id).flatMap(accountRepository::findById)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + id));
-        account.setActive(true);
-        return mapToResponse(accountRepository.save(account));
+        return updateActiveState(account, true);
     }
 }
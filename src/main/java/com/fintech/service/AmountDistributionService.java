@@ -0,0 +1,231 @@
+package com.fintech.service;
+
+import com.fintech.dto.response.AmountDistributionResponse;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.AmountHistogram;
+import com.fintech.model.TransactionType;
+import com.fintech.repository.AmountHistogramRepository;
+import com.fintech.util.LogLinearHistogram;
+import com.fintech.util.Money;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Distribución de montos de transacciones por tipo y por día.
+ * Cada commit se registra en un histograma en memoria; los deltas se combinan
+ * periódicamente con los histogramas persistidos en la tabla amount_histograms.
+ * <p>
+ * Un delta tomado por el flush sigue visible para las lecturas hasta que su transacción
+ * confirma, y si falla vuelve a pending. Las lecturas consultan la base y suman los deltas
+ * en memoria bajo el read lock de flushingLock; el flush confirma y retira cada delta bajo
+ * el write lock, así que ninguna lectura lo cuenta dos veces ni deja de contarlo. Para eso
+ * la lectura tiene que ver cada commit del flush: va siempre al primario, nunca a la réplica.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AmountDistributionService {
+
+    private final AmountHistogramRepository amountHistogramRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Deltas todavía no persistidos. El read lock protege los registros, el write lock el intercambio del mapa
+    private final ReentrantReadWriteLock pendingLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Map<HistogramKey, LogLinearHistogram> pending = new ConcurrentHashMap<>();
+    // Deltas tomados por el flush en curso y todavía no confirmados
+    private final Map<HistogramKey, LogLinearHistogram> flushing = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock flushingLock = new ReentrantReadWriteLock();
+
+    private record HistogramKey(LocalDate day, TransactionType type) {}
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        TransactionResponse transaction = event.transaction();
+        HistogramKey key = new HistogramKey(transaction.timestamp().toLocalDate(), transaction.type());
+        long cents = Money.ofRounded(transaction.amount()).cents();
+
+        pendingLock.readLock().lock();
+        try {
+            pending.compute(key, (k, histogram) -> {
+                LogLinearHistogram target = histogram != null ? histogram : new LogLinearHistogram();
+                target.record(cents);
+                return target;
+            });
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reports.histograms.flush-interval:PT1M}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<HistogramKey, LogLinearHistogram> toFlush;
+            flushingLock.writeLock().lock();
+            pendingLock.writeLock().lock();
+            try {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                toFlush = pending;
+                pending = new ConcurrentHashMap<>();
+                flushing.putAll(toFlush);
+            } finally {
+                pendingLock.writeLock().unlock();
+                flushingLock.writeLock().unlock();
+            }
+
+            TransactionTemplate template = new TransactionTemplate(transactionManager);
+            toFlush.forEach((key, delta) -> {
+                flushingLock.writeLock().lock();
+                try {
+                    template.executeWithoutResult(status -> persistDelta(key, delta));
+                } catch (RuntimeException ex) {
+                    log.warn("Could not persist amount histogram for {} {}, will retry: {}",
+                            key.day(), key.type(), ex.getMessage());
+                    requeue(key, delta);
+                } finally {
+                    flushing.remove(key);
+                    flushingLock.writeLock().unlock();
+                }
+            });
+            log.debug("Flushed {} amount histograms", toFlush.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // En una transacción de escritura para leer del primario: los deltas ya retirados de flushing
+    // tienen que estar en la base que se consulta
+    @Transactional
+    public List<AmountDistributionResponse> getDistribution(LocalDate from, LocalDate to,
+                                                            TransactionType type, List<Double> percentiles) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+
+        Map<TransactionType, LogLinearHistogram> merged = new EnumMap<>(TransactionType.class);
+        for (TransactionType candidate : TransactionType.values()) {
+            if (type == null || type == candidate) {
+                merged.put(candidate, new LogLinearHistogram());
+            }
+        }
+
+        flushingLock.readLock().lock();
+        try {
+            for (AmountHistogram row : amountHistogramRepository.findByDayBetween(from, to)) {
+                LogLinearHistogram target = merged.get(row.getType());
+                if (target != null) {
+                    target.merge(LogLinearHistogram.decode(row.getCounts()));
+                }
+            }
+            // flushing no cambia mientras se tiene el read lock; pending, solo por registros nuevos
+            flushing.forEach((key, delta) -> mergeInto(from, to, merged, key, delta));
+            mergePending(from, to, merged);
+        } finally {
+            flushingLock.readLock().unlock();
+        }
+
+        List<AmountDistributionResponse> result = new ArrayList<>();
+        merged.forEach((transactionType, histogram) ->
+                result.add(toResponse(transactionType, from, to, histogram, percentiles)));
+        return result;
+    }
+
+    private void persistDelta(HistogramKey key, LogLinearHistogram delta) {
+        AmountHistogram row = amountHistogramRepository.findByDayAndType(key.day(), key.type())
+                .orElseGet(() -> {
+                    AmountHistogram created = new AmountHistogram();
+                    created.setDay(key.day());
+                    created.setType(key.type());
+                    return created;
+                });
+
+        LogLinearHistogram histogram = row.getCounts() != null
+                ? LogLinearHistogram.decode(row.getCounts())
+                : new LogLinearHistogram();
+        histogram.merge(delta);
+
+        row.setCounts(histogram.encode());
+        row.setTotalCount(histogram.getTotalCount());
+        amountHistogramRepository.save(row);
+    }
+
+    private void requeue(HistogramKey key, LogLinearHistogram delta) {
+        pendingLock.readLock().lock();
+        try {
+            pending.merge(key, delta, (current, failed) -> {
+                current.merge(failed);
+                return current;
+            });
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    private void mergePending(LocalDate from, LocalDate to, Map<TransactionType, LogLinearHistogram> merged) {
+        pendingLock.readLock().lock();
+        try {
+            for (HistogramKey key : pending.keySet()) {
+                pending.computeIfPresent(key, (k, histogram) -> {
+                    mergeInto(from, to, merged, k, histogram);
+                    return histogram;
+                });
+            }
+        } finally {
+            pendingLock.readLock().unlock();
+        }
+    }
+
+    private void mergeInto(LocalDate from, LocalDate to, Map<TransactionType, LogLinearHistogram> merged,
+                           HistogramKey key, LogLinearHistogram delta) {
+        LogLinearHistogram target = merged.get(key.type());
+        if (target != null && !key.day().isBefore(from) && !key.day().isAfter(to)) {
+            target.merge(delta);
+        }
+    }
+
+    private AmountDistributionResponse toResponse(TransactionType type, LocalDate from, LocalDate to,
+                                                  LogLinearHistogram histogram, List<Double> percentiles) {
+        Map<String, BigDecimal> values = new LinkedHashMap<>();
+        for (Double percentile : percentiles) {
+            String label = "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+            values.put(label, Money.ofCents(histogram.valueAtPercentile(percentile)).toBigDecimal());
+        }
+        return new AmountDistributionResponse(
+                type,
+                from,
+                to,
+                histogram.getTotalCount(),
+                Money.ofCents(histogram.getMin()).toBigDecimal(),
+                Money.ofCents(histogram.getMax()).toBigDecimal(),
+                values
+        );
+    }
+}
@@ -13,6 +13,7 @@ import com.fintech.repository.CustomerRepository;
 import com.fintech.repository.RoleRepository;
 import com.fintech.repository.UserRepository;
 import com.fintech.security.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -24,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("fintech.service")
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -0,0 +1,117 @@
+package com.fintech.service;
+
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.event.TransactionCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saldo y dueño de cada cuenta por número, para GET /accounts/number/{n}/balance.
+ * <p>
+ * La escritura es write-through después del commit: cada transacción confirmada en este nodo
+ * deja su balanceAfter antes de responder, así que una lectura posterior en el mismo nodo la ve.
+ * Cada valor lleva la secuencia del ledger y solo se reemplaza por uno más nuevo: una carga
+ * desde la base que termina después de un commit no lo pisa. Activar o desactivar la cuenta
+ * la quita del cache. Las escrituras de otros nodos se ven al vencer ttl.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceCache {
+
+    static final String METRIC_NAME = "fintech.accounts.balance.cache";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${accounts.balance-cache.ttl:PT1M}")
+    private Duration ttl = Duration.ofMinutes(1);
+
+    // Con el cache lleno las cuentas nuevas se leen de la base hasta que venzan entradas
+    @Value("${accounts.balance-cache.max-size:100000}")
+    private int maxSize = 100_000;
+
+    private final Map<String, CachedBalance> balances = new ConcurrentHashMap<>();
+
+    private Counter hits;
+    private Counter misses;
+
+    public record CachedBalance(BigDecimal balance, String customerId, long sequence, long loadedAtNanos) {}
+
+    @PostConstruct
+    void registerMetrics() {
+        hits = Counter.builder(METRIC_NAME).tag("result", "hit")
+                .description("Lecturas de saldo por resultado").register(meterRegistry);
+        misses = Counter.builder(METRIC_NAME).tag("result", "miss")
+                .description("Lecturas de saldo por resultado").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", balances, Map::size)
+                .description("Cuentas con saldo en cache").register(meterRegistry);
+    }
+
+    public Optional<CachedBalance> get(String accountNumber) {
+        CachedBalance cached = balances.get(accountNumber);
+        if (cached == null || isExpired(cached, System.nanoTime())) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(cached);
+    }
+
+    /**
+     * Guarda el saldo leído de la base, salvo que ya haya uno de una secuencia posterior.
+     */
+    public void put(String accountNumber, BigDecimal balance, String customerId, long sequence) {
+        if (balances.size() >= maxSize && !balances.containsKey(accountNumber)) {
+            return;
+        }
+        CachedBalance loaded = new CachedBalance(balance, customerId, sequence, System.nanoTime());
+        balances.merge(accountNumber, loaded, BalanceCache::newest);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        put(event.transaction().accountNumber(), event.transaction().balanceAfter(),
+                event.customerId(), event.sequenceNumber());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (event.changeType() == AccountChangedEvent.ChangeType.CREATED) {
+            put(event.accountNumber(), event.balance(), event.customerId(), 0L);
+        } else {
+            evict(event.accountNumber());
+        }
+    }
+
+    public void evict(String accountNumber) {
+        balances.remove(accountNumber);
+    }
+
+    @Scheduled(fixedDelayString = "${accounts.balance-cache.cleanup-interval:PT5M}")
+    public void removeExpired() {
+        long now = System.nanoTime();
+        balances.values().removeIf(cached -> isExpired(cached, now));
+    }
+
+    private boolean isExpired(CachedBalance cached, long now) {
+        return now - cached.loadedAtNanos() > ttl.toNanos();
+    }
+
+    // A igual secuencia gana el más reciente: renueva el ttl sin cambiar el saldo
+    private static CachedBalance newest(CachedBalance current, CachedBalance candidate) {
+        return candidate.sequence() >= current.sequence() ? candidate : current;
+    }
+}
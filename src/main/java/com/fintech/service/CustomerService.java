@@ -3,12 +3,15 @@ package com.fintech.service;
 import com.fintech.dto.request.CustomerRequest;
 import com.fintech.dto.request.UpdateKycRequest;
 import com.fintech.dto.response.CustomerResponse;
+import com.fintech.event.CustomerChangedEvent;
 import com.fintech.model.Customer;
 import com.fintech.model.User;
+import com.fintech.repository.AccountRepository;
 import com.fintech.repository.CustomerRepository;
 import com.fintech.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -25,6 +28,8 @@ public class CustomerService {
 
     private final CustomerRepository customerRepository;
     private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== USER METHODS ====================
 
@@ -46,7 +51,10 @@ public class CustomerService {
         customer.setNationality(request.nationality());
         customer.setOccupation(request.occupation());
 
-        return mapToResponse(customerRepository.save(customer));
+        CustomerResponse response = mapToResponse(customerRepository.save(customer));
+        eventPublisher.publishEvent(new CustomerChangedEvent(
+                customer.getId(), accountRepository.findAccountNumbersByCustomerId(customer.getId())));
+        return response;
     }
 
     // ==================== ADMIN METHODS ====================
@@ -0,0 +1,193 @@
+package com.fintech.service;
+
+import com.fintech.dto.response.DashboardDeltaResponse;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.TransactionType;
+import com.fintech.util.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Commits de transacciones y cuentas que mueven las métricas del dashboard, acumulados y
+ * emitidos como un DashboardDeltaResponse por tick (evento de aplicación, con secuencia).
+ * <p>
+ * Cada commit tiene tomado el read lock de commitGate desde antes de confirmar en la base
+ * hasta sumar sus montos. cut() toma el write lock: mientras dura, todo lo que la base ya
+ * confirmó está sumado y nada está a medio confirmar. Un snapshot de la base fijado dentro de
+ * cut() cubre exactamente los deltas hasta la secuencia que devuelve.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardChanges {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Espera máxima por el write lock antes de soltarlo y reintentar: un commit que espera un
+    // lock de fila de otro commit frenado por el writer en cola no puede trabar a los dos
+    @Value("${reports.stream.cut-wait:PT0.1S}")
+    private Duration cutWait = Duration.ofMillis(100);
+
+    private final ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+    private final ReentrantLock tickLock = new ReentrantLock();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final LongAdder newDeposits = new LongAdder();
+    private final LongAdder depositCents = new LongAdder();
+    private final LongAdder newWithdrawals = new LongAdder();
+    private final LongAdder withdrawalCents = new LongAdder();
+    private final LongAdder balanceChangeCents = new LongAdder();
+    private final LongAdder newAccounts = new LongAdder();
+    private final LongAdder activeAccountsChange = new LongAdder();
+
+    @EventListener
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        TransactionResponse transaction = event.transaction();
+        long cents = Money.ofRounded(transaction.amount()).cents();
+        onCommit(() -> {
+            if (transaction.type() == TransactionType.DEPOSIT) {
+                newDeposits.increment();
+                depositCents.add(cents);
+                balanceChangeCents.add(cents);
+            } else {
+                newWithdrawals.increment();
+                withdrawalCents.add(cents);
+                balanceChangeCents.add(-cents);
+            }
+        });
+    }
+
+    @EventListener
+    public void onAccountChanged(AccountChangedEvent event) {
+        onCommit(() -> {
+            switch (event.changeType()) {
+                case CREATED -> {
+                    newAccounts.increment();
+                    activeAccountsChange.increment();
+                    balanceChangeCents.add(Money.ofRounded(event.balance()).cents());
+                }
+                case ACTIVATED -> activeAccountsChange.increment();
+                case DEACTIVATED -> activeAccountsChange.decrement();
+            }
+        });
+    }
+
+    /**
+     * Arma un solo delta con lo acumulado desde el tick anterior, sin importar cuántos admins
+     * estén suscritos.
+     */
+    @Scheduled(fixedDelayString = "${reports.stream.tick-interval:PT1S}")
+    public void tick() {
+        emit();
+    }
+
+    /**
+     * Ejecuta fixSnapshot sin commits en curso, emite lo acumulado hasta ese momento y devuelve
+     * la secuencia del último delta emitido: los commits que fixSnapshot puede ver son
+     * exactamente los de los deltas con secuencia menor o igual.
+     */
+    public long cut(Runnable fixSnapshot) {
+        try {
+            while (!commitGate.writeLock().tryLock(cutWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.debug("Dashboard snapshot cut waiting for in-flight commits");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dashboard snapshot cut interrupted", e);
+        }
+        try {
+            fixSnapshot.run();
+            return emit();
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    private long emit() {
+        tickLock.lock();
+        try {
+            long deposits = newDeposits.sumThenReset();
+            long deposited = depositCents.sumThenReset();
+            long withdrawals = newWithdrawals.sumThenReset();
+            long withdrawn = withdrawalCents.sumThenReset();
+            long balanceChange = balanceChangeCents.sumThenReset();
+            long accounts = newAccounts.sumThenReset();
+            long activeChange = activeAccountsChange.sumThenReset();
+
+            boolean empty = deposits == 0 && withdrawals == 0 && accounts == 0
+                    && activeChange == 0 && balanceChange == 0;
+            if (empty) {
+                return sequence.get();
+            }
+            eventPublisher.publishEvent(new DashboardDeltaResponse(
+                    sequence.incrementAndGet(),
+                    LocalDateTime.now(),
+                    deposits,
+                    Money.ofCents(deposited).toBigDecimal(),
+                    withdrawals,
+                    Money.ofCents(withdrawn).toBigDecimal(),
+                    Money.ofCents(balanceChange).toBigDecimal(),
+                    accounts,
+                    activeChange
+            ));
+            return sequence.get();
+        } finally {
+            tickLock.unlock();
+        }
+    }
+
+    // Como un AFTER_COMMIT, pero la transacción entra al gate antes de confirmar en la base
+    private void onCommit(Runnable record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean inGate;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitGate.readLock().lock();
+                inGate = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                try {
+                    record.run();
+                } finally {
+                    leaveGate();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                // Rollback, o un commit que falló después de beforeCommit
+                leaveGate();
+            }
+
+            private void leaveGate() {
+                if (inGate) {
+                    inGate = false;
+                    commitGate.readLock().unlock();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,187 @@
+package com.fintech.service;
+
+import com.fintech.dto.response.DashboardDeltaResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stream en vivo de métricas del dashboard para admins (Server-Sent Events).
+ * DashboardChanges arma un único delta por tick y aquí se reparte a todos los suscriptores.
+ * Cada suscriptor tiene un buffer acotado: si se llena, el consumidor es lento y se desconecta.
+ * <p>
+ * El snapshot inicial es el de ReportsService, compartido con el dashboard y recalculado una
+ * sola vez por vencimiento, y lleva como id la secuencia del último delta que incluye. Los
+ * deltas posteriores que el suscriptor no recibió en su buffer salen de history; si history
+ * ya no los tiene se pide un snapshot más nuevo. Así cada commit se cuenta una sola vez.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStreamService {
+
+    private final ReportsService reportsService;
+
+    @Value("${reports.stream.buffer-size:32}")
+    private int bufferSize = 32;
+
+    // Deltas recientes, para llevar al día a quien recibe un snapshot anterior a su suscripción
+    @Value("${reports.stream.history-size:256}")
+    private int historySize = 256;
+
+    @Value("${reports.stream.timeout:PT30M}")
+    private Duration timeout = Duration.ofMinutes(30);
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    // Protege history y el orden en que los deltas llegan a history y a los buffers
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<DashboardDeltaResponse> history = new ArrayDeque<>();
+
+    public SseEmitter subscribe() {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()), new ArrayBlockingQueue<>(bufferSize));
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+
+        subscriber.sender = Thread.ofVirtual()
+                .name("dashboard-stream-" + subscriber.hashCode())
+                .unstarted(() -> deliver(subscriber));
+        lock.lock();
+        try {
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        subscriber.sender.start();
+        log.debug("Dashboard stream subscriber added, total {}", subscribers.size());
+        return subscriber.emitter;
+    }
+
+    @EventListener
+    public void onDelta(DashboardDeltaResponse delta) {
+        lock.lock();
+        try {
+            history.addLast(delta);
+            while (history.size() > historySize) {
+                history.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.buffer.offer(delta)) {
+                    log.info("Dropping slow dashboard stream subscriber (buffer of {} full)", bufferSize);
+                    subscriber.emitter.complete();
+                    remove(subscriber);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> {
+            subscriber.emitter.complete();
+            remove(subscriber);
+        });
+    }
+
+    // ==================== DELIVERY ====================
+
+    private void deliver(Subscriber subscriber) {
+        try {
+            // El suscriptor ya está registrado: los deltas emitidos desde ahora quedan en su buffer
+            // y los emitidos entre el corte del snapshot y la suscripción, en history
+            ReportsService.DashboardSnapshot snapshot = reportsService.getDashboardSnapshot(0);
+            List<DashboardDeltaResponse> backlog = historyAfter(snapshot.sequence());
+            while (backlog == null) {
+                snapshot = reportsService.getDashboardSnapshot(oldestInHistory() - 1);
+                backlog = historyAfter(snapshot.sequence());
+            }
+
+            subscriber.emitter.send(SseEmitter.event()
+                    .id(String.valueOf(snapshot.sequence()))
+                    .name("snapshot")
+                    .data(snapshot.statistics()));
+            long sent = snapshot.sequence();
+            for (DashboardDeltaResponse delta : backlog) {
+                sent = send(subscriber, delta);
+            }
+
+            while (!Thread.currentThread().isInterrupted()) {
+                DashboardDeltaResponse delta = subscriber.buffer.take();
+                if (delta.sequence() > sent) {
+                    sent = send(subscriber, delta);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dashboard stream subscriber disconnected: {}", e.getMessage());
+            remove(subscriber);
+        } catch (RuntimeException e) {
+            subscriber.emitter.completeWithError(e);
+            remove(subscriber);
+        }
+    }
+
+    private long send(Subscriber subscriber, DashboardDeltaResponse delta) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(String.valueOf(delta.sequence()))
+                .name("delta")
+                .data(delta));
+        return delta.sequence();
+    }
+
+    // Deltas con secuencia mayor que covered, o null si history ya descartó alguno de ellos
+    private List<DashboardDeltaResponse> historyAfter(long covered) {
+        lock.lock();
+        try {
+            if (!history.isEmpty() && history.getFirst().sequence() > covered + 1) {
+                return null;
+            }
+            return history.stream().filter(delta -> delta.sequence() > covered).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long oldestInHistory() {
+        lock.lock();
+        try {
+            return history.isEmpty() ? 0 : history.getFirst().sequence();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber) && subscriber.sender != null) {
+            subscriber.sender.interrupt();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<DashboardDeltaResponse> buffer;
+        private Thread sender;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<DashboardDeltaResponse> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
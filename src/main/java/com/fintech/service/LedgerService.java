@@ -0,0 +1,125 @@
+package com.fintech.service;
+
+import com.fintech.dto.response.BalanceAsOfResponse;
+import com.fintech.model.Account;
+import com.fintech.model.BalanceSnapshot;
+import com.fintech.model.Transaction;
+import com.fintech.model.TransactionType;
+import com.fintech.repository.BalanceSnapshotRepository;
+import com.fintech.repository.LedgerEntry;
+import com.fintech.repository.TransactionRepository;
+import com.fintech.util.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ledger de cada cuenta: sus transacciones numeradas 1, 2, 3... más un snapshot de saldo
+ * en la apertura y cada snapshot-interval entradas. El saldo a una fecha o secuencia se obtiene
+ * del snapshot anterior más cercano, reproduciendo como máximo snapshot-interval entradas.
+ * Las cuentas anteriores al ledger (V6) no tienen snapshot de apertura: su historia empieza en
+ * el snapshot que sembró la migración.
+ * <p>
+ * La numeración depende del bloqueo de la cuenta que toma TransactionService.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerService {
+
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final TransactionRepository transactionRepository;
+
+    @Value("${ledger.snapshot-interval:100}")
+    private int snapshotInterval = 100;
+
+    public void openAccount(Account account) {
+        saveSnapshot(account, 0L, account.getCreatedAt());
+    }
+
+    /**
+     * Reserva el siguiente número de secuencia. La cuenta debe estar bloqueada.
+     */
+    public long nextSequence(Account account) {
+        long sequence = account.getLedgerSequence() + 1;
+        account.setLedgerSequence(sequence);
+        return sequence;
+    }
+
+    public void recordEntry(Account account, Transaction transaction) {
+        if (transaction.getSequenceNumber() % snapshotInterval == 0) {
+            saveSnapshot(account, transaction.getSequenceNumber(), transaction.getTimestamp());
+        }
+    }
+
+    public BalanceAsOfResponse balanceAt(Account account, LocalDateTime timestamp) {
+        BalanceSnapshot snapshot = balanceSnapshotRepository
+                .findFirstByAccountIdAndTimestampLessThanEqualOrderBySequenceNumberDesc(account.getId(), timestamp)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Account " + account.getAccountNumber() + " has no ledger history at " + timestamp));
+        // El siguiente snapshot es posterior a timestamp: acota el tramo a reproducir
+        long upTo = balanceSnapshotRepository
+                .findFirstByAccountIdAndSequenceNumberGreaterThanOrderBySequenceNumberAsc(
+                        account.getId(), snapshot.getSequenceNumber())
+                .map(next -> next.getSequenceNumber() - 1)
+                .orElse(account.getLedgerSequence());
+        return replay(account, snapshot, upTo, timestamp);
+    }
+
+    public BalanceAsOfResponse balanceAt(Account account, long sequence) {
+        if (sequence < 0 || sequence > account.getLedgerSequence()) {
+            throw new IllegalArgumentException("Sequence must be between 0 and " + account.getLedgerSequence());
+        }
+        BalanceSnapshot snapshot = balanceSnapshotRepository
+                .findFirstByAccountIdAndSequenceNumberLessThanEqualOrderBySequenceNumberDesc(account.getId(), sequence)
+                .orElseThrow(() -> new IllegalStateException(
+                        "No balance snapshot for account " + account.getAccountNumber()));
+        BalanceAsOfResponse balance = replay(account, snapshot, sequence, LocalDateTime.now());
+        if (balance.sequence() != sequence) {
+            throw new IllegalStateException("Ledger entries up to " + sequence + " of account "
+                    + account.getAccountNumber() + " are not available");
+        }
+        return balance;
+    }
+
+    private BalanceAsOfResponse replay(Account account, BalanceSnapshot snapshot, long upTo, LocalDateTime until) {
+        List<LedgerEntry> entries = transactionRepository.findLedgerEntries(
+                account.getId(), snapshot.getSequenceNumber(), upTo, snapshot.getTimestamp(), until);
+
+        Money balance = Money.of(snapshot.getBalance());
+        long sequence = snapshot.getSequenceNumber();
+        LocalDateTime asOf = snapshot.getTimestamp();
+        for (LedgerEntry entry : entries) {
+            // Un hueco significa entradas que ya no están en la tabla (por ejemplo, archivadas)
+            if (entry.sequenceNumber() != sequence + 1) {
+                throw new IllegalStateException("Ledger entries " + (sequence + 1) + " to "
+                        + (entry.sequenceNumber() - 1) + " of account " + account.getAccountNumber()
+                        + " are not available");
+            }
+            Money amount = Money.of(entry.amount());
+            balance = entry.type() == TransactionType.DEPOSIT ? balance.plus(amount) : balance.minus(amount);
+            sequence = entry.sequenceNumber();
+            asOf = entry.timestamp();
+        }
+
+        return new BalanceAsOfResponse(
+                account.getAccountNumber(),
+                balance.toBigDecimal(),
+                sequence,
+                asOf,
+                snapshot.getSequenceNumber(),
+                entries.size()
+        );
+    }
+
+    private void saveSnapshot(Account account, long sequence, LocalDateTime timestamp) {
+        BalanceSnapshot snapshot = new BalanceSnapshot();
+        snapshot.setAccount(account);
+        snapshot.setSequenceNumber(sequence);
+        snapshot.setBalance(account.getBalance());
+        snapshot.setTimestamp(timestamp);
+        balanceSnapshotRepository.save(snapshot);
+    }
+}
@@ -0,0 +1,114 @@
+package com.fintech.service;
+
+import com.fintech.dto.response.ChangeEventResponse;
+import com.fintech.model.OutboxEvent;
+import com.fintech.outbox.OutboxSink;
+import com.fintech.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Relay del outbox. En cada ciclo:
+ * <ol>
+ *   <li>Asigna feed_sequence (max + 1, + 2...) a los eventos confirmados que aún no la tienen,
+ *   en el orden en que los ve. Un evento con id menor cuyo commit llegó tarde recibe una
+ *   secuencia mayor, así que el feed nunca agrega eventos detrás del cursor de un consumidor.</li>
+ *   <li>Entrega a cada sink los eventos no publicados, en lotes de batch-size, y los marca
+ *   publicados cuando todos los sinks aceptaron el lote.</li>
+ * </ol>
+ * El índice único de feed_sequence hace fallar (y reintentar) a un segundo relay concurrente.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize = 500;
+
+    // Los eventos publicados se conservan este tiempo para el change feed
+    @Value("${outbox.retention:P7D}")
+    private Duration retention = Duration.ofDays(7);
+
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:PT1S}")
+    public void relay() {
+        if (!relayLock.tryLock()) {
+            return;
+        }
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            Integer sequenced;
+            do {
+                sequenced = transactionTemplate.execute(status -> assignSequences());
+            } while (sequenced != null && sequenced == batchSize);
+            deliverPending(transactionTemplate);
+        } catch (RuntimeException ex) {
+            log.error("Outbox relay failed, will retry on next run", ex);
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${outbox.cleanup-cron:0 45 3 * * *}")
+    public void deleteExpired() {
+        try {
+            int deleted = new TransactionTemplate(transactionManager).execute(status ->
+                    outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+            log.info("Deleted {} published outbox events older than {}", deleted, retention);
+        } catch (RuntimeException ex) {
+            log.error("Outbox cleanup failed, will retry on next run", ex);
+        }
+    }
+
+    private int assignSequences() {
+        List<OutboxEvent> events = outboxEventRepository.findUnsequenced(PageRequest.of(0, batchSize));
+        long sequence = outboxEventRepository.findMaxFeedSequence().orElse(0L);
+        for (OutboxEvent event : events) {
+            event.setFeedSequence(++sequence);
+        }
+        return events.size();
+    }
+
+    private void deliverPending(TransactionTemplate transactionTemplate) {
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<ChangeEventResponse> events = batch.stream().map(OutboxService::toChange).toList();
+            for (OutboxSink sink : sinks) {
+                try {
+                    sink.publish(events);
+                } catch (Exception ex) {
+                    if (ex instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    log.warn("Outbox sink {} failed for events {} to {}, will retry", sink.name(),
+                            events.get(0).sequence(), events.get(events.size() - 1).sequence(), ex);
+                    return;
+                }
+            }
+            List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markPublished(ids, LocalDateTime.now()));
+        } while (batch.size() == batchSize);
+    }
+}
@@ -0,0 +1,93 @@
+package com.fintech.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.dto.response.ChangeEventResponse;
+import com.fintech.dto.response.ChangeFeedResponse;
+import com.fintech.event.AccountChangedEvent;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.OutboxEvent;
+import com.fintech.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox transaccional y change feed. Los eventos se insertan en BEFORE_COMMIT, dentro de la
+ * transacción que los publica: si el cambio hace rollback no queda evento, y si falla la
+ * inserción del evento tampoco se confirma el cambio.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    public static final int MAX_FEED_LIMIT = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        append("TRANSACTION", UUID.fromString(event.transaction().id()), "TRANSACTION_CREATED", event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onAccountChanged(AccountChangedEvent event) {
+        append("ACCOUNT", event.accountId(), "ACCOUNT_" + event.changeType(), event);
+    }
+
+    /**
+     * Eventos con posición mayor a after, en orden. Solo incluye lo que el relay ya ordenó,
+     * así que un consumidor que avanza con nextCursor no se saltea eventos confirmados tarde.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedResponse getChanges(long after, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative");
+        }
+        if (limit < 1 || limit > MAX_FEED_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_FEED_LIMIT);
+        }
+        // Uno de más para saber si hay otra página
+        List<ChangeEventResponse> events = outboxEventRepository.findFeedAfter(after, PageRequest.of(0, limit + 1))
+                .stream()
+                .map(OutboxService::toChange)
+                .toList();
+        boolean hasMore = events.size() > limit;
+        if (hasMore) {
+            events = events.subList(0, limit);
+        }
+        long nextCursor = events.isEmpty() ? after : events.get(events.size() - 1).sequence();
+        return new ChangeFeedResponse(events, nextCursor, hasMore);
+    }
+
+    static ChangeEventResponse toChange(OutboxEvent event) {
+        return new ChangeEventResponse(
+                event.getFeedSequence(),
+                event.getEventType(),
+                event.getAggregateType(),
+                event.getAggregateId().toString(),
+                event.getCreatedAt(),
+                event.getPayload()
+        );
+    }
+
+    private void append(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " event", e);
+        }
+        outboxEventRepository.save(event);
+    }
+}
@@ -0,0 +1,341 @@
+package com.fintech.service;
+
+import com.fintech.dto.response.AccountActivityRankingResponse;
+import com.fintech.dto.response.AccountBalanceRankingResponse;
+import com.fintech.dto.response.CustomerVolumeRankingResponse;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.Customer;
+import com.fintech.repository.AccountRepository;
+import com.fintech.repository.CustomerRepository;
+import com.fintech.repository.DailyAccountActivity;
+import com.fintech.repository.TransactionRepository;
+import com.fintech.util.BoundedTopK;
+import com.fintech.util.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Rankings del dashboard de administración.
+ * El ranking por saldo se resuelve con ORDER BY ... LIMIT sobre un índice. Los rankings de
+ * actividad se mantienen incrementalmente por cuenta y día a partir de cada commit, se
+ * reconstruyen periódicamente desde la base y se cachean entre refrescos.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RankingService {
+
+    private static final int MAX_RANKING_SIZE = 100;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final CustomerRepository customerRepository;
+
+    // Días de actividad que se mantienen en memoria
+    @Value("${reports.rankings.window-days:30}")
+    private int windowDays = 30;
+
+    // Tiempo durante el cual se reutiliza un ranking ya calculado
+    @Value("${reports.rankings.cache-ttl:30s}")
+    private Duration cacheTtl = Duration.ofSeconds(30);
+
+    // activityLock protege el reemplazo del estado (write) frente a su lectura o actualización (read);
+    // rebuildLock serializa los rebuilds, que consultan la base sin tomar activityLock
+    private final ReentrantReadWriteLock activityLock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Map<LocalDate, Map<UUID, ActivityCounter>> activityByDay = new ConcurrentHashMap<>();
+    // Mayor secuencia del ledger de cada cuenta incluida en el último rebuild: los eventos
+    // de commits que la consulta ya contó se descartan
+    private volatile Map<UUID, Long> rebuiltSequences = Map.of();
+    // Eventos recibidos mientras corre la consulta de un rebuild (null fuera de un rebuild)
+    private Queue<TransactionCreatedEvent> eventsDuringRebuild;
+    private final Map<String, CachedRanking> rankingCache = new ConcurrentHashMap<>();
+    private volatile boolean warmedUp;
+
+    private static final class ActivityCounter {
+        private final String accountNumber;
+        private final String customerId;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder cents = new LongAdder();
+
+        private ActivityCounter(String accountNumber, String customerId) {
+            this.accountNumber = accountNumber;
+            this.customerId = customerId;
+        }
+
+        private void add(long transactionCount, long amountCents) {
+            count.add(transactionCount);
+            cents.add(amountCents);
+        }
+    }
+
+    private record Totals(String id, String accountNumber, String customerId, long count, long cents) {}
+
+    private record CachedRanking(List<?> entries, Instant computedAt) {}
+
+    // ==================== RANKINGS ====================
+
+    @Transactional(readOnly = true)
+    public List<AccountBalanceRankingResponse> getTopAccountsByBalance(int limit) {
+        validateLimit(limit);
+        return accountRepository.findTopByBalance(PageRequest.of(0, limit));
+    }
+
+    public List<CustomerVolumeRankingResponse> getTopCustomersByVolume(int days, int limit) {
+        validateLimit(limit);
+        if (days < 1 || days > windowDays) {
+            throw new IllegalArgumentException("days must be between 1 and " + windowDays);
+        }
+        return slice(cached("customers-volume-" + days, () -> computeCustomerVolumeRanking(days)), limit);
+    }
+
+    public List<AccountActivityRankingResponse> getMostActiveAccountsToday(int limit) {
+        validateLimit(limit);
+        return slice(cached("accounts-activity-today", this::computeAccountActivityRanking), limit);
+    }
+
+    // ==================== INCREMENTAL MAINTENANCE ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        activityLock.readLock().lock();
+        try {
+            // Un rebuild en curso puede no ver este commit: lo reaplica sobre su resultado
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+            // Hasta el primer rebuild no hay estado que mantener: la carga inicial incluirá este commit
+            if (warmedUp) {
+                count(activityByDay, rebuiltSequences, event);
+            }
+        } finally {
+            activityLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reconstruye la actividad de la ventana desde la base. Corrige cualquier desvío
+     * (por ejemplo, commits hechos por otras instancias de la API).
+     */
+    @Scheduled(fixedDelayString = "${reports.rankings.rebuild-interval:PT15M}",
+            initialDelayString = "${reports.rankings.rebuild-interval:PT15M}")
+    public void refreshActivity() {
+        if (warmedUp) {
+            rebuildActivity();
+        }
+    }
+
+    private void ensureWarmedUp() {
+        if (warmedUp) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            // Otro hilo pudo haber terminado la carga inicial mientras este esperaba
+            if (!warmedUp) {
+                rebuildActivity();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Arma el estado nuevo fuera de activityLock (los eventos y los rankings siguen con el
+     * actual mientras corre la consulta) y lo reemplaza en un paso. Los eventos llegados durante
+     * la consulta se reaplican si su secuencia es posterior a la que la consulta vio para su
+     * cuenta: los commits de una cuenta se numeran en orden, así que ninguno se cuenta dos veces
+     * ni se pierde.
+     */
+    private void rebuildActivity() {
+        rebuildLock.lock();
+        try {
+            setEventsDuringRebuild(new ConcurrentLinkedQueue<>());
+            List<DailyAccountActivity> rows;
+            Map<LocalDate, Map<UUID, ActivityCounter>> activity = new ConcurrentHashMap<>();
+            Map<UUID, Long> sequences = new HashMap<>();
+            try {
+                LocalDate today = LocalDate.now();
+                LocalDate firstDay = today.minusDays(windowDays - 1L);
+                rows = transactionRepository.summarizeDailyActivity(
+                        firstDay.atStartOfDay(), today.plusDays(1).atStartOfDay());
+                for (DailyAccountActivity row : rows) {
+                    counter(activity, row.day(), row.accountId(), row.accountNumber(), row.customerId())
+                            .add(row.transactionCount(), Money.ofRounded(row.volume()).cents());
+                    sequences.merge(row.accountId(), row.lastSequence(), Math::max);
+                }
+            } catch (RuntimeException ex) {
+                setEventsDuringRebuild(null);
+                throw ex;
+            }
+
+            activityLock.writeLock().lock();
+            try {
+                Map<UUID, Long> included = Map.copyOf(sequences);
+                eventsDuringRebuild.forEach(event -> count(activity, included, event));
+                eventsDuringRebuild = null;
+                activityByDay = activity;
+                rebuiltSequences = included;
+                rankingCache.clear();
+                warmedUp = true;
+            } finally {
+                activityLock.writeLock().unlock();
+            }
+            log.debug("Rebuilt ranking activity from {} daily rows", rows.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void setEventsDuringRebuild(Queue<TransactionCreatedEvent> events) {
+        activityLock.writeLock().lock();
+        try {
+            eventsDuringRebuild = events;
+        } finally {
+            activityLock.writeLock().unlock();
+        }
+    }
+
+    private static void count(Map<LocalDate, Map<UUID, ActivityCounter>> activity,
+                              Map<UUID, Long> includedSequences, TransactionCreatedEvent event) {
+        if (event.sequenceNumber() <= includedSequences.getOrDefault(event.accountId(), 0L)) {
+            return;
+        }
+        TransactionResponse transaction = event.transaction();
+        counter(activity, transaction.timestamp().toLocalDate(), event.accountId(),
+                transaction.accountNumber(), event.customerId())
+                .add(1, Money.ofRounded(transaction.amount()).cents());
+    }
+
+    private static ActivityCounter counter(Map<LocalDate, Map<UUID, ActivityCounter>> activity, LocalDate day,
+                                           UUID accountId, String accountNumber, String customerId) {
+        return activity
+                .computeIfAbsent(day, d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(accountId, id -> new ActivityCounter(accountNumber, customerId));
+    }
+
+    // ==================== COMPUTATION ====================
+
+    private List<CustomerVolumeRankingResponse> computeCustomerVolumeRanking(int days) {
+        LocalDate firstDay = LocalDate.now().minusDays(days - 1L);
+        Map<String, long[]> byCustomer = new HashMap<>();
+
+        activityLock.readLock().lock();
+        try {
+            activityByDay.forEach((day, accounts) -> {
+                if (day.isBefore(firstDay)) {
+                    return;
+                }
+                accounts.values().forEach(counter -> {
+                    long[] totals = byCustomer.computeIfAbsent(counter.customerId, id -> new long[2]);
+                    totals[0] += counter.count.sum();
+                    totals[1] += counter.cents.sum();
+                });
+            });
+        } finally {
+            activityLock.readLock().unlock();
+        }
+
+        BoundedTopK<Totals> top = new BoundedTopK<>(MAX_RANKING_SIZE,
+                Comparator.comparingLong(Totals::cents).thenComparingLong(Totals::count));
+        byCustomer.forEach((customerId, totals) ->
+                top.offer(new Totals(customerId, null, customerId, totals[0], totals[1])));
+
+        List<Totals> ranking = top.toSortedList();
+        Map<String, String> names = customerNames(ranking);
+        return ranking.stream()
+                .map(t -> new CustomerVolumeRankingResponse(
+                        t.customerId(), names.get(t.customerId()), t.count(),
+                        Money.ofCents(t.cents()).toBigDecimal()))
+                .toList();
+    }
+
+    private List<AccountActivityRankingResponse> computeAccountActivityRanking() {
+        BoundedTopK<Totals> top = new BoundedTopK<>(MAX_RANKING_SIZE,
+                Comparator.comparingLong(Totals::count).thenComparingLong(Totals::cents));
+
+        activityLock.readLock().lock();
+        try {
+            activityByDay.getOrDefault(LocalDate.now(), Map.of()).forEach((accountId, counter) ->
+                    top.offer(new Totals(accountId.toString(), counter.accountNumber, counter.customerId,
+                            counter.count.sum(), counter.cents.sum())));
+        } finally {
+            activityLock.readLock().unlock();
+        }
+
+        List<Totals> ranking = top.toSortedList();
+        Map<String, String> names = customerNames(ranking);
+        return ranking.stream()
+                .map(t -> new AccountActivityRankingResponse(
+                        t.accountNumber(), t.customerId(), names.get(t.customerId()),
+                        t.count(), Money.ofCents(t.cents()).toBigDecimal()))
+                .toList();
+    }
+
+    private void pruneExpiredDays() {
+        LocalDate firstDay = LocalDate.now().minusDays(windowDays - 1L);
+        activityByDay.keySet().removeIf(day -> day.isBefore(firstDay));
+    }
+
+    private Map<String, String> customerNames(List<Totals> ranking) {
+        List<String> customerIds = ranking.stream().map(Totals::customerId).distinct().toList();
+        return customerRepository.findAllById(customerIds)
+                .stream()
+                .collect(Collectors.toMap(Customer::getId, Customer::getName));
+    }
+
+    // ==================== HELPERS ====================
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> cached(String key, Supplier<List<T>> computation) {
+        CachedRanking cached = rankingCache.get(key);
+        if (!isFresh(cached)) {
+            ensureWarmedUp();
+            pruneExpiredDays();
+            // Fuera de compute: la consulta de nombres no debe correr con el mapa bloqueado
+            cached = new CachedRanking(computation.get(), Instant.now());
+            rankingCache.put(key, cached);
+        }
+        return (List<T>) cached.entries();
+    }
+
+    private boolean isFresh(CachedRanking cached) {
+        return cached != null && cached.computedAt().plus(cacheTtl).isAfter(Instant.now());
+    }
+
+    private static <T> List<T> slice(List<T> ranking, int limit) {
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_RANKING_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_RANKING_SIZE);
+        }
+    }
+}
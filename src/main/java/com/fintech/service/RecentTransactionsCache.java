@@ -0,0 +1,329 @@
+package com.fintech.service;
+
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.CustomerChangedEvent;
+import com.fintech.event.TransactionCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Últimas capacity transacciones de cada cuenta en memoria, para "últimos N movimientos".
+ * <p>
+ * El anillo de una cuenta se carga de la base en la primera lectura y después crece con
+ * cada transacción confirmada en este nodo (AFTER_COMMIT, antes de responder al cliente),
+ * así que una lectura posterior a una escritura en el mismo nodo siempre la ve. Mientras
+ * se carga, el anillo ya está registrado y guarda los commits que llegan; al terminar se
+ * combinan por número de secuencia. Un salto de secuencia (escritura de otro nodo) descarta
+ * el anillo y la próxima lectura lo vuelve a cargar; las escrituras de otros nodos sin
+ * commits locales posteriores se ven al vencer ttl. Como cada movimiento lleva el nombre del
+ * customer, editar el perfil descarta los anillos de sus cuentas.
+ * <p>
+ * Cada anillo es inmutable y se reemplaza con rings.compute: las lecturas no toman locks y
+ * las escrituras solo compiten con las de su misma cuenta.
+ * <p>
+ * La memoria estimada de todos los anillos está acotada por max-memory; al superarla se
+ * descartan cuentas completas, la menos leída primero.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecentTransactionsCache {
+
+    static final String METRIC_NAME = "fintech.transactions.recent.cache";
+
+    // Sin secuencia conocida: la cuenta no tenía movimientos al cargarse
+    private static final long UNKNOWN_SEQUENCE = -1;
+    // Estimación por movimiento: record, BigDecimals, LocalDateTime y cabeceras de los String
+    private static final long ENTRY_OVERHEAD_BYTES = 320;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${transactions.recent.capacity:20}")
+    private int capacity = 20;
+
+    @Value("${transactions.recent.max-memory:64MB}")
+    private DataSize maxMemory = DataSize.ofMegabytes(64);
+
+    @Value("${transactions.recent.ttl:PT1M}")
+    private Duration ttl = Duration.ofMinutes(1);
+
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+    // Suma de Ring.bytes de los anillos en el mapa; se ajusta en el mismo paso que los reemplaza
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong loadIds = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    public record Entry(long sequenceNumber, TransactionResponse transaction) {}
+
+    @PostConstruct
+    void registerMetrics() {
+        hits = Counter.builder(METRIC_NAME).tag("result", "hit")
+                .description("Lecturas de últimos movimientos por resultado").register(meterRegistry);
+        misses = Counter.builder(METRIC_NAME).tag("result", "miss")
+                .description("Lecturas de últimos movimientos por resultado").register(meterRegistry);
+        evictions = Counter.builder(METRIC_NAME + ".evictions")
+                .description("Cuentas descartadas por el límite de memoria").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".accounts", rings, Map::size)
+                .description("Cuentas con anillo en memoria").register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".bytes", usedBytes, AtomicLong::get)
+                .description("Memoria estimada de los anillos").baseUnit("bytes").register(meterRegistry);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Últimos limit movimientos de la cuenta, del más reciente al más antiguo (limit ≤ capacity).
+     * Si la cuenta no está en memoria usa loader, que debe devolver los últimos capacity
+     * movimientos confirmados en ese orden.
+     */
+    public List<TransactionResponse> getLatest(String accountNumber, int limit, Supplier<List<Entry>> loader) {
+        if (limit > capacity) {
+            throw new IllegalArgumentException("Limit must not exceed " + capacity);
+        }
+        long now = System.nanoTime();
+        Ring ring = rings.get(accountNumber);
+        if (ring != null && ring.loaded() && !isExpired(ring, now)) {
+            ring.lastReadNanos = now;
+            hits.increment();
+            return ring.latest(limit);
+        }
+        misses.increment();
+
+        // Registra el anillo en carga (o se suma a una carga en curso) antes de leer la base
+        long loadId = rings.compute(accountNumber, (key, current) -> current != null && !current.loaded()
+                ? current
+                : replace(current, Ring.loading(loadIds.incrementAndGet(), now))).loadId;
+
+        List<Entry> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException ex) {
+            rings.computeIfPresent(accountNumber, (key, current) ->
+                    current.loadId == loadId && !current.loaded() ? replace(current, null) : current);
+            throw ex;
+        }
+        Ring result = rings.computeIfPresent(accountNumber, (key, current) ->
+                current.loadId == loadId && !current.loaded()
+                        ? replace(current, current.load(loaded, capacity, System.nanoTime()))
+                        : current);
+        if (result == null || result.loadId != loadId) {
+            // Descartado mientras se cargaba: la carga sigue siendo válida para esta lectura
+            return loaded.stream().limit(limit).map(Entry::transaction).toList();
+        }
+        evictIfNeeded(accountNumber);
+        return result.latest(limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransactionCreated(TransactionCreatedEvent event) {
+        String accountNumber = event.transaction().accountNumber();
+        Entry entry = new Entry(event.sequenceNumber(), event.transaction());
+        Ring ring = rings.computeIfPresent(accountNumber, (key, current) -> {
+            Ring appended = current.append(entry, capacity);
+            if (appended == null) {
+                log.debug("Ledger gap on account {} at sequence {}, dropping recent transactions ring",
+                        accountNumber, event.sequenceNumber());
+            }
+            return replace(current, appended);
+        });
+        if (ring != null) {
+            evictIfNeeded(accountNumber);
+        }
+    }
+
+    // El nombre del customer va en cada movimiento guardado: sus anillos se vuelven a cargar
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+        event.accountNumbers().forEach(this::evict);
+    }
+
+    public void evict(String accountNumber) {
+        rings.computeIfPresent(accountNumber, (key, current) -> replace(current, null));
+    }
+
+    @Scheduled(fixedDelayString = "${transactions.recent.cleanup-interval:PT5M}")
+    public void removeExpired() {
+        long now = System.nanoTime();
+        rings.forEach((accountNumber, ring) -> {
+            if (ring.loaded() && isExpired(ring, now)) {
+                rings.computeIfPresent(accountNumber, (key, current) ->
+                        current == ring ? replace(current, null) : current);
+            }
+        });
+    }
+
+    private boolean isExpired(Ring ring, long now) {
+        return now - ring.loadedAtNanos > ttl.toNanos();
+    }
+
+    /**
+     * Ajusta usedBytes por el reemplazo y devuelve el nuevo anillo (null para quitarlo).
+     * Se llama dentro de compute, que lo ejecuta una sola vez por cambio.
+     */
+    private Ring replace(Ring current, Ring next) {
+        long before = current != null ? current.bytes : 0;
+        long after = next != null ? next.bytes : 0;
+        if (after != before) {
+            usedBytes.addAndGet(after - before);
+        }
+        return next;
+    }
+
+    /**
+     * Descarta las cuentas menos leídas hasta volver a max-memory. Un solo hilo a la vez: los
+     * demás siguen de largo y el exceso lo corrige el que está descartando.
+     */
+    private void evictIfNeeded(String current) {
+        if (usedBytes.get() <= maxMemory.toBytes() || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Map.Entry<String, Ring>> byLastRead = new ArrayList<>(rings.entrySet());
+            byLastRead.sort(Comparator.comparingLong(eldest -> eldest.getValue().lastReadNanos));
+            for (Map.Entry<String, Ring> eldest : byLastRead) {
+                if (usedBytes.get() <= maxMemory.toBytes()) {
+                    break;
+                }
+                if (eldest.getKey().equals(current)) {
+                    continue;
+                }
+                Ring ring = eldest.getValue();
+                boolean[] removed = new boolean[1];
+                rings.computeIfPresent(eldest.getKey(), (key, candidate) -> {
+                    removed[0] = candidate == ring;
+                    return removed[0] ? replace(candidate, null) : candidate;
+                });
+                if (removed[0]) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Movimientos de una cuenta, el más reciente primero. Las copias conservan loadId, que
+     * identifica la carga que creó el anillo, y la fecha de la última lectura.
+     */
+    private static final class Ring {
+        private final long loadId;
+        private final List<Entry> entries;
+        // Commits recibidos mientras se cargaba; null una vez cargado
+        private final List<Entry> pending;
+        private final long lastSequence;
+        private final long bytes;
+        private final long loadedAtNanos;
+        // Solo para elegir qué cuenta descartar; no forma parte del contenido
+        private volatile long lastReadNanos;
+
+        private Ring(long loadId, List<Entry> entries, List<Entry> pending, long lastSequence,
+                     long loadedAtNanos, long lastReadNanos) {
+            this.loadId = loadId;
+            this.entries = entries;
+            this.pending = pending;
+            this.lastSequence = lastSequence;
+            this.bytes = estimateBytes(entries);
+            this.loadedAtNanos = loadedAtNanos;
+            this.lastReadNanos = lastReadNanos;
+        }
+
+        static Ring loading(long loadId, long now) {
+            return new Ring(loadId, List.of(), List.of(), UNKNOWN_SEQUENCE, now, now);
+        }
+
+        boolean loaded() {
+            return pending == null;
+        }
+
+        Ring load(List<Entry> fromDatabase, int capacity, long now) {
+            List<Entry> ascending = new ArrayList<>(fromDatabase.size() + pending.size());
+            for (int i = fromDatabase.size() - 1; i >= 0; i--) {
+                ascending.add(fromDatabase.get(i));
+            }
+            pending.stream().sorted(Comparator.comparingLong(Entry::sequenceNumber)).forEach(ascending::add);
+
+            // Ignora secuencias ya presentes (la carga y un commit pueden traer la misma)
+            ArrayDeque<Entry> merged = new ArrayDeque<>(capacity);
+            long last = UNKNOWN_SEQUENCE;
+            for (Entry entry : ascending) {
+                if (last != UNKNOWN_SEQUENCE && entry.sequenceNumber() <= last) {
+                    continue;
+                }
+                if (merged.size() == capacity) {
+                    merged.removeLast();
+                }
+                merged.addFirst(entry);
+                last = entry.sequenceNumber();
+            }
+            return new Ring(loadId, List.copyOf(merged), null, last, now, lastReadNanos);
+        }
+
+        /**
+         * @return el anillo con el commit agregado, el mismo si ya lo tenía, o null si hay un
+         * salto de secuencia y el anillo ya no es confiable
+         */
+        Ring append(Entry entry, int capacity) {
+            if (!loaded()) {
+                List<Entry> withPending = new ArrayList<>(pending);
+                withPending.add(entry);
+                return new Ring(loadId, entries, List.copyOf(withPending), lastSequence, loadedAtNanos, lastReadNanos);
+            }
+            if (lastSequence != UNKNOWN_SEQUENCE && entry.sequenceNumber() <= lastSequence) {
+                return this;
+            }
+            if (lastSequence != UNKNOWN_SEQUENCE && entry.sequenceNumber() > lastSequence + 1) {
+                return null;
+            }
+            List<Entry> appended = new ArrayList<>(capacity);
+            appended.add(entry);
+            appended.addAll(entries.subList(0, Math.min(entries.size(), capacity - 1)));
+            return new Ring(loadId, List.copyOf(appended), null, entry.sequenceNumber(), loadedAtNanos, lastReadNanos);
+        }
+
+        List<TransactionResponse> latest(int limit) {
+            return entries.stream().limit(limit).map(Entry::transaction).toList();
+        }
+
+        private static long estimateBytes(List<Entry> entries) {
+            long total = 0;
+            for (Entry entry : entries) {
+                TransactionResponse t = entry.transaction();
+                total += ENTRY_OVERHEAD_BYTES + 2L * (length(t.id()) + length(t.accountNumber())
+                        + length(t.accountOwner()) + length(t.description()));
+            }
+            return total;
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+}
@@ -9,15 +9,35 @@ import com.fintech.model.TransactionType;
 import com.fintech.repository.AccountRepository;
 import com.fintech.repository.TransactionRepository;
 import com.fintech.repository.UserRepository;
+import com.fintech.util.Money;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 @Service
+@Timed("fintech.service")
 @RequiredArgsConstructor
 @Slf4j
 public class ReportsService {
@@ -25,14 +45,173 @@ public class ReportsService {
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final DashboardChanges dashboardChanges;
 
-    @Transactional(readOnly = true)
+    private static final int DASHBOARD_SECTIONS = 3;
+
+    // Tiempo durante el cual se reutiliza el último snapshot del dashboard
+    @Value("${reports.dashboard.max-staleness:10s}")
+    private Duration dashboardMaxStaleness = Duration.ofSeconds(10);
+
+    /**
+     * Snapshot del dashboard y secuencia del último delta de DashboardChanges que ya incluye.
+     */
+    public record DashboardSnapshot(DashboardStatisticsResponse statistics, long sequence) {}
+
+    private volatile DashboardSnapshot dashboardSnapshot;
+    private final AtomicReference<CompletableFuture<DashboardSnapshot>> dashboardInFlight =
+            new AtomicReference<>();
+
+    /**
+     * Devuelve el último snapshot del dashboard si sigue dentro de la ventana de staleness.
+     * Si está vencido, un solo hilo lo recalcula y los demás admins esperan ese mismo resultado.
+     */
     public DashboardStatisticsResponse getDashboardStatistics() {
-        return new DashboardStatisticsResponse(
-                getUserStatistics(),
-                getAccountStatistics(),
-                getTransactionStatistics()
-        );
+        return getDashboardSnapshot(0).statistics();
+    }
+
+    /**
+     * Como getDashboardStatistics, con la secuencia que cubre el snapshot. El stream lo usa
+     * como base de sus deltas; minSequence pide uno que cubra al menos hasta ese delta.
+     */
+    public DashboardSnapshot getDashboardSnapshot(long minSequence) {
+        while (true) {
+            DashboardSnapshot snapshot = dashboardSnapshot;
+            if (isUsable(snapshot, minSequence)) {
+                return snapshot;
+            }
+
+            CompletableFuture<DashboardSnapshot> computation = new CompletableFuture<>();
+            CompletableFuture<DashboardSnapshot> inFlight = dashboardInFlight.compareAndExchange(null, computation);
+            if (inFlight != null) {
+                snapshot = awaitInFlight(inFlight);
+                // Un recálculo que ya estaba en curso pudo cortar antes de minSequence
+                if (snapshot.sequence() >= minSequence) {
+                    return snapshot;
+                }
+                continue;
+            }
+
+            try {
+                // Otro hilo pudo haber terminado el recálculo justo antes de tomar el turno
+                snapshot = dashboardSnapshot;
+                if (!isUsable(snapshot, minSequence)) {
+                    snapshot = computeDashboardSnapshot();
+                    dashboardSnapshot = snapshot;
+                }
+                computation.complete(snapshot);
+                return snapshot;
+            } catch (RuntimeException ex) {
+                computation.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                dashboardInFlight.set(null);
+            }
+        }
+    }
+
+    private boolean isUsable(DashboardSnapshot snapshot, long minSequence) {
+        return snapshot != null
+                && snapshot.sequence() >= minSequence
+                && snapshot.statistics().computedAt().plus(dashboardMaxStaleness).isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * Cada sección corre en su propio virtual thread y en su propia transacción REPEATABLE READ
+     * del primario. Las tres fijan su snapshot de la base dentro del mismo corte de
+     * DashboardChanges: el resultado incluye justo los commits de los deltas hasta la secuencia
+     * del corte. La conexión se toma antes del corte, para no esperar al pool con los commits
+     * detenidos.
+     */
+    private DashboardSnapshot computeDashboardSnapshot() {
+        LocalDateTime computedAt = LocalDateTime.now();
+        // Fases: 0 secciones con conexión, 1 corte tomado, 2 snapshots fijados
+        Phaser phaser = new Phaser(1 + DASHBOARD_SECTIONS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<UserStatisticsResponse> userStats =
+                    executor.submit(() -> inSnapshotTransaction(phaser, this::getUserStatistics));
+            Future<AccountStatisticsResponse> accountStats =
+                    executor.submit(() -> inSnapshotTransaction(phaser, this::getAccountStatistics));
+            Future<TransactionStatisticsResponse> transactionStats =
+                    executor.submit(() -> inSnapshotTransaction(phaser, this::getTransactionStatistics));
+
+            long sequence;
+            try {
+                phaser.arriveAndAwaitAdvance();
+                sequence = dashboardChanges.cut(() -> {
+                    phaser.arriveAndAwaitAdvance();
+                    phaser.arriveAndAwaitAdvance();
+                });
+            } finally {
+                phaser.forceTermination();
+            }
+
+            DashboardStatisticsResponse result = new DashboardStatisticsResponse(
+                    awaitSection(userStats),
+                    awaitSection(accountStats),
+                    awaitSection(transactionStats),
+                    computedAt
+            );
+            log.debug("Dashboard snapshot recomputed at {} covering delta {}", computedAt, sequence);
+            return new DashboardSnapshot(result, sequence);
+        }
+    }
+
+    // Sin readOnly, como getSubmission: la réplica puede estar hasta max-lag atrás
+    private <T> T inSnapshotTransaction(Phaser phaser, Supplier<T> section) {
+        AtomicBoolean arrived = new AtomicBoolean();
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                // Con la conexión liberada por transacción, HibernateJpaDialect no acepta un
+                // aislamiento propio: se fija antes de la primera sentencia y el pool lo
+                // restablece al devolverla. Pedir la conexión acá evita esperar al pool en el corte
+                jdbcTemplate.execute((ConnectionCallback<DatabaseMetaData>) connection -> {
+                    connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+                    return connection.getMetaData();
+                });
+                phaser.arriveAndAwaitAdvance();
+                phaser.arriveAndAwaitAdvance();
+                // La primera consulta fija el snapshot de la transacción
+                jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                arrived.set(true);
+                phaser.arriveAndDeregister();
+                return section.get();
+            });
+        } finally {
+            // Una sección que falla antes de fijar su snapshot no deja esperando a las demás
+            if (!arrived.get()) {
+                phaser.arriveAndDeregister();
+            }
+        }
+    }
+
+    private <T> T awaitSection(Future<T> section) {
+        try {
+            return section.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Dashboard computation interrupted", e);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private DashboardSnapshot awaitInFlight(CompletableFuture<DashboardSnapshot> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private RuntimeException propagate(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("Dashboard computation failed", cause);
     }
 
     @Transactional(readOnly = true)
@@ -58,21 +237,16 @@ public class ReportsService {
         long activeAccounts = accountRepository.countByActive(true);
         long inactiveAccounts = accountRepository.countByActive(false);
 
-        BigDecimal totalBalance = accountRepository.findAll()
-                .stream()
-                .map(account -> account.getBalance())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal averageBalance = totalAccounts > 0
-                ? totalBalance.divide(BigDecimal.valueOf(totalAccounts), 2, RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+        // Suma en la base; el promedio se calcula en centavos
+        Money totalBalance = accountRepository.sumBalance().map(Money::of).orElse(Money.ZERO);
+        Money averageBalance = totalAccounts > 0 ? totalBalance.dividedBy(totalAccounts) : Money.ZERO;
 
         return new AccountStatisticsResponse(
                 totalAccounts,
                 activeAccounts,
                 inactiveAccounts,
-                totalBalance,
-                averageBalance
+                totalBalance.toBigDecimal(),
+                averageBalance.toBigDecimal()
         );
     }
 
@@ -82,27 +256,20 @@ public class ReportsService {
         long totalDeposits = transactionRepository.countByType(TransactionType.DEPOSIT);
         long totalWithdrawals = transactionRepository.countByType(TransactionType.WITHDRAW);
 
-        BigDecimal totalDepositAmount = transactionRepository.findAll()
-                .stream()
-                .filter(t -> t.getType() == TransactionType.DEPOSIT)
-                .map(t -> t.getAmount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalWithdrawalAmount = transactionRepository.findAll()
-                .stream()
-                .filter(t -> t.getType() == TransactionType.WITHDRAW)
-                .map(t -> t.getAmount())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        Money totalDepositAmount = transactionRepository.sumAmountByType(TransactionType.DEPOSIT)
+                .map(Money::of).orElse(Money.ZERO);
+        Money totalWithdrawalAmount = transactionRepository.sumAmountByType(TransactionType.WITHDRAW)
+                .map(Money::of).orElse(Money.ZERO);
 
-        BigDecimal netCashFlow = totalDepositAmount.subtract(totalWithdrawalAmount);
+        Money netCashFlow = totalDepositAmount.minus(totalWithdrawalAmount);
 
         return new TransactionStatisticsResponse(
                 totalTransactions,
                 totalDeposits,
                 totalWithdrawals,
-                totalDepositAmount,
-                totalWithdrawalAmount,
-                netCashFlow
+                totalDepositAmount.toBigDecimal(),
+                totalWithdrawalAmount.toBigDecimal(),
+                netCashFlow.toBigDecimal()
         );
     }
 }
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,6 +50,13 @@ public class SettingsService {
         return mapToResponse(setting);
     }
 
+    // Lookup sin excepción: lanzar dentro de una transacción ajena la marca rollback-only
+    @Transactional(readOnly = true)
+    public Optional<String> findSettingValue(String key) {
+        return settingsRepository.findBySettingKey(key)
+                .map(SystemSetting::getSettingValue);
+    }
+
     @Transactional
     public SettingResponse updateSetting(String key, SettingRequest request) {
         SystemSetting setting = settingsRepository.findBySettingKey(key)
@@ -0,0 +1,284 @@
+package com.fintech.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.dto.response.StatementGenerationResponse;
+import com.fintech.dto.response.StatementLineResponse;
+import com.fintech.dto.response.StatementResponse;
+import com.fintech.dto.response.StatementTotalResponse;
+import com.fintech.exception.AccountNotFoundException;
+import com.fintech.exception.StatementNotFoundException;
+import com.fintech.model.Account;
+import com.fintech.model.AccountStatement;
+import com.fintech.model.TransactionType;
+import com.fintech.repository.AccountRepository;
+import com.fintech.repository.AccountStatementRepository;
+import com.fintech.repository.TransactionRepository;
+import com.fintech.util.Money;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Estados de cuenta mensuales precalculados. Cerrado el mes, un job recorre las cuentas en
+ * bloques de chunk-size (keyset por id) y genera en paralelo, cada una en su propia transacción,
+ * el estado de las que todavía no lo tienen: una corrida interrumpida o una cuenta que falló se
+ * completan en la siguiente. Leer un estado es una búsqueda por índice unique, sin recorrer
+ * el historial.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatementService {
+
+    private static final UUID MIN_ID = new UUID(0, 0);
+    private static final TypeReference<List<StatementLineResponse>> LINES = new TypeReference<>() {};
+
+    private enum Outcome { GENERATED, SKIPPED, FAILED }
+
+    private final AccountStatementRepository statementRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountService accountService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // Cuentas leídas por consulta
+    @Value("${statements.chunk-size:500}")
+    private int chunkSize = 500;
+
+    // Cuentas generadas a la vez (cada una ocupa una conexión)
+    @Value("${statements.parallelism:4}")
+    private int parallelism = 4;
+
+    private final ReentrantLock generationLock = new ReentrantLock();
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Todos los días y no solo el 1: si el nodo no corrió al cierre, la siguiente corrida completa el mes
+    @Scheduled(cron = "${statements.generation-cron:0 30 1 * * *}")
+    public void generateLastClosedMonth() {
+        if (generationLock.isLocked()) {
+            return;
+        }
+        try {
+            generate(YearMonth.now().minusMonths(1));
+        } catch (RuntimeException ex) {
+            log.error("Statement generation failed, will retry on next run", ex);
+        }
+    }
+
+    /**
+     * Genera los estados del mes que faltan. Con el estado de una cuenta ya generado (por una
+     * corrida anterior u otro nodo) la cuenta se saltea.
+     */
+    public StatementGenerationResponse generate(YearMonth month) {
+        if (!month.isBefore(YearMonth.now())) {
+            throw new IllegalArgumentException("Statements can only be generated for closed months");
+        }
+        if (!generationLock.tryLock()) {
+            throw new IllegalStateException("Statement generation is already running");
+        }
+        try {
+            return generateMissing(month);
+        } finally {
+            generationLock.unlock();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public StatementResponse getStatement(String accountNumber, YearMonth month) {
+        UUID accountId = accountService.getOwnedAccountId(accountNumber);
+        AccountStatement statement = statementRepository.findByAccountIdAndPeriodStart(accountId, month.atDay(1))
+                .orElseThrow(() -> new StatementNotFoundException(
+                        "Statement for " + month + " not available for account " + accountNumber));
+        return mapToResponse(accountNumber, statement);
+    }
+
+    @Transactional(readOnly = true)
+    public List<YearMonth> getStatementMonths(String accountNumber) {
+        UUID accountId = accountService.getOwnedAccountId(accountNumber);
+        return statementRepository.findPeriodStartsByAccountId(accountId).stream()
+                .map(YearMonth::from)
+                .toList();
+    }
+
+    private StatementGenerationResponse generateMissing(YearMonth month) {
+        LocalDate periodStart = month.atDay(1);
+        LocalDateTime periodEnd = month.plusMonths(1).atDay(1).atStartOfDay();
+        int generated = 0;
+        int failed = 0;
+        UUID after = MIN_ID;
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofVirtual().name("statement-generator-", 0).factory())) {
+            List<UUID> chunk;
+            while (!(chunk = statementRepository.findAccountsWithoutStatement(
+                    after, periodStart, periodEnd, PageRequest.of(0, chunkSize))).isEmpty()) {
+                List<Future<Outcome>> outcomes = new ArrayList<>();
+                for (UUID accountId : chunk) {
+                    outcomes.add(executor.submit(() -> generateStatement(accountId, month)));
+                }
+                for (Future<Outcome> outcome : outcomes) {
+                    switch (outcome.get()) {
+                        case GENERATED -> generated++;
+                        case FAILED -> failed++;
+                        case SKIPPED -> { }
+                    }
+                }
+                after = chunk.get(chunk.size() - 1);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Statement generation for " + month + " was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException("Statement generation for " + month + " failed", ex.getCause());
+        }
+        log.info("Generated {} statements for {} ({} failed, retried on next run)", generated, month, failed);
+        return new StatementGenerationResponse(month, generated, failed);
+    }
+
+    private Outcome generateStatement(UUID accountId, YearMonth month) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> statementRepository.save(buildStatement(accountId, month)));
+            return Outcome.GENERATED;
+        } catch (DataIntegrityViolationException ex) {
+            // Otro nodo generó el mismo estado entre la búsqueda y el insert
+            return Outcome.SKIPPED;
+        } catch (RuntimeException ex) {
+            log.warn("Could not generate {} statement for account {}: {}", month, accountId, ex.getMessage());
+            return Outcome.FAILED;
+        }
+    }
+
+    private AccountStatement buildStatement(UUID accountId, YearMonth month) {
+        Account account = accountRepository.findById(accountId)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found with ID: " + accountId));
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+        List<StatementLineResponse> lines = transactionRepository.findStatementLines(accountId, from, to);
+
+        Money opening;
+        if (lines.isEmpty()) {
+            // Sin movimientos el saldo no cambió: sale del estado anterior o, si no hay, del primer
+            // movimiento posterior al mes. No usa los snapshots del ledger: las cuentas anteriores a
+            // V6 solo tienen el de su último movimiento, que puede ser posterior al mes
+            opening = statementRepository.findByAccountIdAndPeriodStart(accountId, month.minusMonths(1).atDay(1))
+                    .map(previous -> Money.of(previous.getClosingBalance()))
+                    .orElseGet(() -> transactionRepository.findStatementLinesFrom(accountId, to, PageRequest.of(0, 1))
+                            .stream()
+                            .findFirst()
+                            .map(StatementService::balanceBefore)
+                            // Sin movimientos desde el mes, el saldo actual es el del mes
+                            .orElseGet(() -> Money.of(account.getBalance())));
+        } else {
+            opening = balanceBefore(lines.get(0));
+        }
+
+        Money deposits = Money.ZERO;
+        Money withdrawals = Money.ZERO;
+        int depositCount = 0;
+        int withdrawalCount = 0;
+        long sequence = lines.isEmpty() ? 0 : lines.get(0).sequence() - 1;
+        for (StatementLineResponse line : lines) {
+            // Un hueco significa movimientos que ya no están en la tabla: el estado quedaría incompleto
+            if (line.sequence() != sequence + 1) {
+                throw new IllegalStateException("Ledger entries " + (sequence + 1) + " to "
+                        + (line.sequence() - 1) + " are not available");
+            }
+            sequence = line.sequence();
+            if (line.type() == TransactionType.DEPOSIT) {
+                deposits = deposits.plus(Money.of(line.amount()));
+                depositCount++;
+            } else {
+                withdrawals = withdrawals.plus(Money.of(line.amount()));
+                withdrawalCount++;
+            }
+        }
+        Money closing = opening.plus(deposits).minus(withdrawals);
+
+        AccountStatement statement = new AccountStatement();
+        statement.setAccount(account);
+        statement.setPeriodStart(month.atDay(1));
+        statement.setOpeningBalance(opening.toBigDecimal());
+        statement.setClosingBalance(closing.toBigDecimal());
+        statement.setDepositCount(depositCount);
+        statement.setDepositTotal(deposits.toBigDecimal());
+        statement.setWithdrawalCount(withdrawalCount);
+        statement.setWithdrawalTotal(withdrawals.toBigDecimal());
+        statement.setLineItems(compress(lines));
+        return statement;
+    }
+
+    private static Money balanceBefore(StatementLineResponse line) {
+        Money amount = Money.of(line.amount());
+        return line.type() == TransactionType.DEPOSIT
+                ? Money.of(line.balanceAfter()).minus(amount)
+                : Money.of(line.balanceAfter()).plus(amount);
+    }
+
+        private StatementResponse mapToResponse(String accountNumber, AccountStatement statement) {
+        return new StatementResponse(
+                accountNumber,
+                YearMonth.from(statement.getPeriodStart()),
+                statement.getOpeningBalance(),
+                statement.getClosingBalance(),
+                List.of(
+                        new StatementTotalResponse(TransactionType.DEPOSIT,
+                                statement.getDepositCount(), statement.getDepositTotal()),
+                        new StatementTotalResponse(TransactionType.WITHDRAW,
+                                statement.getWithdrawalCount(), statement.getWithdrawalTotal())),
+                decompress(statement.getLineItems()),
+                statement.getGeneratedAt()
+        );
+    }
+
+    private byte[] compress(List<StatementLineResponse> lines) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, lines);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not encode statement lines", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<StatementLineResponse> decompress(byte[] lineItems) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(lineItems))) {
+            return objectMapper.readValue(in, LINES);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not decode statement lines", ex);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.fintech.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.dto.response.ArchivedTransactionResponse;
+import com.fintech.model.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archivo histórico de transacciones: un archivo JSONL comprimido por mes
+ * ({@code transactions-YYYY-MM.jsonl.gz}). Los archivos se escriben una sola vez
+ * (archivo temporal + move atómico) y nunca se modifican; las consultas los recorren en orden.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionArchiveService {
+
+    private static final Pattern FILE_NAME = Pattern.compile("transactions-(\\d{4}-\\d{2})\\.jsonl\\.gz");
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${transactions.archive.dir:./data/archive}")
+    private Path archiveDir = Path.of("./data/archive");
+
+    /**
+     * Escribe las transacciones de un mes. Si el mes ya está archivado (por ejemplo, tras
+     * una falla entre la exportación y el borrado de la partición) solo se acepta si el
+     * archivo existente contiene la misma cantidad de filas.
+     *
+     * @return cantidad de transacciones archivadas del mes
+     */
+    public long archiveMonth(YearMonth month, Stream<ArchivedTransactionResponse> transactions, long expectedCount) {
+        Path target = fileFor(month);
+        if (Files.exists(target)) {
+            long archived = countArchived(month);
+            if (archived != expectedCount) {
+                throw new IllegalStateException("Archive " + target + " already exists with " + archived
+                        + " transactions, expected " + expectedCount);
+            }
+            log.info("Archive for {} already written with {} transactions", month, archived);
+            return archived;
+        }
+
+        try {
+            Files.createDirectories(archiveDir);
+            Path temp = Files.createTempFile(archiveDir, "transactions-" + month, ".tmp");
+            long written = 0;
+            try {
+                try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                    for (Iterator<ArchivedTransactionResponse> it = transactions.iterator(); it.hasNext(); ) {
+                        writer.write(objectMapper.writeValueAsString(it.next()));
+                        writer.newLine();
+                        written++;
+                    }
+                }
+                if (written != expectedCount) {
+                    throw new IllegalStateException("Exported " + written + " transactions for " + month
+                            + ", expected " + expectedCount);
+                }
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.info("Archived {} transactions for {} into {}", written, month, target);
+            return written;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write archive for " + month, ex);
+        }
+    }
+
+    public List<YearMonth> getArchivedMonths() {
+        if (!Files.isDirectory(archiveDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            return files
+                    .map(file -> FILE_NAME.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> parseMonth(matcher.group(1)))
+                    .filter(month -> month != null)
+                    .sorted()
+                    .toList();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not list archive directory " + archiveDir, ex);
+        }
+    }
+
+    /**
+     * Recorre los meses archivados entre from y to (inclusive) en orden cronológico.
+     * Los filtros de cuenta y tipo son opcionales; la búsqueda se corta al alcanzar el límite.
+     */
+    public List<ArchivedTransactionResponse> search(YearMonth from, YearMonth to, String accountNumber,
+                                                    TransactionType type, int limit) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("'limit' must be positive");
+        }
+
+        List<ArchivedTransactionResponse> results = new ArrayList<>();
+        for (YearMonth month : getArchivedMonths()) {
+            if (month.isBefore(from) || month.isAfter(to)) {
+                continue;
+            }
+            try (Stream<ArchivedTransactionResponse> archived = read(month)) {
+                Iterator<ArchivedTransactionResponse> it = archived
+                        .filter(t -> accountNumber == null || accountNumber.equals(t.accountNumber()))
+                        .filter(t -> type == null || type == t.type())
+                        .iterator();
+                while (it.hasNext() && results.size() < limit) {
+                    results.add(it.next());
+                }
+            }
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    long countArchived(YearMonth month) {
+        try (Stream<ArchivedTransactionResponse> archived = read(month)) {
+            return archived.count();
+        }
+    }
+
+    private Stream<ArchivedTransactionResponse> read(YearMonth month) {
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(fileFor(month))), StandardCharsets.UTF_8));
+            return reader.lines()
+                    .map(this::parseLine)
+                    .onClose(() -> {
+                        try {
+                            reader.close();
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read archive for " + month, ex);
+        }
+    }
+
+    private ArchivedTransactionResponse parseLine(String line) {
+        try {
+            return objectMapper.readValue(line, ArchivedTransactionResponse.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Corrupt archive line", ex);
+        }
+    }
+
+    private Path fileFor(YearMonth month) {
+        return archiveDir.resolve("transactions-" + month + ".jsonl.gz");
+    }
+
+    private YearMonth parseMonth(String value) {
+        try {
+            return YearMonth.parse(value);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.fintech.service;
+
+import com.fintech.dto.response.ArchivedTransactionResponse;
+import com.fintech.model.TransactionType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Mantenimiento de las particiones mensuales de transactions (solo PostgreSQL, ver V3).
+ * Crea por adelantado las particiones de los próximos meses y, pasada la retención,
+ * desacopla cada partición vieja, la exporta al archivo histórico y la elimina.
+ */
+@Service
+@ConditionalOnProperty(name = "transactions.partitioning.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionPartitionService {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("transactions_p(\\d{4})_(\\d{2})");
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final TransactionArchiveService transactionArchiveService;
+
+    // Meses futuros con partición ya creada
+    @Value("${transactions.partitioning.months-ahead:3}")
+    private int monthsAhead = 3;
+
+    // Meses completos que se conservan en la tabla antes de archivarse
+    @Value("${transactions.partitioning.retention-months:24}")
+    private int retentionMonths = 24;
+
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${transactions.partitioning.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!maintenanceLock.tryLock()) {
+            return;
+        }
+        try {
+            createFuturePartitions(YearMonth.now());
+            archiveExpiredPartitions(YearMonth.now().minusMonths(retentionMonths));
+        } catch (RuntimeException ex) {
+            log.error("Transaction partition maintenance failed, will retry on next run", ex);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    void createFuturePartitions(YearMonth current) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                    + " PARTITION OF transactions FOR VALUES FROM ('" + month.atDay(1)
+                    + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+    }
+
+    /**
+     * Archiva las particiones de meses anteriores a cutoff. Incluye tablas ya desacopladas
+     * en una corrida previa que falló antes de eliminarlas.
+     */
+    void archiveExpiredPartitions(YearMonth cutoff) {
+        List<String> candidates = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                "WHERE n.nspname = current_schema() AND c.relkind = 'r' AND c.relname ~ '^transactions_p[0-9]{4}_[0-9]{2}$' " +
+                "ORDER BY c.relname", String.class);
+
+        for (String table : candidates) {
+            YearMonth month = monthOf(table);
+            if (month == null || !month.isBefore(cutoff)) {
+                continue;
+            }
+            archivePartition(table, month);
+        }
+    }
+
+    private void archivePartition(String table, YearMonth month) {
+        if (isAttached(table)) {
+            jdbcTemplate.execute("ALTER TABLE transactions DETACH PARTITION " + table);
+            log.info("Detached partition {}", table);
+        }
+
+        long expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+
+        // PostgreSQL solo respeta el fetch size dentro de una transacción
+        JdbcTemplate exportTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        exportTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<ArchivedTransactionResponse> rows = exportTemplate.queryForStream(
+                    "SELECT t.id, t.account_id, a.account_number, t.type, t.amount, t.balance_after, " +
+                    "t.timestamp, t.description FROM " + table + " t JOIN accounts a ON a.id = t.account_id " +
+                    "ORDER BY t.timestamp, t.id",
+                    (rs, rowNum) -> new ArchivedTransactionResponse(
+                            rs.getString("id"),
+                            rs.getString("account_id"),
+                            rs.getString("account_number"),
+                            TransactionType.valueOf(rs.getString("type")),
+                            rs.getBigDecimal("amount"),
+                            rs.getBigDecimal("balance_after"),
+                            rs.getTimestamp("timestamp").toLocalDateTime(),
+                            rs.getString("description")))) {
+                transactionArchiveService.archiveMonth(month, rows, expected);
+            }
+        });
+
+        jdbcTemplate.execute("DROP TABLE " + table);
+        log.info("Archived and dropped partition {} ({} transactions)", table, expected);
+    }
+
+    private boolean isAttached(String table) {
+        Boolean attached = jdbcTemplate.queryForObject(
+                "SELECT c.relispartition FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace " +
+                "WHERE n.nspname = current_schema() AND c.relname = ?", Boolean.class, table);
+        return Boolean.TRUE.equals(attached);
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("transactions_p%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    static YearMonth monthOf(String table) {
+        Matcher matcher = PARTITION_NAME.matcher(table);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
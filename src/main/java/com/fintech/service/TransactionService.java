@@ -1,45 +1,116 @@
 package com.fintech.service;
 
+import com.fintech.coalescing.Coalesce;
 import com.fintech.dto.request.TransactionRequest;
+import com.fintech.dto.request.TransactionSearchRequest;
 import com.fintech.dto.response.TransactionResponse;
+import com.fintech.dto.response.TransactionSearchResponse;
+import com.fintech.event.TransactionCreatedEvent;
 import com.fintech.exception.AccountNotFoundException;
 import com.fintech.exception.DailyLimitExceededException;
 import com.fintech.exception.InactiveAccountException;
 import com.fintech.exception.InsufficientBalanceException;
 import com.fintech.exception.InvalidTransactionAmountException;
 import com.fintech.exception.TransactionNotFoundException;
+import com.fintech.metrics.TransactionMetrics;
 import com.fintech.model.Account;
 import com.fintech.model.Transaction;
 import com.fintech.model.TransactionType;
 import com.fintech.repository.AccountRepository;
+import com.fintech.repository.AccountVersion;
 import com.fintech.repository.TransactionRepository;
+import com.fintech.repository.TransactionSpecifications;
+import com.fintech.util.ETags;
+import com.fintech.util.Money;
+import com.fintech.util.UuidV7;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("fintech.service")
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionService {
 
+    private static final Money DEFAULT_MIN_AMOUNT = Money.ofCents(1_00);
+    private static final Money DEFAULT_MAX_AMOUNT = Money.ofCents(100_000_00);
+    private static final Money DEFAULT_MAX_DAILY_WITHDRAWAL = Money.ofCents(5_000_00);
+
+    public static final int DEFAULT_SEARCH_LIMIT = 50;
+    public static final int MAX_SEARCH_LIMIT = 200;
+    // Por debajo de 3 caracteres el índice de trigramas no acota la búsqueda
+    public static final int MIN_SEARCH_TEXT_LENGTH = 3;
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final SettingsService settingsService;
+    private final LedgerService ledgerService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionMetrics transactionMetrics;
+    private final RecentTransactionsCache recentTransactionsCache;
+    private final AccountService accountService;
+
+    // Rango de fechas máximo de una búsqueda admin sin cuenta ni texto
+    @Value("${transactions.search.max-range:P31D}")
+    private Duration searchMaxRange = Duration.ofDays(31);
+
+    // Valores de settings ya parseados, por texto: solo cambian cuando un admin los edita
+    private final Map<String, Money> parsedSettings = new ConcurrentHashMap<>();
 
     @Transactional
     public TransactionResponse createTransaction(TransactionRequest request) {
+        try {
+            return processTransaction(request);
+        } catch (RuntimeException ex) {
+            transactionMetrics.recordRejected(request.type(), ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Aplica una transacción encolada dentro de la transacción del lote que la procesa
+     * (ver TransactionSubmissionService). Los rechazos de negocio ocurren antes de modificar
+     * nada, así que no marcan el lote para rollback.
+     */
+    @Transactional(propagation = Propagation.MANDATORY, noRollbackFor = {
+            InvalidTransactionAmountException.class, AccountNotFoundException.class,
+            InactiveAccountException.class, DailyLimitExceededException.class,
+            InsufficientBalanceException.class})
+    public TransactionResponse applySubmission(TransactionRequest request) {
+        return createTransaction(request);
+    }
+
+    private TransactionResponse processTransaction(TransactionRequest request) {
+        // El monto se convierte una sola vez; el resto del flujo opera en centavos
+        Money amount = toMoney(request.amount());
+
         // Validate transaction amount against settings
-        validateMinAmount(request.amount());
-        validateMaxAmount(request.amount());
+        validateMinAmount(amount);
+        validateMaxAmount(amount);
 
-        Account account = accountRepository.findByAccountNumber(request.accountNumber())
+        Account account = accountRepository.findForUpdateByAccountNumber(request.accountNumber())
                 .orElseThrow(() -> new AccountNotFoundException(
                         "Account not found with number: " + request.accountNumber()));
 
@@ -50,39 +121,58 @@ public class TransactionService {
 
         // Validate daily withdrawal limit for withdrawals
         if (request.type() == TransactionType.WITHDRAW) {
-            validateDailyWithdrawalLimit(account, request.amount());
+            validateDailyWithdrawalLimit(account, amount);
         }
 
-        BigDecimal balanceAfter;
+        Money balance = Money.of(account.getBalance());
+        Money balanceAfter;
         if (request.type() == TransactionType.DEPOSIT) {
-            balanceAfter = account.getBalance().add(request.amount());
-            account.setBalance(balanceAfter);
+            balanceAfter = balance.plus(amount);
         } else if (request.type() == TransactionType.WITHDRAW) {
-            if (account.getBalance().compareTo(request.amount()) < 0) {
+            if (balance.isLessThan(amount)) {
                 throw new InsufficientBalanceException("Insufficient balance");
             }
-            balanceAfter = account.getBalance().subtract(request.amount());
-            account.setBalance(balanceAfter);
+            balanceAfter = balance.minus(amount);
         } else {
             throw new InvalidTransactionAmountException("Invalid transaction type: " + request.type());
         }
+        account.setBalance(balanceAfter.toBigDecimal());
 
         Transaction transaction = new Transaction();
         transaction.setAccount(account);
         transaction.setType(request.type());
-        transaction.setAmount(request.amount());
+        transaction.setAmount(amount.toBigDecimal());
         transaction.setDescription(request.description());
-        transaction.setBalanceAfter(balanceAfter);
+        transaction.setBalanceAfter(account.getBalance());
+        long sequence = ledgerService.nextSequence(account);
+        transaction.setSequenceNumber(sequence);
 
-        return mapToResponse(transactionRepository.save(transaction));
+        Transaction saved = transactionRepository.save(transaction);
+        ledgerService.recordEntry(account, saved);
+
+        TransactionResponse response = mapToResponse(saved);
+        eventPublisher.publishEvent(new TransactionCreatedEvent(
+                account.getId(), account.getCustomer().getId(), response, sequence));
+        return response;
     }
 
     @Transactional(readOnly = true)
     public TransactionResponse getTransactionById(String id) {
-        return mapToResponse(transactionRepository.findById(id)
+        return mapToResponse(UuidV7.parse(id).flatMap(transactionRepository::findById)
                 .orElseThrow(() -> new TransactionNotFoundException("Transaction not found with ID: " + id)));
     }
 
+    /**
+     * ETag de una transacción: su id y la última actualización del customer, cuyo nombre va en
+     * la respuesta. Un id inexistente responde 404 aunque traiga If-None-Match.
+     */
+    @Transactional(readOnly = true)
+    public String getTransactionETag(String id) {
+        return UuidV7.parse(id).flatMap(transactionRepository::findVersionById)
+                .map(version -> ETags.weak(version.transactionId(), version.customerUpdatedAt()))
+                .orElseThrow(() -> new TransactionNotFoundException("Transaction not found with ID: " + id));
+    }
+
     @Transactional(readOnly = true)
     public List<TransactionResponse> getAllTransactions() {
         return transactionRepository.findAll()
@@ -93,12 +183,15 @@ public class TransactionService {
 
     @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByAccountId(String accountId) {
-        return transactionRepository.findByAccountIdOrderByTimestampDesc(accountId)
+        return UuidV7.parse(accountId)
+                .map(transactionRepository::findByAccountIdOrderByTimestampDesc)
+                .orElse(List.of())
                 .stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Coalesce
     @Transactional(readOnly = true)
     public List<TransactionResponse> getTransactionsByAccountNumber(String accountNumber) {
         return transactionRepository.findByAccountNumberOrderByTimestampDesc(accountNumber)
@@ -107,9 +200,171 @@ public class TransactionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Últimos limit movimientos de la cuenta. Hasta la capacidad del anillo en memoria se
+     * sirven desde RecentTransactionsCache; por encima, de la base. Sin @Transactional: un
+     * acierto no toma conexión, y la consulta ya trae cuenta y customer.
+     */
+    @Coalesce
+    public List<TransactionResponse> getLatestTransactionsByAccountNumber(String accountNumber, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        if (limit > recentTransactionsCache.capacity()) {
+            return transactionRepository.findLatestByAccountNumber(accountNumber, PageRequest.of(0, limit))
+                    .stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList());
+        }
+        return recentTransactionsCache.getLatest(accountNumber, limit, () -> transactionRepository
+                .findLatestByAccountNumber(accountNumber, PageRequest.of(0, recentTransactionsCache.capacity()))
+                .stream()
+                .map(t -> new RecentTransactionsCache.Entry(t.getSequenceNumber(), mapToResponse(t)))
+                .toList());
+    }
+
+    /**
+     * Búsqueda en una cuenta del usuario por fechas, tipo, monto y texto de la descripción,
+     * paginada por cursor. La cuenta acota el recorrido a su índice.
+     */
+    @Transactional(readOnly = true)
+    public TransactionSearchResponse searchTransactions(TransactionSearchRequest request) {
+        if (request.accountNumber() == null || request.accountNumber().isBlank()) {
+            throw new IllegalArgumentException("'accountNumber' is required");
+        }
+        return search(accountService.getOwnedAccountId(request.accountNumber()), request);
+    }
+
+    /**
+     * Búsqueda admin en todas las cuentas. Sin accountNumber exige un rango de fechas de a lo sumo
+     * transactions.search.max-range, con o sin texto: el texto solo no acota cuántas filas
+     * coinciden, y todas se ordenarían para devolver la primera página.
+     */
+    @Transactional(readOnly = true)
+    public TransactionSearchResponse searchTransactionsAdmin(TransactionSearchRequest request) {
+        if (request.accountNumber() != null) {
+            UUID accountId = accountRepository.findVersionByAccountNumber(request.accountNumber())
+                    .map(AccountVersion::accountId)
+                    .orElseThrow(() -> new AccountNotFoundException(
+                            "Account not found with number: " + request.accountNumber()));
+            return search(accountId, request);
+        }
+        boolean boundedRange = request.from() != null && request.to() != null
+                && Duration.between(request.from(), request.to()).compareTo(searchMaxRange) <= 0;
+        if (!boundedRange) {
+            throw new IllegalArgumentException(
+                    "Search across accounts requires a 'from'/'to' range of at most " + searchMaxRange.toDays() + " days");
+        }
+        return search(null, request);
+    }
+
+    private TransactionSearchResponse search(UUID accountId, TransactionSearchRequest request) {
+        int limit = request.limit() != null ? request.limit() : DEFAULT_SEARCH_LIMIT;
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        if (request.from() != null && request.to() != null && !request.from().isBefore(request.to())) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if (request.minAmount() != null && request.maxAmount() != null
+                && request.minAmount().compareTo(request.maxAmount()) > 0) {
+            throw new IllegalArgumentException("'minAmount' must not exceed 'maxAmount'");
+        }
+        if (request.q() != null && request.q().strip().length() < MIN_SEARCH_TEXT_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Search text must have at least " + MIN_SEARCH_TEXT_LENGTH + " characters");
+        }
+
+        List<Specification<Transaction>> filters = new ArrayList<>();
+        filters.add(TransactionSpecifications.fetchAccountAndCustomer());
+        if (accountId != null) {
+            filters.add(TransactionSpecifications.accountIs(accountId));
+        }
+        if (request.type() != null) {
+            filters.add(TransactionSpecifications.typeIs(request.type()));
+        }
+        if (request.from() != null) {
+            filters.add(TransactionSpecifications.timestampFrom(request.from()));
+        }
+        if (request.to() != null) {
+            filters.add(TransactionSpecifications.timestampBefore(request.to()));
+        }
+        if (request.minAmount() != null) {
+            filters.add(TransactionSpecifications.amountAtLeast(request.minAmount()));
+        }
+        if (request.maxAmount() != null) {
+            filters.add(TransactionSpecifications.amountAtMost(request.maxAmount()));
+        }
+        if (request.q() != null) {
+            filters.add(TransactionSpecifications.descriptionContains(request.q().strip()));
+        }
+        if (request.cursor() != null) {
+            filters.add(decodeCursor(request.cursor()));
+        }
+
+        // Uno de más para saber si hay otra página
+        List<Transaction> rows = transactionRepository.findBy(Specification.allOf(filters),
+                query -> query.sortBy(TransactionSpecifications.NEWEST_FIRST).limit(limit + 1).all());
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+        String nextCursor = hasMore ? encodeCursor(rows.get(rows.size() - 1)) : null;
+        return new TransactionSearchResponse(
+                rows.stream().map(this::mapToResponse).toList(), nextCursor, hasMore);
+    }
+
+    // Cursor opaco: timestamp e id de la última fila de la página
+    private static String encodeCursor(Transaction last) {
+        String position = last.getTimestamp() + "_" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Specification<Transaction> decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf('_');
+            return TransactionSpecifications.after(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    UUID.fromString(position.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    /**
+     * ETag del historial de la cuenta: la secuencia del ledger (cada transacción la incrementa)
+     * y la última actualización del customer, cuyo nombre va en cada movimiento. Vacío si la
+     * cuenta no existe: el historial responde una lista vacía sin ETag. De solo lectura como el
+     * historial, para leer ETag y cuerpo de la misma base (réplica o primario).
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getAccountHistoryETag(String accountNumber) {
+        return historyETag(accountNumber);
+    }
+
+    /**
+     * ETag de los últimos movimientos: sin @Transactional, del primario, como
+     * getLatestTransactionsByAccountNumber (el anillo en memoria está al día con el primario).
+     */
+    public Optional<String> getLatestTransactionsETag(String accountNumber) {
+        return historyETag(accountNumber);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getAccountHistoryETagById(String accountId) {
+        return UuidV7.parse(accountId).flatMap(accountRepository::findVersionById)
+                .map(version -> ETags.weak(version.ledgerSequence(), version.customerUpdatedAt()));
+    }
+
+    private Optional<String> historyETag(String accountNumber) {
+        return accountRepository.findVersionByAccountNumber(accountNumber)
+                .map(version -> ETags.weak(version.ledgerSequence(), version.customerUpdatedAt()));
+    }
+
     private TransactionResponse mapToResponse(Transaction transaction) {
         return new TransactionResponse(
-                transaction.getId(),
+                transaction.getId().toString(),
                 transaction.getAccount().getAccountNumber(),
                 transaction.getAccount().getCustomer().getName(),
                 transaction.getType(),
@@ -122,56 +377,62 @@ public class TransactionService {
 
     // ==================== VALIDATION METHODS WITH SETTINGS ====================
 
-    private BigDecimal getSettingValue(String key, BigDecimal defaultValue) {
+    private Money toMoney(BigDecimal amount) {
         try {
-            var setting = settingsService.getSettingByKey(key);
-            return new BigDecimal(setting.settingValue());
-        } catch (Exception e) {
-            log.warn("Setting {} not found, using default: {}", key, defaultValue);
-            return defaultValue;
+            return Money.of(amount);
+        } catch (ArithmeticException ex) {
+            throw new InvalidTransactionAmountException("Transaction amount must have at most 2 decimal places");
         }
     }
 
-    private void validateMinAmount(BigDecimal amount) {
-        BigDecimal minAmount = getSettingValue("MIN_TRANSACTION_AMOUNT", new BigDecimal("1.00"));
-        if (amount.compareTo(minAmount) < 0) {
+    private Money getSettingValue(String key, Money defaultValue) {
+        return settingsService.findSettingValue(key)
+                .map(value -> parsedSettings.computeIfAbsent(value, v -> Money.ofRounded(new BigDecimal(v))))
+                .orElseGet(() -> {
+                    log.warn("Setting {} not found, using default: {}", key, defaultValue);
+                    return defaultValue;
+                });
+    }
+
+    private void validateMinAmount(Money amount) {
+        Money minAmount = getSettingValue("MIN_TRANSACTION_AMOUNT", DEFAULT_MIN_AMOUNT);
+        if (amount.isLessThan(minAmount)) {
             throw new InvalidTransactionAmountException(
                     String.format("Transaction amount must be at least %s", minAmount)
             );
         }
     }
 
-    private void validateMaxAmount(BigDecimal amount) {
-        BigDecimal maxAmount = getSettingValue("MAX_TRANSACTION_AMOUNT", new BigDecimal("100000.00"));
-        if (amount.compareTo(maxAmount) > 0) {
+    private void validateMaxAmount(Money amount) {
+        Money maxAmount = getSettingValue("MAX_TRANSACTION_AMOUNT", DEFAULT_MAX_AMOUNT);
+        if (amount.isGreaterThan(maxAmount)) {
             throw new InvalidTransactionAmountException(
                     String.format("Transaction amount cannot exceed %s", maxAmount)
             );
         }
     }
 
-    private void validateDailyWithdrawalLimit(Account account, BigDecimal amount) {
-        BigDecimal maxDailyWithdrawal = getSettingValue("MAX_DAILY_WITHDRAWAL", new BigDecimal("5000.00"));
+    private void validateDailyWithdrawalLimit(Account account, Money amount) {
+        Money maxDailyWithdrawal = getSettingValue("MAX_DAILY_WITHDRAWAL", DEFAULT_MAX_DAILY_WITHDRAWAL);
 
-        // Get today's withdrawals
+        // Get today's withdrawals (la suma se hace en la base, sin cargar las entidades)
         LocalDate today = LocalDate.now();
         LocalDateTime startOfDay = today.atStartOfDay();
         LocalDateTime endOfDay = today.atTime(23, 59, 59);
 
-        BigDecimal todayWithdrawals = transactionRepository
-                .findByAccountAndTypeBetweenDates(
+        Money todayWithdrawals = transactionRepository
+                .sumAmountByAccountAndTypeBetweenDates(
                         account.getAccountNumber(),
                         TransactionType.WITHDRAW,
                         startOfDay,
                         endOfDay
                 )
-                .stream()
-                .map(Transaction::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+                .map(Money::of)
+                .orElse(Money.ZERO);
 
-        BigDecimal totalWithToday = todayWithdrawals.add(amount);
+        Money totalWithToday = todayWithdrawals.plus(amount);
 
-        if (totalWithToday.compareTo(maxDailyWithdrawal) > 0) {
+        if (totalWithToday.isGreaterThan(maxDailyWithdrawal)) {
             throw new DailyLimitExceededException(
                     String.format("Daily withdrawal limit of %s exceeded. Current: %s, Attempted: %s",
                             maxDailyWithdrawal, todayWithdrawals, amount)
@@ -0,0 +1,438 @@
+package com.fintech.service;
+
+import com.fintech.dto.request.TransactionRequest;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.dto.response.TransactionSubmissionResponse;
+import com.fintech.exception.AccountNotFoundException;
+import com.fintech.exception.DailyLimitExceededException;
+import com.fintech.exception.InactiveAccountException;
+import com.fintech.exception.InsufficientBalanceException;
+import com.fintech.exception.InvalidTransactionAmountException;
+import com.fintech.exception.SubmissionQueueFullException;
+import com.fintech.exception.TransactionNotFoundException;
+import com.fintech.model.SubmissionStatus;
+import com.fintech.model.TransactionSubmission;
+import com.fintech.repository.PendingSubmission;
+import com.fintech.repository.TransactionSubmissionRepository;
+import com.fintech.util.UuidV7;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Envío asíncrono de transacciones. Cada envío se guarda como fila PENDING (la cola durable)
+ * y se encola en memoria; la cola está acotada por queue-capacity y, si está llena, el envío
+ * se rechaza en lugar de esperar.
+ * <p>
+ * Cada worker es un virtual thread con su propia cola, y las cuentas se reparten por hash:
+ * los envíos de una misma cuenta se aplican en orden y sin competir entre workers. Un worker
+ * toma hasta batch-size envíos y aplica los de cada cuenta en una sola transacción. Si esa
+ * transacción falla por algo que no es un rechazo de negocio, reintenta los envíos uno por uno.
+ * <p>
+ * Solo los rechazos de negocio (saldo, límites, cuenta) dejan el envío REJECTED de inmediato.
+ * Cualquier otra falla se reintenta con backoff exponencial hasta max-attempts; si aun así
+ * falla, un error transitorio de la base deja la fila PENDING y uno inesperado la rechaza.
+ * Un envío reintentado puede aplicarse después de otros posteriores de su misma cuenta.
+ * Al arrancar se vuelven a encolar las filas que quedaron PENDING, y un barrido periódico
+ * retoma las que llevan más de stale-after sin estar en la cola de este nodo.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionSubmissionService {
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final int RECOVERY_PAGE_SIZE = 1000;
+    private static final int MAX_REASON_LENGTH = 255;
+    private static final UUID MIN_ID = new UUID(0, 0);
+
+    private final TransactionSubmissionRepository submissionRepository;
+    private final TransactionService transactionService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${transactions.async.workers:4}")
+    private int workers = 4;
+
+    // Envíos aceptados y todavía sin procesar, sumando todas las colas
+    @Value("${transactions.async.queue-capacity:10000}")
+    private int queueCapacity = 10_000;
+
+    @Value("${transactions.async.batch-size:50}")
+    private int batchSize = 50;
+
+    @Value("${transactions.async.shutdown-timeout:10s}")
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    // Intentos por envío ante fallas que no son rechazos de negocio
+    @Value("${transactions.async.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    // Espera antes del primer reintento; se duplica en cada uno
+    @Value("${transactions.async.retry-backoff:PT1S}")
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    // Antigüedad a partir de la cual el barrido retoma una fila PENDING que no está en cola
+    @Value("${transactions.async.stale-after:PT1M}")
+    private Duration staleAfter = Duration.ofMinutes(1);
+
+    private final List<BlockingQueue<PendingSubmission>> queues = new ArrayList<>();
+    private final List<Thread> workerThreads = new ArrayList<>();
+    // Envíos en alguna cola de este nodo o esperando un reintento
+    private final Set<UUID> tracked = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Integer> failedAttempts = new ConcurrentHashMap<>();
+    private Semaphore capacity;
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        for (int i = 0; i < workers; i++) {
+            queues.add(new LinkedBlockingQueue<>());
+        }
+        capacity = new Semaphore(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofVirtual().name("transaction-submission-retry").factory());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            BlockingQueue<PendingSubmission> queue = queues.get(i);
+            workerThreads.add(Thread.ofVirtual()
+                    .name("transaction-submission-worker-" + i)
+                    .start(() -> drain(queue)));
+        }
+        Thread.ofVirtual().name("transaction-submission-recovery").start(this::recoverPending);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // Lo que quede en las colas sigue PENDING en la base y se recupera al arrancar
+        running = false;
+        retryScheduler.shutdownNow();
+        for (Thread worker : workerThreads) {
+            worker.join(shutdownTimeout);
+        }
+    }
+
+    public TransactionSubmissionResponse submit(TransactionRequest request) {
+        if (!capacity.tryAcquire()) {
+            throw new SubmissionQueueFullException("Transaction submission queue is full, please retry");
+        }
+        try {
+            TransactionSubmission submission = new TransactionSubmission();
+            submission.setAccountNumber(request.accountNumber());
+            submission.setType(request.type());
+            submission.setAmount(request.amount());
+            submission.setDescription(request.description());
+            submission.setStatus(SubmissionStatus.PENDING);
+            submission = submissionRepository.save(submission);
+
+            enqueue(new PendingSubmission(submission.getId(), submission.getAccountNumber()));
+            return mapToResponse(submission);
+        } catch (RuntimeException ex) {
+            capacity.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Estado del envío. En una transacción de escritura para leerlo del primario: el envío se
+     * consulta apenas se crea (el Location del 202) y en la réplica todavía puede no estar.
+     */
+    @Transactional
+    public TransactionSubmissionResponse getSubmission(String id) {
+        return mapToResponse(UuidV7.parse(id).flatMap(submissionRepository::findById)
+                .orElseThrow(() -> new TransactionNotFoundException("Transaction submission not found with ID: " + id)));
+    }
+
+    // ==================== WORKERS ====================
+
+    private BlockingQueue<PendingSubmission> queueFor(String accountNumber) {
+        return queues.get(Math.floorMod(accountNumber.hashCode(), queues.size()));
+    }
+
+    private void enqueue(PendingSubmission pending) {
+        tracked.add(pending.id());
+        queueFor(pending.accountNumber()).add(pending);
+    }
+
+    private void drain(BlockingQueue<PendingSubmission> queue) {
+        List<PendingSubmission> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingSubmission first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error processing transaction submissions", e);
+            } finally {
+                capacity.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void processBatch(List<PendingSubmission> batch) {
+        Map<String, List<PendingSubmission>> byAccount = batch.stream().collect(Collectors.groupingBy(
+                PendingSubmission::accountNumber, LinkedHashMap::new, Collectors.toList()));
+
+        byAccount.forEach((accountNumber, submissions) -> {
+            if (submissions.size() == 1) {
+                applyAlone(submissions.get(0));
+                return;
+            }
+            try {
+                applyInTransaction(submissions.stream().map(PendingSubmission::id).toList());
+                submissions.forEach(this::processed);
+            } catch (RuntimeException ex) {
+                log.warn("Batch of {} submissions for account {} failed, retrying one by one",
+                        submissions.size(), accountNumber, ex);
+                submissions.forEach(this::applyAlone);
+            }
+        });
+    }
+
+    private void applyAlone(PendingSubmission pending) {
+        UUID id = pending.id();
+        try {
+            applyInTransaction(List.of(id));
+            processed(pending);
+        } catch (RuntimeException ex) {
+            int attempt = failedAttempts.merge(id, 1, Integer::sum);
+            if (attempt < maxAttempts) {
+                Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempt - 1, 16));
+                log.warn("Transaction submission {} failed (attempt {} of {}), retrying in {}",
+                        id, attempt, maxAttempts, backoff, ex);
+                retryScheduler.schedule(() -> retry(pending), backoff.toMillis(), TimeUnit.MILLISECONDS);
+                return;
+            }
+            processed(pending);
+            if (isTransient(ex)) {
+                log.error("Transaction submission {} failed {} times, it stays pending for the next sweep",
+                        id, attempt, ex);
+            } else {
+                log.error("Transaction submission {} failed", id, ex);
+                markFailed(id, ex);
+            }
+        }
+    }
+
+    private void retry(PendingSubmission pending) {
+        // Sin lugar en la cola el envío sigue PENDING y lo retoma el barrido
+        if (running && capacity.tryAcquire()) {
+            queueFor(pending.accountNumber()).add(pending);
+        } else {
+            processed(pending);
+        }
+    }
+
+    private void processed(PendingSubmission pending) {
+        tracked.remove(pending.id());
+        failedAttempts.remove(pending.id());
+    }
+
+    /**
+     * Fallas de infraestructura que pueden no repetirse: timeouts, locks, conflictos de versión
+     * y conexiones que no se obtuvieron. Con estas el envío nunca se marca REJECTED.
+     */
+    private static boolean isTransient(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Aplica los envíos en orden y en una sola transacción: los movimientos y los cambios de
+     * estado de las filas se confirman juntos, así que un envío nunca queda aplicado y PENDING a la vez.
+     */
+    private void applyInTransaction(List<UUID> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<UUID, TransactionSubmission> submissions = submissionRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(TransactionSubmission::getId, Function.identity()));
+            for (UUID id : ids) {
+                TransactionSubmission submission = submissions.get(id);
+                // Ya procesado (por ejemplo, encolado también por la recuperación)
+                if (submission == null || submission.getStatus() != SubmissionStatus.PENDING) {
+                    continue;
+                }
+                try {
+                    TransactionResponse transaction = transactionService.applySubmission(toRequest(submission));
+                    submission.setStatus(SubmissionStatus.APPLIED);
+                    submission.setTransactionId(UUID.fromString(transaction.id()));
+                } catch (InvalidTransactionAmountException | AccountNotFoundException | InactiveAccountException
+                         | DailyLimitExceededException | InsufficientBalanceException ex) {
+                    // Rechazo de negocio: cualquier otra excepción sale y decide el reintento
+                    if (status.isRollbackOnly()) {
+                        throw ex;
+                    }
+                    submission.setStatus(SubmissionStatus.REJECTED);
+                    submission.setReason(truncate(ex.getMessage()));
+                }
+                submission.setProcessedAt(LocalDateTime.now());
+            }
+        });
+    }
+
+    private void markFailed(UUID id, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> submissionRepository.findById(id)
+                    .filter(submission -> submission.getStatus() == SubmissionStatus.PENDING)
+                    .ifPresent(submission -> {
+                        submission.setStatus(SubmissionStatus.REJECTED);
+                        submission.setReason(truncate("Processing failed: " + cause.getMessage()));
+                        submission.setProcessedAt(LocalDateTime.now());
+                    }));
+        } catch (RuntimeException ex) {
+            log.error("Could not mark transaction submission {} as rejected, it stays pending for the next sweep",
+                    id, ex);
+        }
+    }
+
+    /**
+     * Vuelve a encolar las filas PENDING de una ejecución anterior. Corre en su propio
+     * virtual thread y espera lugar en la cola, así que no bloquea el arranque.
+     */
+    void recoverPending() {
+        try {
+            long recovered = requeuePending(LocalDateTime.now(), true);
+            if (recovered > 0) {
+                log.info("Re-enqueued {} pending transaction submissions", recovered);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Could not recover pending transaction submissions", e);
+        }
+    }
+
+    /**
+     * Retoma las filas PENDING con más de stale-after que este nodo no tiene en cola: las que
+     * agotaron los reintentos por una falla transitoria, las que no se pudieron marcar y las que
+     * no encontraron lugar al reintentar. No espera lugar en la cola; lo que no entra queda
+     * para el próximo barrido.
+     */
+    @Scheduled(fixedDelayString = "${transactions.async.sweep-interval:PT1M}",
+            initialDelayString = "${transactions.async.sweep-interval:PT1M}")
+    public void requeueStale() {
+        if (!running) {
+            return;
+        }
+        try {
+            long requeued = requeuePending(LocalDateTime.now().minus(staleAfter), false);
+            if (requeued > 0) {
+                log.warn("Re-enqueued {} stale pending transaction submissions", requeued);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Could not re-enqueue stale transaction submissions", e);
+        }
+    }
+
+    private long requeuePending(LocalDateTime submittedBefore, boolean waitForCapacity) throws InterruptedException {
+        UUID after = MIN_ID;
+        long requeued = 0;
+        List<PendingSubmission> page;
+        do {
+            page = submissionRepository.findPendingAfter(
+                    SubmissionStatus.PENDING, after, submittedBefore, PageRequest.of(0, RECOVERY_PAGE_SIZE));
+            for (PendingSubmission pending : page) {
+                after = pending.id();
+                // Ya está en una cola de este nodo o esperando su reintento
+                if (!tracked.add(pending.id())) {
+                    continue;
+                }
+                if (waitForCapacity) {
+                    capacity.acquire();
+                } else if (!capacity.tryAcquire()) {
+                    tracked.remove(pending.id());
+                    return requeued;
+                }
+                queueFor(pending.accountNumber()).add(pending);
+                requeued++;
+            }
+        } while (page.size() == RECOVERY_PAGE_SIZE && running);
+        return requeued;
+    }
+
+    private TransactionRequest toRequest(TransactionSubmission submission) {
+        return new TransactionRequest(
+                submission.getAccountNumber(),
+                submission.getType(),
+                submission.getAmount(),
+                submission.getDescription()
+        );
+    }
+
+    private String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_REASON_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_REASON_LENGTH);
+    }
+
+    private TransactionSubmissionResponse mapToResponse(TransactionSubmission submission) {
+        return new TransactionSubmissionResponse(
+                submission.getId().toString(),
+                submission.getStatus(),
+                submission.getAccountNumber(),
+                submission.getType(),
+                submission.getAmount(),
+                submission.getTransactionId() != null ? submission.getTransactionId().toString() : null,
+                submission.getReason(),
+                submission.getSubmittedAt(),
+                submission.getProcessedAt()
+        );
+    }
+}
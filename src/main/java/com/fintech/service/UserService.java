@@ -16,6 +16,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,9 +32,16 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public List<UserResponse> getAllUsersAdmin() {
-        return userRepository.findAll()
+        List<User> users = userRepository.findAll();
+
+        // Nombres de todos los customers en una sola consulta (evita un lookup por usuario)
+        Map<String, String> namesByUserId = customerRepository.findByUserIdIn(
+                        users.stream().map(User::getId).toList())
                 .stream()
-                .map(this::mapToResponse)
+                .collect(Collectors.toMap(customer -> customer.getUser().getId(), Customer::getName));
+
+        return users.stream()
+                .map(user -> mapToResponse(user, namesByUserId.getOrDefault(user.getId(), "N/A")))
                 .collect(Collectors.toList());
     }
 
@@ -79,6 +87,10 @@ public class UserService {
 
         String name = (customer != null) ? customer.getName() : "N/A";
 
+        return mapToResponse(user, name);
+    }
+
+    private UserResponse mapToResponse(User user, String name) {
         return new UserResponse(
                 user.getId(),
                 user.getEmail(),
@@ -0,0 +1,35 @@
+package com.fintech.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.StringJoiner;
+
+/**
+ * ETags a partir de la versión de un recurso (secuencia del ledger, fechas de actualización),
+ * sin serializar la respuesta. Son débiles: identifican el estado del recurso, no los bytes
+ * enviados, así que siguen valiendo con compresión.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String weak(Object... parts) {
+        StringJoiner eTag = new StringJoiner("-", "W/\"", "\"");
+        for (Object part : parts) {
+            eTag.add(format(part));
+        }
+        return eTag.toString();
+    }
+
+    private static String format(Object part) {
+        if (part == null) {
+            return "0";
+        }
+        if (part instanceof LocalDateTime time) {
+            // Microsegundos: la precisión con que la base guarda las fechas
+            return Long.toString(time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000);
+        }
+        return part.toString();
+    }
+}
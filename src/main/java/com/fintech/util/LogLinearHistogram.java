@@ -0,0 +1,204 @@
+package com.fintech.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Histograma log-lineal de memoria fija (estilo HDR) para valores enteros no negativos.
+ * Cada potencia de dos se divide en 64 sub-buckets, por lo que el error relativo de
+ * cualquier percentil es menor a 1/64 (~1.6%). Dos histogramas se combinan sumando buckets.
+ * No es thread-safe: los llamadores sincronizan el acceso.
+ */
+public class LogLinearHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int MAX_SHIFT = Long.SIZE - SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS;
+    private static final byte ENCODING_VERSION = 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record(long value) {
+        recordCount(value, 1);
+    }
+
+    public void recordCount(long value, long count) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Histogram values must be non-negative: " + value);
+        }
+        counts[indexOf(value)] += count;
+        totalCount += count;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public void merge(LogLinearHistogram other) {
+        if (other.totalCount == 0) {
+            return;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public LogLinearHistogram copy() {
+        LogLinearHistogram copy = new LogLinearHistogram();
+        copy.merge(this);
+        return copy;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Valor aproximado del percentil indicado (0-100). Devuelve el punto medio del bucket
+     * que contiene el rango buscado, acotado al mínimo y máximo exactos registrados.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                long midpoint = lowerBound(i) + (bucketWidth(i) - 1) / 2;
+                return Math.min(Math.max(midpoint, getMin()), max);
+            }
+        }
+        return max;
+    }
+
+    // ==================== ENCODING ====================
+
+    /**
+     * Codificación dispersa: solo se escriben los buckets con conteo, como pares
+     * (delta de índice, conteo) en varint.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(ENCODING_VERSION);
+        writeVarLong(out, getMin());
+        writeVarLong(out, max);
+        int previous = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0) {
+                writeVarLong(out, i - previous);
+                writeVarLong(out, counts[i]);
+                previous = i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static LogLinearHistogram decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        if (in.get() != ENCODING_VERSION) {
+            throw new IllegalArgumentException("Unsupported histogram encoding version");
+        }
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        long encodedMin = readVarLong(in);
+        long encodedMax = readVarLong(in);
+        int index = 0;
+        while (in.hasRemaining()) {
+            index += (int) readVarLong(in);
+            long count = readVarLong(in);
+            histogram.counts[index] += count;
+            histogram.totalCount += count;
+        }
+        if (histogram.totalCount > 0) {
+            histogram.min = encodedMin;
+            histogram.max = encodedMax;
+        }
+        return histogram;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    // ==================== BUCKET LAYOUT ====================
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int mantissa = (int) (value >>> shift);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (mantissa - HALF_SUB_BUCKETS);
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int offset = index - SUB_BUCKETS;
+        int shift = offset / HALF_SUB_BUCKETS + 1;
+        long mantissa = HALF_SUB_BUCKETS + offset % HALF_SUB_BUCKETS;
+        return mantissa << shift;
+    }
+
+    private static long bucketWidth(int index) {
+        if (index < SUB_BUCKETS) {
+            return 1;
+        }
+        return 1L << ((index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LogLinearHistogram other)) {
+            return false;
+        }
+        return totalCount == other.totalCount
+                && getMin() == other.getMin()
+                && max == other.max
+                && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+}
@@ -0,0 +1,75 @@
+package com.fintech.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Monto en centavos sobre un long. Se usa en validaciones, actualización de saldos y
+ * agregaciones; BigDecimal (escala 2) queda solo en la frontera con la API y JPA.
+ * Toda la aritmética lanza ArithmeticException ante overflow en lugar de dar la vuelta.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    /**
+     * Convierte sin redondear: lanza ArithmeticException si el monto tiene más de dos
+     * decimales distintos de cero o no cabe en un long de centavos.
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(amount.movePointRight(2).longValueExact());
+    }
+
+    /**
+     * Convierte redondeando a centavos (HALF_UP), para montos que no vienen validados.
+     */
+    public static Money ofRounded(BigDecimal amount) {
+        return new Money(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * División entera con redondeo HALF_UP, igual que BigDecimal con escala 2.
+     */
+    public Money dividedBy(long divisor) {
+        long quotient = Math.divideExact(cents, divisor);
+        long remainder = Math.abs(cents % divisor);
+        if (remainder >= Math.abs(divisor) - remainder) {
+            quotient += Long.signum(cents) * Long.signum(divisor);
+        }
+        return new Money(quotient);
+    }
+
+    public boolean isLessThan(Money other) {
+        return cents < other.cents;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
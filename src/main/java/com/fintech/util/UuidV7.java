@@ -0,0 +1,73 @@
+package com.fintech.util;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUID versión 7 (RFC 9562): 48 bits de milisegundos Unix, 12 bits de contador y 62 bits
+ * aleatorios. Los ids generados en este proceso son estrictamente crecientes, por lo que
+ * las inserciones caen al final del índice de la clave primaria en lugar de dispersarse.
+ * Los bits aleatorios garantizan unicidad entre instancias, no imprevisibilidad.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    // Último (milisegundo << 12 | contador) emitido; si el reloj no avanza se incrementa el contador
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        return fromState(nextState(System.currentTimeMillis()));
+    }
+
+    /**
+     * Instante codificado en un UUID versión 7.
+     */
+    public static Instant timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+
+    /**
+     * Convierte un id recibido por la API; un valor mal formado equivale a un id inexistente.
+     */
+    public static Optional<UUID> parse(String value) {
+        if (value == null || value.length() != 36) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(value));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    static long nextState(long currentMillis) {
+        long candidate = currentMillis << COUNTER_BITS;
+        while (true) {
+            long last = LAST.get();
+            // Con el reloj detenido (o retrocediendo) se toma el siguiente contador; si se agota, avanza el milisegundo
+            long next = Math.max(candidate, last + 1);
+            if (LAST.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static UUID fromState(long state) {
+        long millis = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+        long msb = (millis << 16) | 0x7000L | counter;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,93 @@
+package db.migration.postgresql;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Búsqueda por texto en la descripción (GET /transactions/search?q=): índice de trigramas sobre
+ * lower(description), que sirve a LIKE '%texto%' sin recorrer la tabla.
+ * <p>
+ * Un CREATE INDEX sobre la tabla particionada bloquea los INSERT mientras se construye en todas
+ * las particiones, y CONCURRENTLY no se admite en tablas particionadas ni dentro de una
+ * transacción. Por eso esta migración corre fuera de transacción: crea el índice del padre con
+ * ON ONLY (vacío y todavía inválido), construye el de cada partición con CONCURRENTLY y lo
+ * adjunta. Con todas adjuntas el índice del padre pasa a válido y las particiones nuevas lo
+ * heredan. Si se interrumpe, volver a ejecutarla retoma desde donde quedó.
+ */
+public class V8__transaction_description_trigram_index extends BaseJavaMigration {
+
+    private static final String PARENT_INDEX = "idx_transactions_description_trgm";
+    private static final String INDEX_METHOD = "using gin (lower(description) gin_trgm_ops)";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            // Crear la extensión requiere permisos de owner de la base
+            statement.execute("create extension if not exists pg_trgm");
+            statement.execute("create index if not exists " + PARENT_INDEX + " on only transactions " + INDEX_METHOD);
+
+            for (String partition : partitions(connection)) {
+                String index = partition + "_description_trgm_idx";
+                // Un CONCURRENTLY interrumpido deja el índice inválido: se descarta y se vuelve a construir
+                if (isInvalid(connection, index)) {
+                    statement.execute("drop index concurrently " + index);
+                }
+                statement.execute("create index concurrently if not exists " + index + " on " + partition + " "
+                        + INDEX_METHOD);
+                if (!isAttached(connection, index)) {
+                    statement.execute("alter index " + PARENT_INDEX + " attach partition " + index);
+                }
+            }
+        }
+    }
+
+    private List<String> partitions(Connection connection) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid " +
+                     "where i.inhparent = 'transactions'::regclass order by c.relname")) {
+            while (rows.next()) {
+                partitions.add(rows.getString(1));
+            }
+        }
+        return partitions;
+    }
+
+    private boolean isInvalid(Connection connection, String index) throws SQLException {
+        return exists(connection,
+                "select 1 from pg_index i join pg_class c on c.oid = i.indexrelid " +
+                "join pg_namespace n on n.oid = c.relnamespace " +
+                "where n.nspname = current_schema() and c.relname = ? and not i.indisvalid", index);
+    }
+
+    private boolean isAttached(Connection connection, String index) throws SQLException {
+        return exists(connection,
+                "select 1 from pg_inherits i join pg_class c on c.oid = i.inhrelid " +
+                "join pg_class p on p.oid = i.inhparent " +
+                "where c.relname = ? and p.relname = '" + PARENT_INDEX + "'", index);
+    }
+
+    private boolean exists(Connection connection, String sql, String index) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, index);
+            try (ResultSet rows = statement.executeQuery()) {
+                return rows.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+-- Índices para las consultas más frecuentes (ver la versión postgresql).
+-- customers.user_id y users.email ya quedan indexados por sus constraints unique.
+
+create index idx_transactions_account_timestamp on transactions (account_id, timestamp desc);
+
+create index idx_transactions_account_type_timestamp on transactions (account_id, type, timestamp);
+
+create index idx_transactions_timestamp on transactions (timestamp);
+
+create index idx_accounts_customer_active on accounts (customer_id, active);
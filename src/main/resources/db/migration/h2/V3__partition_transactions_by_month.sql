@@ -0,0 +1,2 @@
+-- El particionado mensual de transactions existe solo en PostgreSQL (ver la versión postgresql).
+-- H2 no soporta particiones: esta versión mantiene alineada la numeración de migraciones.
@@ -0,0 +1,14 @@
+-- Ids de accounts y transactions como uuid nativo (ver la versión postgresql).
+
+alter table transactions drop constraint fk_transactions_account;
+
+alter table accounts alter column id set data type uuid;
+
+alter table transactions alter column id set data type uuid;
+
+alter table transactions alter column account_id set data type uuid;
+
+alter table transactions
+    add constraint fk_transactions_account
+    foreign key (account_id)
+    references accounts;
@@ -0,0 +1,18 @@
+-- Cola durable de transacciones asíncronas (ver la versión postgresql).
+
+create table transaction_submissions (
+    amount numeric(19,2) not null,
+    processed_at timestamp(6),
+    submitted_at timestamp(6) not null,
+    version bigint,
+    id uuid not null,
+    transaction_id uuid,
+    account_number varchar(255) not null,
+    description varchar(255),
+    reason varchar(255),
+    status varchar(255) not null check (status in ('PENDING','APPLIED','REJECTED')),
+    type varchar(255) not null check (type in ('DEPOSIT','WITHDRAW')),
+    primary key (id)
+);
+
+create index idx_transaction_submissions_status on transaction_submissions (status, id);
@@ -0,0 +1,49 @@
+-- Ledger por cuenta y snapshots de saldo (ver la versión postgresql).
+
+alter table accounts add column ledger_sequence bigint not null default 0;
+
+alter table transactions add column sequence_number bigint;
+
+merge into transactions t
+using (
+    select id, row_number() over (partition by account_id order by timestamp, id) as sequence_number
+    from transactions
+) s
+on t.id = s.id
+when matched then update set t.sequence_number = s.sequence_number;
+
+alter table transactions alter column sequence_number set not null;
+
+update accounts a
+set ledger_sequence = coalesce((select max(t.sequence_number) from transactions t where t.account_id = a.id), 0);
+
+create index idx_transactions_account_sequence on transactions (account_id, sequence_number);
+
+create table balance_snapshots (
+    balance numeric(19,2) not null,
+    sequence_number bigint not null,
+    timestamp timestamp(6) not null,
+    account_id uuid not null,
+    id uuid not null,
+    primary key (id),
+    constraint uk_balance_snapshots_account_sequence unique (account_id, sequence_number),
+    constraint fk_balance_snapshots_account foreign key (account_id) references accounts
+);
+
+create index idx_balance_snapshots_account_timestamp on balance_snapshots (account_id, timestamp);
+
+-- Snapshot en la secuencia actual con el saldo actual, que siempre es exacto. Un saldo de
+-- apertura calculado como saldo menos las transacciones de la tabla sería incorrecto si parte
+-- de ellas ya se archivó; lo anterior al primer snapshot queda sin reconstruir.
+insert into balance_snapshots (id, account_id, sequence_number, balance, timestamp)
+select random_uuid(), a.id, a.ledger_sequence, a.balance,
+       coalesce((select max(t.timestamp) from transactions t where t.account_id = a.id), a.created_at)
+from accounts a;
+
+-- Snapshots históricos cada 100 entradas (ledger.snapshot-interval por defecto): balance_after
+-- es el saldo exacto después de cada transacción
+insert into balance_snapshots (id, account_id, sequence_number, balance, timestamp)
+select random_uuid(), t.account_id, t.sequence_number, t.balance_after, t.timestamp
+from transactions t
+join accounts a on a.id = t.account_id
+where mod(t.sequence_number, 100) = 0 and t.sequence_number < a.ledger_sequence;
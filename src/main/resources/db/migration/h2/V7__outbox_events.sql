@@ -0,0 +1,16 @@
+-- Outbox transaccional (ver la versión postgresql).
+
+create table outbox_events (
+    created_at timestamp(6) not null,
+    feed_sequence bigint,
+    id bigint generated by default as identity,
+    published_at timestamp(6),
+    aggregate_id uuid not null,
+    aggregate_type varchar(255) not null,
+    event_type varchar(255) not null,
+    payload varchar(4000) not null,
+    primary key (id)
+);
+
+create unique index idx_outbox_events_feed_sequence on outbox_events (feed_sequence);
+create index idx_outbox_events_published_at on outbox_events (published_at);
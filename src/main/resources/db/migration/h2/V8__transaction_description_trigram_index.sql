@@ -0,0 +1,2 @@
+-- El índice de trigramas para la búsqueda por texto existe solo en PostgreSQL (ver la versión
+-- postgresql). H2 no tiene pg_trgm: esta versión mantiene alineada la numeración de migraciones.
@@ -0,0 +1,108 @@
+-- Esquema base: equivalente al generado por Hibernate (ddl-auto=update) antes de Flyway.
+-- Las bases existentes se marcan con baseline en esta versión y solo aplican las siguientes.
+
+create table accounts (
+    active boolean not null,
+    balance numeric(19,2) not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    account_number varchar(255) not null,
+    customer_id varchar(255) not null,
+    id varchar(255) not null,
+    primary key (id),
+    constraint uk_accounts_account_number unique (account_number)
+);
+
+create table amount_histograms (
+    histogram_day date not null,
+    total_count bigint not null,
+    updated_at timestamp(6),
+    version bigint,
+    counts bytea not null,
+    id varchar(255) not null,
+    type varchar(255) not null check (type in ('DEPOSIT','WITHDRAW')),
+    primary key (id),
+    constraint uk_amount_histograms_day_type unique (histogram_day, type)
+);
+
+create table customers (
+    active boolean not null,
+    date_of_birth date,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    address varchar(255),
+    dni varchar(255),
+    id varchar(255) not null,
+    kyc_documents varchar(255),
+    kyc_status varchar(255) not null check (kyc_status in ('PENDING','VERIFIED','REJECTED','REQUIRES_UPDATE')),
+    name varchar(255) not null,
+    nationality varchar(255),
+    occupation varchar(255),
+    phone varchar(255),
+    user_id varchar(255) not null,
+    primary key (id),
+    constraint uk_customers_user_id unique (user_id)
+);
+
+create table roles (
+    id bigint generated by default as identity,
+    name varchar(255) not null check (name in ('ROLE_USER','ROLE_ADMIN')),
+    primary key (id),
+    constraint uk_roles_name unique (name)
+);
+
+create table system_settings (
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    description varchar(255),
+    id varchar(255) not null,
+    setting_key varchar(255) not null,
+    setting_value varchar(255) not null,
+    primary key (id),
+    constraint uk_system_settings_setting_key unique (setting_key)
+);
+
+create table transactions (
+    amount numeric(19,2) not null,
+    balance_after numeric(38,2) not null,
+    timestamp timestamp(6) not null,
+    account_id varchar(255) not null,
+    description varchar(255),
+    id varchar(255) not null,
+    type varchar(255) not null check (type in ('DEPOSIT','WITHDRAW')),
+    primary key (id)
+);
+
+create table users (
+    active boolean not null,
+    created_at timestamp(6) not null,
+    role_id bigint not null,
+    updated_at timestamp(6),
+    email varchar(255) not null,
+    id varchar(255) not null,
+    password varchar(255) not null,
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create index idx_accounts_balance on accounts (balance);
+
+alter table accounts
+    add constraint fk_accounts_customer
+    foreign key (customer_id)
+    references customers;
+
+alter table customers
+    add constraint fk_customers_user
+    foreign key (user_id)
+    references users;
+
+alter table transactions
+    add constraint fk_transactions_account
+    foreign key (account_id)
+    references accounts;
+
+alter table users
+    add constraint fk_users_role
+    foreign key (role_id)
+    references roles;
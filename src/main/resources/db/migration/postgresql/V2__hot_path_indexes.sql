@@ -0,0 +1,19 @@
+-- Índices para las consultas más frecuentes. CONCURRENTLY evita bloquear escrituras
+-- sobre tablas ya pobladas; Flyway ejecuta estas sentencias fuera de transacción.
+-- customers.user_id y users.email ya quedan indexados por sus constraints unique.
+
+-- Historial de una cuenta (findByAccountIdOrderByTimestampDesc / findByAccountNumberOrderByTimestampDesc)
+create index concurrently if not exists idx_transactions_account_timestamp
+    on transactions (account_id, timestamp desc);
+
+-- Historial filtrado por tipo y rango de fechas (findByAccountAndTypeBetweenDates)
+create index concurrently if not exists idx_transactions_account_type_timestamp
+    on transactions (account_id, type, timestamp);
+
+-- Actividad diaria del ranking (summarizeDailyActivity)
+create index concurrently if not exists idx_transactions_timestamp
+    on transactions (timestamp);
+
+-- Cuentas de un cliente (findByCustomerId / findByCustomerIdAndActive)
+create index concurrently if not exists idx_accounts_customer_active
+    on accounts (customer_id, active);
@@ -0,0 +1,48 @@
+-- transactions pasa a ser una tabla particionada por mes sobre timestamp.
+-- La clave primaria debe incluir la columna de partición; id sigue siendo un UUID único.
+-- Las particiones futuras y el archivado de las antiguas los gestiona TransactionPartitionService.
+
+alter table transactions rename to transactions_unpartitioned;
+alter table transactions_unpartitioned rename constraint fk_transactions_account to fk_transactions_unpartitioned_account;
+alter index idx_transactions_account_timestamp rename to idx_transactions_unpartitioned_account_timestamp;
+alter index idx_transactions_account_type_timestamp rename to idx_transactions_unpartitioned_account_type_timestamp;
+alter index idx_transactions_timestamp rename to idx_transactions_unpartitioned_timestamp;
+
+create table transactions (
+    amount numeric(19,2) not null,
+    balance_after numeric(38,2) not null,
+    timestamp timestamp(6) not null,
+    account_id varchar(255) not null,
+    description varchar(255),
+    id varchar(255) not null,
+    type varchar(255) not null check (type in ('DEPOSIT','WITHDRAW')),
+    primary key (id, timestamp),
+    constraint fk_transactions_account foreign key (account_id) references accounts
+) partition by range (timestamp);
+
+create index idx_transactions_account_timestamp on transactions (account_id, timestamp desc);
+create index idx_transactions_account_type_timestamp on transactions (account_id, type, timestamp);
+create index idx_transactions_timestamp on transactions (timestamp);
+
+-- Filas fuera de cualquier partición mensual (no debería recibir datos en operación normal)
+create table transactions_default partition of transactions default;
+
+-- Una partición por mes desde la transacción más antigua hasta tres meses en el futuro
+do $$
+declare
+    month_start date := date_trunc('month', coalesce((select min(timestamp) from transactions_unpartitioned), now()));
+    last_month date := date_trunc('month', now()) + interval '3 months';
+begin
+    while month_start <= last_month loop
+        execute format('create table %I partition of transactions for values from (%L) to (%L)',
+                       'transactions_p' || to_char(month_start, 'YYYY_MM'),
+                       month_start, (month_start + interval '1 month')::date);
+        month_start := (month_start + interval '1 month')::date;
+    end loop;
+end $$;
+
+insert into transactions (amount, balance_after, timestamp, account_id, description, id, type)
+select amount, balance_after, timestamp, account_id, description, id, type
+from transactions_unpartitioned;
+
+drop table transactions_unpartitioned;
@@ -0,0 +1,15 @@
+-- Ids de accounts y transactions como uuid nativo (16 bytes en lugar de un varchar de 36).
+-- Los ids existentes (UUID v4 en texto) se convierten tal cual; los nuevos son UUID v7 (ver UuidV7).
+
+alter table transactions drop constraint fk_transactions_account;
+
+alter table accounts alter column id type uuid using id::uuid;
+
+alter table transactions
+    alter column id type uuid using id::uuid,
+    alter column account_id type uuid using account_id::uuid;
+
+alter table transactions
+    add constraint fk_transactions_account
+    foreign key (account_id)
+    references accounts;
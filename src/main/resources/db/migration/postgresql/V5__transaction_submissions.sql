@@ -0,0 +1,19 @@
+-- Cola durable de las transacciones enviadas en modo asíncrono (POST /transactions/submissions).
+-- Los workers leen las pendientes por (status, id); el id es UUID v7, así que el orden es el de envío.
+
+create table transaction_submissions (
+    amount numeric(19,2) not null,
+    processed_at timestamp(6),
+    submitted_at timestamp(6) not null,
+    version bigint,
+    id uuid not null,
+    transaction_id uuid,
+    account_number varchar(255) not null,
+    description varchar(255),
+    reason varchar(255),
+    status varchar(255) not null check (status in ('PENDING','APPLIED','REJECTED')),
+    type varchar(255) not null check (type in ('DEPOSIT','WITHDRAW')),
+    primary key (id)
+);
+
+create index idx_transaction_submissions_status on transaction_submissions (status, id);
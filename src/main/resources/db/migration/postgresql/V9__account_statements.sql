@@ -0,0 +1,20 @@
+-- Estados de cuenta mensuales (ver StatementService): uno por cuenta y mes cerrado, con los
+-- movimientos comprimidos. La constraint unique sirve la lectura por cuenta y mes y evita
+-- duplicados si dos nodos generan el mismo mes.
+
+create table account_statements (
+    closing_balance numeric(19,2) not null,
+    deposit_count integer not null,
+    deposit_total numeric(19,2) not null,
+    opening_balance numeric(19,2) not null,
+    period_start date not null,
+    withdrawal_count integer not null,
+    withdrawal_total numeric(19,2) not null,
+    generated_at timestamp(6) not null,
+    account_id uuid not null,
+    id uuid not null,
+    line_items bytea not null,
+    primary key (id),
+    constraint uk_account_statements_account_period unique (account_id, period_start),
+    constraint fk_account_statements_account foreign key (account_id) references accounts
+);
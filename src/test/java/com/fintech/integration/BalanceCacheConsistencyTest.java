@@ -0,0 +1,199 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fintech.service.BalanceCache;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Consistencia del cache de saldos: lecturas intercaladas con escrituras (aceptadas y
+ * rechazadas), recargas forzadas, cambios de estado y escritores y lectores concurrentes.
+ * El saldo leído nunca puede ser anterior a una escritura que el mismo cliente ya vio confirmada.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BalanceCacheConsistencyTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BalanceCache balanceCache;
+
+    private String token;
+    private String accountId;
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = register();
+        JsonNode account = createAccount(token, "1000.00");
+        accountId = account.get("id").asText();
+        accountNumber = account.get("accountNumber").asText();
+    }
+
+    @Test
+    @DisplayName("Debe leer después de cada escritura el saldo confirmado, con o sin recarga desde la base")
+    void balance_InterleavedWithWrites_MatchesLastCommit() throws Exception {
+        // Arrange: retiros que exceden el saldo se rechazan y no deben mover el cache
+        String[] operations = {"+100.00", "-50.25", "-5000.00", "+1.75", "evict", "-200.00", "+10.00",
+                "-900.00", "evict", "+1.00", "-862.50"};
+        BigDecimal expected = new BigDecimal("1000.00");
+        assertThat(cachedBalance(token)).isEqualByComparingTo(expected);
+
+        for (String operation : operations) {
+            // Act
+            if (operation.equals("evict")) {
+                balanceCache.evict(accountNumber);
+            } else {
+                BigDecimal amount = new BigDecimal(operation.substring(1));
+                boolean withdraw = operation.startsWith("-");
+                int status = transaction(withdraw ? "WITHDRAW" : "DEPOSIT", amount);
+                if (status == 201) {
+                    expected = withdraw ? expected.subtract(amount) : expected.add(amount);
+                }
+            }
+
+            // Assert
+            assertThat(cachedBalance(token)).as("after %s", operation).isEqualByComparingTo(expected);
+        }
+        assertThat(expected).isEqualByComparingTo("0.00");
+        assertThat(databaseBalance()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    @DisplayName("Debe mantener el saldo y el control de dueño al activar y desactivar la cuenta")
+    void balance_AcrossStateChanges_StaysConsistent() throws Exception {
+        // Arrange
+        transaction("DEPOSIT", new BigDecimal("25.00"));
+        assertThat(cachedBalance(token)).isEqualByComparingTo("1025.00");
+        String otherToken = register();
+
+        // Act
+        mockMvc.perform(patch("/accounts/" + accountId + "/deactivate").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        BigDecimal afterDeactivate = cachedBalance(token);
+        int rejected = transaction("DEPOSIT", new BigDecimal("5.00"));
+        mockMvc.perform(patch("/accounts/" + accountId + "/activate").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        transaction("WITHDRAW", new BigDecimal("25.00"));
+
+        // Assert
+        assertThat(afterDeactivate).isEqualByComparingTo("1025.00");
+        assertThat(rejected).isEqualTo(400);
+        assertThat(cachedBalance(token)).isEqualByComparingTo("1000.00");
+        mockMvc.perform(get("/accounts/number/" + accountNumber + "/balance")
+                        .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Debe ver cada escritura propia y nunca retroceder con escritores y lectores concurrentes")
+    void balance_ConcurrentWritersAndReaders_NeverGoesBack() throws Exception {
+        // Arrange
+        int writers = 4;
+        int depositsPerWriter = 15;
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 3);
+
+        try {
+            // Act: cada escritor lee después de su depósito; los lectores solo leen; otro fuerza recargas
+            List<Future<?>> writerTasks = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                writerTasks.add(executor.submit(() -> {
+                    for (int i = 0; i < depositsPerWriter; i++) {
+                        BigDecimal balanceAfter = deposit(new BigDecimal("1.00"));
+                        BigDecimal read = cachedBalance(token);
+                        if (read.compareTo(balanceAfter) < 0) {
+                            violations.add("read " + read + " after own write of " + balanceAfter);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            List<Future<?>> readerTasks = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readerTasks.add(executor.submit(() -> {
+                    BigDecimal last = BigDecimal.ZERO;
+                    while (writing.get()) {
+                        BigDecimal read = cachedBalance(token);
+                        if (read.compareTo(last) < 0) {
+                            violations.add("read " + read + " after " + last);
+                        }
+                        last = read;
+                    }
+                    return null;
+                }));
+            }
+            Future<?> evictor = executor.submit(() -> {
+                while (writing.get()) {
+                    balanceCache.evict(accountNumber);
+                    Thread.sleep(5);
+                }
+                return null;
+            });
+            for (Future<?> task : writerTasks) {
+                task.get();
+            }
+            writing.set(false);
+            for (Future<?> task : readerTasks) {
+                task.get();
+            }
+            evictor.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert: las recargas forzadas hacen que los lectores pasen por la base y por el cache
+        BigDecimal expected = new BigDecimal("1000.00").add(BigDecimal.valueOf(writers * depositsPerWriter));
+        assertThat(violations).isEmpty();
+        assertThat(cachedBalance(token)).isEqualByComparingTo(expected);
+        assertThat(databaseBalance()).isEqualByComparingTo(expected);
+    }
+
+    private BigDecimal deposit(BigDecimal amount) throws Exception {
+        return transaction(token, accountNumber, "DEPOSIT", amount).get("balanceAfter").decimalValue();
+    }
+
+    private int transaction(String type, BigDecimal amount) throws Exception {
+        return transactionStatus(token, accountNumber, type, amount);
+    }
+
+    // Lee el endpoint de saldo, el que se sirve desde BalanceCache
+    private BigDecimal cachedBalance(String bearer) throws Exception {
+        MvcResult result = mockMvc.perform(get("/accounts/number/" + accountNumber + "/balance")
+                        .header("Authorization", "Bearer " + bearer))
+                .andExpect(status().isOk())
+                .andReturn();
+        return new BigDecimal(result.getResponse().getContentAsString());
+    }
+
+    private BigDecimal databaseBalance() {
+        return jdbcTemplate.queryForObject(
+                "SELECT balance FROM accounts WHERE account_number = ?", BigDecimal.class, accountNumber);
+    }
+}
@@ -0,0 +1,114 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.json.StreamingCborHttpMessageConverter;
+import com.fintech.json.StreamingJsonHttpMessageConverter;
+import com.fintech.json.StreamingSmileHttpMessageConverter;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Listados en JSON, Smile y CBOR: con json.binary.enabled el mismo endpoint responde en el
+ * formato pedido en Accept y los tres decodifican a la misma lista.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "json.binary.enabled=true"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BinaryContentNegotiationTest extends IntegrationTestSupport {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final TypeReference<List<TransactionResponse>> TRANSACTIONS = new TypeReference<>() {};
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String token = register();
+        String accountNumber = createAccount(token, "1000.00").get("accountNumber").asText();
+        transaction(token, accountNumber, "DEPOSIT", "25.50");
+        adminToken = loginAdmin();
+    }
+
+    @Test
+    @DisplayName("Debe responder el listado de transacciones en JSON, Smile y CBOR con el mismo contenido")
+    void adminTransactions_NegotiatesFormat() throws Exception {
+        // Act
+        MvcResult json = list(MediaType.APPLICATION_JSON);
+        MvcResult smile = list(SMILE);
+        MvcResult cbor = list(MediaType.APPLICATION_CBOR);
+
+        // Assert
+        assertThat(smile.getResponse().getContentType()).isEqualTo(SMILE.toString());
+        assertThat(cbor.getResponse().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR_VALUE);
+        List<TransactionResponse> fromJson = objectMapper.readValue(json.getResponse().getContentAsByteArray(), TRANSACTIONS);
+        List<TransactionResponse> fromSmile = objectMapper.copyWith(new SmileFactory())
+                .readValue(smile.getResponse().getContentAsByteArray(), TRANSACTIONS);
+        List<TransactionResponse> fromCbor = objectMapper.copyWith(new CBORFactory())
+                .readValue(cbor.getResponse().getContentAsByteArray(), TRANSACTIONS);
+        assertThat(fromJson).isNotEmpty();
+        assertThat(fromSmile).isEqualTo(fromJson);
+        assertThat(fromCbor).isEqualTo(fromJson);
+        assertThat(smile.getResponse().getContentAsByteArray().length)
+                .isLessThan(json.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("Debe mantener el formato JSON de fechas y montos en los listados")
+    void adminTransactions_JsonShapeUnchanged() throws Exception {
+        // Act
+        JsonNode first = objectMapper.readTree(list(MediaType.APPLICATION_JSON).getResponse().getContentAsString()).get(0);
+
+        // Assert
+        assertThat(first.get("timestamp").isTextual()).isTrue();
+        assertThat(first.get("amount").isNumber()).isTrue();
+        assertThat(first.get("type").asText()).isIn("DEPOSIT", "WITHDRAW");
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar los converters de Jackson por los que escriben listas de records")
+    void messageConverters_AreStreaming() {
+        // Act
+        List<Class<?>> converters = handlerAdapter.getMessageConverters().stream()
+                .<Class<?>>map(Object::getClass)
+                .toList();
+
+        // Assert
+        assertThat(converters).contains(StreamingJsonHttpMessageConverter.class,
+                StreamingSmileHttpMessageConverter.class, StreamingCborHttpMessageConverter.class);
+        assertThat(converters).doesNotContain(MappingJackson2HttpMessageConverter.class,
+                MappingJackson2SmileHttpMessageConverter.class, MappingJackson2CborHttpMessageConverter.class);
+    }
+
+    private MvcResult list(MediaType accept) throws Exception {
+        return mockMvc.perform(get("/admin/transactions")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .accept(accept))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
+}
@@ -0,0 +1,166 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fintech.support.IntegrationTestSupport;
+import com.fintech.util.ETags;
+import com.fintech.util.UuidV7;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * GET condicional: con el ETag vigente las lecturas responden 304 sin cuerpo, y cualquier
+ * escritura que cambie la respuesta (transacción, activación, perfil del customer) cambia el ETag.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest extends IntegrationTestSupport {
+
+    private String token;
+    private String accountId;
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = register();
+        JsonNode account = createAccount(token, "500.00");
+        accountId = account.get("id").asText();
+        accountNumber = account.get("accountNumber").asText();
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 con el ETag vigente y cambiarlo con cada transacción")
+    void conditionalGet_AfterTransaction_ChangesETag() throws Exception {
+        String[] paths = {
+                "/accounts/" + accountId,
+                "/accounts/number/" + accountNumber,
+                "/accounts/number/" + accountNumber + "/balance",
+                "/transactions/account/" + accountId,
+                "/transactions/account/number/" + accountNumber,
+                "/transactions/account/number/" + accountNumber + "?limit=5"
+        };
+        for (String path : paths) {
+            // Arrange
+            String eTag = eTag(path);
+
+            // Act
+            MvcResult notModified = conditionalGet(path, eTag);
+            transaction(token, accountNumber, "DEPOSIT", "10.00");
+            MvcResult modified = conditionalGet(path, eTag);
+
+            // Assert
+            assertThat(notModified.getResponse().getStatus()).as(path).isEqualTo(304);
+            assertThat(notModified.getResponse().getContentAsString()).as(path).isEmpty();
+            assertThat(modified.getResponse().getStatus()).as(path).isEqualTo(200);
+            assertThat(modified.getResponse().getHeader(HttpHeaders.ETAG)).as(path).isNotEqualTo(eTag);
+            assertThat(modified.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).as(path).contains("no-cache");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe cambiar el ETag de la cuenta al desactivarla y el del historial al editar el perfil")
+    void conditionalGet_AfterStateOrProfileChange_ChangesETag() throws Exception {
+        // Arrange
+        String accountETag = eTag("/accounts/" + accountId);
+        String historyETag = eTag("/transactions/account/number/" + accountNumber);
+
+        // Act
+        mockMvc.perform(patch("/accounts/" + accountId + "/deactivate").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/customer/profile")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Renamed Customer"))))
+                .andExpect(status().isOk());
+
+        // Assert
+        assertThat(conditionalGet("/accounts/" + accountId, accountETag).getResponse().getStatus()).isEqualTo(200);
+        MvcResult history = conditionalGet("/transactions/account/number/" + accountNumber, historyETag);
+        assertThat(history.getResponse().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 403 a otro cliente aunque envíe el ETag vigente")
+    void conditionalGet_OtherCustomer_IsForbidden() throws Exception {
+        // Arrange
+        String eTag = eTag("/accounts/number/" + accountNumber);
+        String otherToken = register();
+
+        // Act & Assert
+        mockMvc.perform(get("/accounts/number/" + accountNumber)
+                        .header("Authorization", "Bearer " + otherToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Debe revalidar la transacción con 304 y devolverla con el nombre nuevo al editar el perfil")
+    void getTransaction_AfterProfileChange_ChangesETag() throws Exception {
+        // Arrange
+        String transactionId = transaction(token, accountNumber, "DEPOSIT", "10.00").get("id").asText();
+        MvcResult first = conditionalGet("/transactions/" + transactionId, null);
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act
+        MvcResult revalidated = conditionalGet("/transactions/" + transactionId, eTag);
+        mockMvc.perform(put("/customer/profile")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Renamed Customer"))))
+                .andExpect(status().isOk());
+        MvcResult renamed = conditionalGet("/transactions/" + transactionId, eTag);
+
+        // Assert
+        assertThat(first.getResponse().getStatus()).isEqualTo(200);
+        assertThat(first.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).contains("no-cache", "private");
+        assertThat(revalidated.getResponse().getStatus()).isEqualTo(304);
+        assertThat(renamed.getResponse().getStatus()).isEqualTo(200);
+        assertThat(renamed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(eTag);
+        assertThat(objectMapper.readTree(renamed.getResponse().getContentAsString()).get("accountOwner").asText())
+                .isEqualTo("Renamed Customer");
+    }
+
+    @Test
+    @DisplayName("Debe responder 404 a un GET condicional de una transacción inexistente")
+    void getTransaction_UnknownId_IsNotFound() throws Exception {
+        // Arrange: un ETag cualquiera no evita la lectura de la fila
+        String unknownId = UuidV7.generate().toString();
+
+        // Act
+        MvcResult result = conditionalGet("/transactions/" + unknownId, ETags.weak(unknownId));
+
+        // Assert
+        assertThat(result.getResponse().getStatus()).isEqualTo(404);
+    }
+
+    private String eTag(String path) throws Exception {
+        MvcResult result = conditionalGet(path, null);
+        assertThat(result.getResponse().getStatus()).as(path).isEqualTo(200);
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).as(path).startsWith("W/\"");
+        return eTag;
+    }
+
+    private MvcResult conditionalGet(String path, String eTag) throws Exception {
+        var request = get(path).header("Authorization", "Bearer " + token);
+        if (eTag != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, eTag);
+        }
+        return mockMvc.perform(request).andReturn();
+    }
+}
@@ -0,0 +1,119 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Saldo a una fecha o secuencia reconstruido desde snapshots. Con un snapshot cada 3 entradas
+ * ninguna consulta debe reproducir más de 2.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "ledger.snapshot-interval=3"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LedgerTest extends IntegrationTestSupport {
+
+    private static final String[] AMOUNTS = {"100.00", "-50.00", "25.50", "-10.25", "300.00", "-1.75", "40.00"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private String accountNumber;
+    private final List<JsonNode> transactions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Arrange: apertura con 1000.00 y una transacción por monto (negativo = retiro)
+        token = register();
+        accountNumber = createAccount(token, "1000.00").get("accountNumber").asText();
+        for (String amount : AMOUNTS) {
+            boolean withdraw = amount.startsWith("-");
+            transactions.add(transaction(token, accountNumber,
+                    withdraw ? "WITHDRAW" : "DEPOSIT", withdraw ? amount.substring(1) : amount));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe numerar el ledger sin huecos y guardar un snapshot cada N entradas")
+    void transactions_AreSequencedAndSnapshotted() {
+        List<Long> sequences = jdbcTemplate.queryForList(
+                "SELECT t.sequence_number FROM transactions t JOIN accounts a ON a.id = t.account_id " +
+                "WHERE a.account_number = ? ORDER BY t.sequence_number", Long.class, accountNumber);
+        List<Long> snapshots = jdbcTemplate.queryForList(
+                "SELECT s.sequence_number FROM balance_snapshots s JOIN accounts a ON a.id = s.account_id " +
+                "WHERE a.account_number = ? ORDER BY s.sequence_number", Long.class, accountNumber);
+
+        assertThat(sequences).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(snapshots).containsExactly(0L, 3L, 6L);
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir el saldo después de cada número de secuencia")
+    void balanceAsOf_EverySequence_MatchesBalanceAfter() throws Exception {
+        assertThat(balanceAsOf("sequence=0").get("balance").decimalValue()).isEqualByComparingTo("1000.00");
+
+        for (int i = 0; i < transactions.size(); i++) {
+            // Act
+            JsonNode balance = balanceAsOf("sequence=" + (i + 1));
+
+            // Assert
+            assertThat(balance.get("balance").decimalValue())
+                    .isEqualByComparingTo(transactions.get(i).get("balanceAfter").decimalValue());
+            assertThat(balance.get("sequence").asLong()).isEqualTo(i + 1);
+            assertThat(balance.get("replayedEntries").asInt()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir el saldo a una fecha con el snapshot anterior más cercano")
+    void balanceAsOf_Timestamp_UsesNearestSnapshot() throws Exception {
+        // Arrange: justo después de la quinta transacción (secuencia 5, snapshot 3)
+        LocalDateTime afterFifth = LocalDateTime.parse(transactions.get(4).get("timestamp").asText());
+
+        // Act
+        JsonNode balance = balanceAsOf("timestamp=" + afterFifth);
+        JsonNode current = balanceAsOf("timestamp=" + LocalDateTime.now().plusMinutes(1));
+
+        // Assert
+        assertThat(balance.get("balance").decimalValue())
+                .isEqualByComparingTo(transactions.get(4).get("balanceAfter").decimalValue());
+        assertThat(balance.get("snapshotSequence").asLong()).isEqualTo(3);
+        assertThat(balance.get("replayedEntries").asInt()).isEqualTo(2);
+        assertThat(current.get("balance").decimalValue()).isEqualByComparingTo("1403.50");
+        assertThat(current.get("sequence").asLong()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar consultas antes de la apertura o con parámetros inválidos")
+    void balanceAsOf_InvalidQuery_ReturnsBadRequest() throws Exception {
+        expectBadRequest("timestamp=2000-01-01T00:00:00");
+        expectBadRequest("sequence=8");
+        expectBadRequest("sequence=1&timestamp=2000-01-01T00:00:00");
+    }
+
+    private JsonNode balanceAsOf(String query) throws Exception {
+        return getJson("/accounts/number/" + accountNumber + "/balance/as-of?" + query, token);
+    }
+
+    private void expectBadRequest(String query) throws Exception {
+        mockMvc.perform(get("/accounts/number/" + accountNumber + "/balance/as-of?" + query)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+}
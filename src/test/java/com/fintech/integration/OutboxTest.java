@@ -0,0 +1,180 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fintech.dto.response.ChangeEventResponse;
+import com.fintech.outbox.OutboxSink;
+import com.fintech.service.OutboxRelay;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Outbox de punta a punta: los cambios confirmados aparecen en el change feed en orden,
+ * los rechazados no, y el relay entrega cada lote a los sinks hasta que lo aceptan.
+ * En el perfil test el relay programado corre solo al arrancar; los tests lo invocan a mano.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OutboxTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private RecordingSink sink;
+
+    private String adminToken;
+    private String token;
+    private String accountNumber;
+    private long cursor;
+
+    @TestConfiguration
+    static class SinkConfig {
+        @Bean
+        RecordingSink recordingSink() {
+            return new RecordingSink();
+        }
+    }
+
+    static class RecordingSink implements OutboxSink {
+        final List<ChangeEventResponse> received = new CopyOnWriteArrayList<>();
+        final AtomicBoolean failNext = new AtomicBoolean();
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void publish(List<ChangeEventResponse> events) {
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("Sink unavailable");
+            }
+            received.addAll(events);
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        adminToken = loginAdmin();
+        token = register();
+
+        // Posición actual del feed, para leer solo lo que crea cada test
+        outboxRelay.relay();
+        cursor = lastSequence();
+        sink.received.clear();
+    }
+
+    @Test
+    @DisplayName("Debe publicar en el change feed, en orden, solo los cambios confirmados")
+    void changes_ContainCommittedEventsInOrder() throws Exception {
+        // Arrange
+        JsonNode account = createAccount(token, "100.00");
+        String accountId = account.get("id").asText();
+        accountNumber = account.get("accountNumber").asText();
+        transaction("DEPOSIT", "50.00", 201);
+        transaction("WITHDRAW", "500.00", 400);
+        transaction("WITHDRAW", "20.00", 201);
+
+        // Act
+        outboxRelay.relay();
+        List<JsonNode> events = readFeed(cursor, 1);
+
+        // Assert
+        assertThat(events).extracting(e -> e.get("eventType").asText())
+                .containsExactly("ACCOUNT_CREATED", "TRANSACTION_CREATED", "TRANSACTION_CREATED");
+        assertThat(events).extracting(e -> e.get("sequence").asLong()).isSorted().doesNotHaveDuplicates();
+        assertThat(events.get(0).get("aggregateId").asText()).isEqualTo(accountId);
+        assertThat(events.get(1).get("payload").get("transaction").get("amount").decimalValue())
+                .isEqualByComparingTo("50.00");
+        assertThat(events.get(2).get("payload").get("transaction").get("type").asText()).isEqualTo("WITHDRAW");
+        assertThat(sink.received).extracting(ChangeEventResponse::sequence)
+                .containsExactlyElementsOf(events.stream().map(e -> e.get("sequence").asLong()).toList());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_events WHERE feed_sequence > ? AND published_at IS NULL",
+                Long.class, cursor)).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe reintentar el lote completo si un sink falla")
+    void relay_SinkFailure_RetriesBatch() throws Exception {
+        // Arrange
+        accountNumber = createAccount(token, "100.00").get("accountNumber").asText();
+        transaction("DEPOSIT", "10.00", 201);
+        sink.failNext.set(true);
+
+        // Act
+        outboxRelay.relay();
+        List<ChangeEventResponse> afterFailure = List.copyOf(sink.received);
+        outboxRelay.relay();
+
+        // Assert: el feed no depende de la entrega a los sinks
+        assertThat(afterFailure).isEmpty();
+        assertThat(readFeed(cursor, 100)).hasSize(2);
+        assertThat(sink.received).extracting(ChangeEventResponse::eventType)
+                .containsExactly("ACCOUNT_CREATED", "TRANSACTION_CREATED");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 400 un límite o un cursor fuera de rango")
+    void changes_InvalidLimitOrCursor_IsRejected() throws Exception {
+        mockMvc.perform(get("/admin/transactions/changes").param("limit", "5000")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/admin/transactions/changes").param("after", "-1")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long lastSequence() throws Exception {
+        JsonNode page = getFeedPage(0, 1000);
+        long last = page.get("nextCursor").asLong();
+        while (page.get("hasMore").asBoolean()) {
+            page = getFeedPage(last, 1000);
+            last = page.get("nextCursor").asLong();
+        }
+        return last;
+    }
+
+    // Recorre el feed desde after siguiendo nextCursor con páginas de pageSize
+    private List<JsonNode> readFeed(long after, int pageSize) throws Exception {
+        List<JsonNode> events = new ArrayList<>();
+        JsonNode page;
+        do {
+            page = getFeedPage(after, pageSize);
+            page.get("events").forEach(events::add);
+            after = page.get("nextCursor").asLong();
+        } while (page.get("hasMore").asBoolean());
+        return events;
+    }
+
+    private JsonNode getFeedPage(long after, int limit) throws Exception {
+        return getJson("/admin/transactions/changes?after=" + after + "&limit=" + limit, adminToken);
+    }
+
+    private void transaction(String type, String amount, int expectedStatus) throws Exception {
+        assertThat(transactionStatus(token, accountNumber, type, amount)).isEqualTo(expectedStatus);
+    }
+}
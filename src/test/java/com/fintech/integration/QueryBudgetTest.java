@@ -0,0 +1,90 @@
+package com.fintech.integration;
+
+import com.fintech.support.EnforceQueryBudget;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Los listados crecen con los datos: con varios clientes, cuentas y transacciones
+ * ninguno debe exceder su @QueryBudget (un N+1 lo haría fallar).
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EnforceQueryBudget
+class QueryBudgetTest extends IntegrationTestSupport {
+
+    private static final int CUSTOMERS = 8;
+    private static final int ACCOUNTS_PER_CUSTOMER = 3;
+    private static final int TRANSACTIONS_PER_ACCOUNT = 4;
+
+    private String customerToken;
+    private List<String> accountNumbers;
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Arrange: varios clientes para que un N+1 supere cualquier presupuesto fijo
+        for (int c = 0; c < CUSTOMERS; c++) {
+            customerToken = register();
+            accountNumbers = new ArrayList<>();
+            for (int a = 0; a < ACCOUNTS_PER_CUSTOMER; a++) {
+                String accountNumber = createAccount(customerToken, "1000.00").get("accountNumber").asText();
+                for (int t = 0; t < TRANSACTIONS_PER_ACCOUNT; t++) {
+                    transaction(customerToken, accountNumber, "DEPOSIT", "10.00");
+                }
+                accountNumbers.add(accountNumber);
+            }
+        }
+        adminToken = loginAdmin();
+    }
+
+    @Test
+    @DisplayName("Los listados del cliente respetan su presupuesto de sentencias")
+    void customerListings_WithinBudget() throws Exception {
+        getOk("/accounts", customerToken);
+        getOk("/accounts/active", customerToken);
+        getOk("/transactions", customerToken);
+        getOk("/transactions/account/number/" + accountNumbers.get(0), customerToken);
+    }
+
+    @Test
+    @DisplayName("Los listados de administración respetan su presupuesto de sentencias")
+    void adminListings_WithinBudget() throws Exception {
+        getOk("/admin/users", adminToken);
+        getOk("/admin/customers", adminToken);
+        getOk("/admin/accounts", adminToken);
+        getOk("/admin/transactions", adminToken);
+    }
+
+    @Test
+    @DisplayName("Fuera de producción la respuesta informa sentencias y tiempo JDBC")
+    void response_IncludesQueryHeaders() throws Exception {
+        MvcResult result = mockMvc.perform(get("/accounts").header("Authorization", "Bearer " + customerToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("X-Query-Count"))
+                .andExpect(header().exists("X-Query-Time-Ms"))
+                .andReturn();
+
+        assertThat(Integer.parseInt(result.getResponse().getHeader("X-Query-Count"))).isPositive();
+    }
+
+    private void getOk(String path, String token) throws Exception {
+        mockMvc.perform(get(path).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,231 @@
+package com.fintech.integration;
+
+import com.fintech.datasource.ReplicaLagMonitor;
+import com.fintech.dto.response.AmountDistributionResponse;
+import com.fintech.dto.response.DashboardStatisticsResponse;
+import com.fintech.model.TransactionType;
+import com.fintech.service.AmountDistributionService;
+import com.fintech.service.ReportsService;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Réplica de lectura con dos bases H2: la réplica es una copia del primario tomada en cada
+ * test (SCRIPT / RUNSCRIPT), que no recibe las escrituras posteriores. Un saldo distinto en
+ * cada base muestra de cuál se leyó. El atraso se simula con la tabla que lee lag-query.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "datasource.replica.lag-query=SELECT lag_seconds FROM replica_lag",
+        "datasource.replica.max-lag=PT5S",
+        "datasource.replica.lag-check-interval=PT1H",
+        "reports.dashboard.max-staleness=PT0S"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest extends IntegrationTestSupport {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    private ReportsService reportsService;
+
+    @Autowired
+    private AmountDistributionService amountDistributionService;
+
+    @TempDir
+    private Path tempDir;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private String token;
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = register();
+        accountNumber = createAccount(token, "1000.00").get("accountNumber").asText();
+
+        // Arrange común: réplica al día salvo el saldo de la cuenta, que quedó atrás
+        replicate();
+        replica.update("UPDATE accounts SET balance = 1.00 WHERE account_number = ?", accountNumber);
+        setReplicaLag(0);
+    }
+
+    @Test
+    @DisplayName("Debe leer de la réplica y escribir en el primario")
+    void readOnlyTransactions_GoToReplica() throws Exception {
+        // Act
+        BigDecimal before = accountBalance();
+        BigDecimal balanceAfter = transaction(token, accountNumber, "DEPOSIT", "10.00")
+                .get("balanceAfter").decimalValue();
+        BigDecimal after = accountBalance();
+
+        // Assert
+        assertThat(before).isEqualByComparingTo("1.00");
+        assertThat(balanceAfter).isEqualByComparingTo("1010.00");
+        assertThat(after).isEqualByComparingTo("1.00");
+        assertThat(balanceIn(jdbcTemplate)).isEqualByComparingTo("1010.00");
+        assertThat(balanceIn(replica)).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario mientras la réplica está atrasada y volver a ella al ponerse al día")
+    void replicaLagging_FallsBackToPrimary() throws Exception {
+        // Act
+        setReplicaLag(30);
+        BigDecimal whileLagging = accountBalance();
+        setReplicaLag(1);
+        BigDecimal caughtUp = accountBalance();
+
+        // Assert
+        assertThat(whileLagging).isEqualByComparingTo("1000.00");
+        assertThat(caughtUp).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario si no puede medir el atraso de la réplica")
+    void replicaUnreachable_FallsBackToPrimary() throws Exception {
+        // Arrange
+        replica.execute("DROP TABLE replica_lag");
+
+        // Act
+        lagMonitor.check();
+
+        // Assert
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(accountBalance()).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("Debe leer el ETag de la misma base que el cuerpo, con la réplica atrás o atrasada")
+    void conditionalGet_ETagAndBodyFromSameDatabase() throws Exception {
+        String[] paths = {"/accounts/number/" + accountNumber, "/transactions/account/number/" + accountNumber};
+        for (String path : paths) {
+            // Arrange
+            setReplicaLag(0);
+            String eTag = conditionalGet(path, null).getResponse().getHeader(HttpHeaders.ETAG);
+            transaction(token, accountNumber, "DEPOSIT", "10.00");
+
+            // Act
+            MvcResult fromReplica = conditionalGet(path, eTag);
+            setReplicaLag(30);
+            MvcResult fromPrimary = conditionalGet(path, eTag);
+
+            // Assert: la réplica no vio el depósito, el primario sí
+            assertThat(fromReplica.getResponse().getStatus()).as(path).isEqualTo(304);
+            assertThat(fromPrimary.getResponse().getStatus()).as(path).isEqualTo(200);
+            assertThat(fromPrimary.getResponse().getHeader(HttpHeaders.ETAG)).as(path).isNotEqualTo(eTag);
+        }
+        setReplicaLag(0);
+        MvcResult account = conditionalGet("/accounts/number/" + accountNumber, null);
+        assertThat(objectMapper.readTree(account.getResponse().getContentAsString()).get("balance").decimalValue())
+                .isEqualByComparingTo("1.00");
+        assertThat(conditionalGet("/accounts/number/" + accountNumber,
+                account.getResponse().getHeader(HttpHeaders.ETAG)).getResponse().getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("Debe encontrar el envío asíncrono al seguir el Location del 202 aunque la réplica no lo tenga")
+    void submissionStatus_ReadFromPrimary() throws Exception {
+        // Act
+        MvcResult accepted = mockMvc.perform(post("/transactions/submissions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "accountNumber", accountNumber, "type", "DEPOSIT", "amount", "5.00"))))
+                .andExpect(status().isAccepted())
+                .andReturn();
+        MvcResult submission = mockMvc.perform(get(accepted.getResponse().getHeader(HttpHeaders.LOCATION))
+                        .header("Authorization", "Bearer " + token))
+                .andReturn();
+
+        // Assert
+        assertThat(submission.getResponse().getStatus()).isEqualTo(200);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM transaction_submissions WHERE account_number = ?",
+                Long.class, accountNumber)).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario el dashboard y la distribución de montos, que suman estado en memoria")
+    void dashboardAndDistribution_ReadFromPrimary() throws Exception {
+        // Arrange: el depósito y su histograma quedan en el primario, la réplica no los recibe
+        transaction(token, accountNumber, "DEPOSIT", "10.00");
+        amountDistributionService.flush();
+        LocalDate today = LocalDate.now();
+
+        // Act
+        DashboardStatisticsResponse dashboard = reportsService.getDashboardStatistics();
+        List<AmountDistributionResponse> distribution = amountDistributionService.getDistribution(
+                today, today, TransactionType.DEPOSIT, List.of(50.0));
+
+        // Assert
+        assertThat(dashboard.accountStats().totalBalance())
+                .isEqualByComparingTo(jdbcTemplate.queryForObject("SELECT SUM(balance) FROM accounts", BigDecimal.class));
+        assertThat(distribution.get(0).count()).isEqualTo(jdbcTemplate.queryForObject(
+                "SELECT total_count FROM amount_histograms WHERE histogram_day = ? AND type = 'DEPOSIT'",
+                Long.class, today));
+    }
+
+    // Copia completa del primario en la réplica
+    private void replicate() {
+        String script = tempDir.resolve("primary.sql").toString();
+        jdbcTemplate.execute("SCRIPT NOSETTINGS TO '" + script + "'");
+        replica.execute("DROP ALL OBJECTS");
+        replica.execute("RUNSCRIPT FROM '" + script + "'");
+        replica.execute("CREATE TABLE replica_lag (lag_seconds DOUBLE PRECISION NOT NULL)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    private void setReplicaLag(double seconds) {
+        replica.update("UPDATE replica_lag SET lag_seconds = ?", seconds);
+        lagMonitor.check();
+    }
+
+    private MvcResult conditionalGet(String path, String eTag) throws Exception {
+        var request = get(path).header("Authorization", "Bearer " + token);
+        if (eTag != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, eTag);
+        }
+        return mockMvc.perform(request).andReturn();
+    }
+
+    private BigDecimal accountBalance() throws Exception {
+        return balance(token, accountNumber);
+    }
+
+    private BigDecimal balanceIn(JdbcTemplate database) {
+        return database.queryForObject(
+                "SELECT balance FROM accounts WHERE account_number = ?", BigDecimal.class, accountNumber);
+    }
+}
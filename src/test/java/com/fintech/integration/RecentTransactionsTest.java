@@ -0,0 +1,95 @@
+package com.fintech.integration;
+
+import com.fintech.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Últimos movimientos desde memoria: cada escritura confirmada se ve en la lectura siguiente
+ * sin volver a la base, y un limit mayor que el anillo se resuelve con una consulta.
+ */
+@SpringBootTest(properties = {"spring.jpa.show-sql=false", "transactions.recent.capacity=3"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RecentTransactionsTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String token;
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = register();
+        accountNumber = createAccount(token, "1000.00").get("accountNumber").asText();
+    }
+
+    @Test
+    @DisplayName("Debe ver cada escritura en la lectura siguiente sirviéndola desde memoria")
+    void latest_AfterEachWrite_IsServedFromMemory() throws Exception {
+        // Arrange: la primera lectura carga la cuenta (todavía sin movimientos)
+        assertThat(latest(3)).isEmpty();
+        double hitsBefore = hits();
+
+        // Act
+        List<List<String>> reads = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            postJson("/transactions", token, Map.of(
+                    "accountNumber", accountNumber, "type", "DEPOSIT", "amount", i + ".00", "description", "d" + i));
+            reads.add(latest(2));
+        }
+
+        // Assert
+        assertThat(reads).containsExactly(
+                List.of("d1"), List.of("d2", "d1"), List.of("d3", "d2"), List.of("d4", "d3"));
+        assertThat(hits() - hitsBefore).isEqualTo(4.0);
+        assertThat(latest(10)).containsExactly("d4", "d3", "d2", "d1");
+    }
+
+    @Test
+    @DisplayName("Debe devolver el nombre nuevo del titular después de editar el perfil")
+    void latest_AfterProfileChange_ShowsNewOwnerName() throws Exception {
+        // Arrange: el anillo ya guarda el movimiento con el nombre anterior
+        postJson("/transactions", token, Map.of(
+                "accountNumber", accountNumber, "type", "DEPOSIT", "amount", "1.00", "description", "d1"));
+        latest(1);
+
+        // Act
+        mockMvc.perform(put("/customer/profile")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Renamed Customer"))))
+                .andExpect(status().isOk());
+
+        // Assert
+        assertThat(getJson("/transactions/account/number/" + accountNumber + "?limit=1", token)
+                .get(0).get("accountOwner").asText()).isEqualTo("Renamed Customer");
+    }
+
+    private List<String> latest(int limit) throws Exception {
+        List<String> descriptions = new ArrayList<>();
+        getJson("/transactions/account/number/" + accountNumber + "?limit=" + limit, token)
+                .forEach(t -> descriptions.add(t.get("description").asText()));
+        return descriptions;
+    }
+
+    private double hits() {
+        return meterRegistry.get("fintech.transactions.recent.cache").tag("result", "hit").counter().count();
+    }
+}
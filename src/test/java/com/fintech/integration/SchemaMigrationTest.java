@@ -0,0 +1,163 @@
+package com.fintech.integration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * El esquema de tests sale de las migraciones H2 (ddl-auto=validate): si una entidad
+ * no coincide con las migraciones el contexto no arranca. Los planes de H2 indican
+ * el índice elegido como comentario, por ejemplo {@code PUBLIC.IDX_...: ACCOUNT_ID = ?1}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Debe aplicar todas las migraciones versionadas")
+    void shouldApplyAllMigrations() {
+        // Act & Assert
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("9");
+    }
+
+    @Test
+    @DisplayName("Historial por número de cuenta debe resolverse por índice sin recorrer transactions")
+    void accountHistoryShouldUseAccountIndex() {
+        // Act
+        String plan = explain("""
+                SELECT t.* FROM transactions t JOIN accounts a ON a.id = t.account_id
+                WHERE a.account_number = '1234567890'
+                ORDER BY t.timestamp DESC""");
+
+        // Assert: H2 crea además un índice propio para la FK (account_id) y lo prefiere porque
+        // su planner no aprovecha el orden del índice compuesto; PostgreSQL solo tiene el compuesto
+        assertThat(plan)
+                .contains("UK_ACCOUNTS_ACCOUNT_NUMBER")
+                .containsPattern("(IDX_TRANSACTIONS_ACCOUNT_TIMESTAMP|FK_TRANSACTIONS_ACCOUNT_INDEX_\\w+): ACCOUNT_ID = A.ID")
+                .doesNotContain("tableScan");
+        assertThat(indexColumns("IDX_TRANSACTIONS_ACCOUNT_TIMESTAMP"))
+                .containsExactly("ACCOUNT_ID ASC", "TIMESTAMP DESC");
+    }
+
+    @Test
+    @DisplayName("Historial por tipo y rango de fechas debe usar el índice (account_id, type, timestamp)")
+    void typeAndDateRangeShouldUseAccountTypeTimestampIndex() {
+        // Act
+        String plan = explain("""
+                SELECT t.* FROM transactions t JOIN accounts a ON a.id = t.account_id
+                WHERE a.account_number = '1234567890'
+                  AND t.type = 'DEPOSIT'
+                  AND t.timestamp BETWEEN TIMESTAMP '2025-01-01 00:00:00' AND TIMESTAMP '2025-02-01 00:00:00'
+                ORDER BY t.timestamp DESC""");
+
+        // Assert
+        assertThat(plan).contains("IDX_TRANSACTIONS_ACCOUNT_TYPE_TIMESTAMP");
+    }
+
+    @Test
+    @DisplayName("Actividad diaria por rango de fechas debe usar el índice de timestamp")
+    void dailyActivityShouldUseTimestampIndex() {
+        // Act
+        String plan = explain("""
+                SELECT t.account_id, COUNT(*), SUM(t.amount) FROM transactions t
+                WHERE t.timestamp >= TIMESTAMP '2025-01-01 00:00:00' AND t.timestamp < TIMESTAMP '2025-02-01 00:00:00'
+                GROUP BY t.account_id""");
+
+        // Assert
+        assertThat(plan).contains("IDX_TRANSACTIONS_TIMESTAMP");
+    }
+
+    @Test
+    @DisplayName("Cuentas activas de un cliente deben usar el índice (customer_id, active)")
+    void customerAccountsShouldUseCustomerIndex() {
+        // Act
+        String plan = explain("SELECT * FROM accounts WHERE customer_id = 'c-1' AND active = TRUE");
+
+        // Assert
+        assertThat(plan).contains("IDX_ACCOUNTS_CUSTOMER_ACTIVE");
+    }
+
+    @Test
+    @DisplayName("Búsquedas por usuario y por email deben usar los índices unique")
+    void userLookupsShouldUseUniqueIndexes() {
+        // Act
+        String customerPlan = explain("SELECT * FROM customers WHERE user_id = 'u-1'");
+        String userPlan = explain("SELECT * FROM users WHERE email = 'user@fintech.com'");
+
+        // Assert
+        assertThat(customerPlan).contains("UK_CUSTOMERS_USER_ID");
+        assertThat(userPlan).contains("UK_USERS_EMAIL");
+    }
+
+    @Test
+    @DisplayName("V6 debe sembrar el ledger con el saldo actual aunque falten transacciones archivadas")
+    void ledgerBackfill_SeedsCurrentBalance() {
+        // Arrange: base en V5 con una cuenta que abrió con 1000.00 y cuyo primer depósito
+        // (+100.00) ya se archivó; en la tabla quedan +100.00 y -50.00
+        String url = "jdbc:h2:mem:ledgerbackfill;DB_CLOSE_DELAY=-1";
+        migrate(url, "5");
+        JdbcTemplate database = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        database.update("INSERT INTO roles (name) VALUES ('ROLE_USER')");
+        database.update("INSERT INTO users (id, email, password, active, created_at, role_id) " +
+                "SELECT 'u-1', 'ledger@fintech.com', 'x', TRUE, TIMESTAMP '2025-01-01 00:00:00', id FROM roles");
+        database.update("INSERT INTO customers (id, user_id, name, active, kyc_status, created_at) " +
+                "VALUES ('c-1', 'u-1', 'Ledger', TRUE, 'PENDING', TIMESTAMP '2025-01-01 00:00:00')");
+        database.update("INSERT INTO accounts (id, account_number, balance, active, customer_id, created_at) VALUES " +
+                "(RANDOM_UUID(), '0000000001', 1150.00, TRUE, 'c-1', TIMESTAMP '2025-01-01 00:00:00'), " +
+                "(RANDOM_UUID(), '0000000002', 300.00, TRUE, 'c-1', TIMESTAMP '2025-01-02 00:00:00')");
+        database.update("INSERT INTO transactions (id, account_id, type, amount, balance_after, timestamp) " +
+                "SELECT RANDOM_UUID(), id, 'DEPOSIT', 100.00, 1200.00, TIMESTAMP '2025-03-01 00:00:00' " +
+                "FROM accounts WHERE account_number = '0000000001'");
+        database.update("INSERT INTO transactions (id, account_id, type, amount, balance_after, timestamp) " +
+                "SELECT RANDOM_UUID(), id, 'WITHDRAW', 50.00, 1150.00, TIMESTAMP '2025-03-02 00:00:00' " +
+                "FROM accounts WHERE account_number = '0000000001'");
+
+        // Act
+        migrate(url, "6");
+
+        // Assert: un snapshot por cuenta en su secuencia actual con el saldo actual, ninguno inventado
+        List<String> snapshots = database.queryForList(
+                "SELECT a.account_number || ' ' || s.sequence_number || ' ' || s.balance || ' ' || s.timestamp " +
+                "FROM balance_snapshots s JOIN accounts a ON a.id = s.account_id ORDER BY a.account_number",
+                String.class);
+        assertThat(snapshots).containsExactly(
+                "0000000001 2 1150.00 2025-03-02 00:00:00",
+                "0000000002 0 300.00 2025-01-02 00:00:00");
+        database.execute("DROP ALL OBJECTS");
+    }
+
+    private void migrate(String url, String target) {
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration/h2")
+                .target(target)
+                .load()
+                .migrate();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    private List<String> indexColumns(String indexName) {
+        return jdbcTemplate.queryForList(
+                "SELECT column_name || ' ' || ordering_specification FROM information_schema.index_columns " +
+                "WHERE index_name = ? ORDER BY ordinal_position", String.class, indexName);
+    }
+}
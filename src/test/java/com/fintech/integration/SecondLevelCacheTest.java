@@ -0,0 +1,124 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fintech.support.IntegrationTestSupport;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cache de segundo nivel: las lecturas repetidas se resuelven en el cache (aciertos en las
+ * métricas de cada región) y los cambios hechos por un admin se ven en la lectura siguiente.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecondLevelCacheTest extends IntegrationTestSupport {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String adminToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        adminToken = loginAdmin();
+    }
+
+    @Test
+    @DisplayName("Debe servir el customer desde el cache y reflejar el cambio de KYC hecho por un admin")
+    void customer_CachedById_FollowsAdminUpdate() throws Exception {
+        // Arrange
+        String token = register();
+        String customerId = getJson("/customer/profile", token).get("id").asText();
+        getJson("/admin/customers/" + customerId, adminToken);
+        double hitsBefore = hits("customers");
+
+        // Act
+        JsonNode cached = getJson("/admin/customers/" + customerId, adminToken);
+        send(patch("/admin/customers/" + customerId + "/kyc"), adminToken, Map.of("kycStatus", "VERIFIED"));
+        JsonNode updated = getJson("/admin/customers/" + customerId, adminToken);
+
+        // Assert
+        assertThat(hits("customers")).isGreaterThan(hitsBefore);
+        assertThat(cached.get("kycStatus").asText()).isEqualTo("PENDING");
+        assertThat(updated.get("kycStatus").asText()).isEqualTo("VERIFIED");
+    }
+
+    @Test
+    @DisplayName("Debe aplicar en la transacción siguiente el límite que un admin cambia")
+    void setting_QueryCache_InvalidatedByAdminUpdate() throws Exception {
+        // Arrange
+        String token = register();
+        String accountNumber = createAccount(token, "1000.00").get("accountNumber").asText();
+        postJson("/admin/settings", adminToken, Map.of(
+                "settingKey", "MIN_TRANSACTION_AMOUNT", "settingValue", "50.00", "description", "Monto mínimo"));
+
+        try {
+            // Act
+            int belowMinimum = transactionStatus(token, accountNumber, "DEPOSIT", "10.00");
+            int cachedRead = transactionStatus(token, accountNumber, "DEPOSIT", "10.00");
+            send(put("/admin/settings/MIN_TRANSACTION_AMOUNT"), adminToken, Map.of(
+                    "settingKey", "MIN_TRANSACTION_AMOUNT", "settingValue", "5.00", "description", "Monto mínimo"));
+            int afterUpdate = transactionStatus(token, accountNumber, "DEPOSIT", "10.00");
+
+            // Assert
+            assertThat(belowMinimum).isEqualTo(400);
+            assertThat(cachedRead).isEqualTo(400);
+            assertThat(afterUpdate).isEqualTo(201);
+        } finally {
+            mockMvc.perform(delete("/admin/settings/MIN_TRANSACTION_AMOUNT")
+                    .header("Authorization", "Bearer " + adminToken));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe resolver desde el cache de consultas el rol que busca cada registro")
+    void roleLookup_ResolvedFromQueryCache() throws Exception {
+        // Arrange
+        register();
+        double hitsBefore = hits("default-query-results-region");
+
+        // Act
+        register();
+
+        // Assert
+        assertThat(hits("default-query-results-region")).isGreaterThan(hitsBefore);
+        assertThat(meterRegistry.get("fintech.cache.l2.hit.ratio")
+                .tag("region", "default-query-results-region").gauge().value()).isGreaterThan(0.0);
+    }
+
+    private double hits(String region) {
+        FunctionCounter counter = meterRegistry.find("cache.gets")
+                .tag("cache", region).tag("result", "hit").functionCounter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    // PATCH / PUT autenticados con cuerpo JSON
+    private JsonNode send(MockHttpServletRequestBuilder request, String token, Map<String, ?> body) throws Exception {
+        request.header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
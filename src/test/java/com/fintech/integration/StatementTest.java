@@ -0,0 +1,186 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Estados de cuenta mensuales: generación incremental de un mes cerrado, saldos y totales
+ * contra los movimientos, meses sin movimientos y control de dueño. Las cuentas se llevan a
+ * meses anteriores reescribiendo sus fechas en la base.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatementTest extends IntegrationTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private String adminToken;
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = register();
+        adminToken = loginAdmin();
+        accountNumber = createAccount(token, "1000.00").get("accountNumber").asText();
+    }
+
+    @Test
+    @DisplayName("Debe generar el estado del mes con saldos, totales y movimientos, y no repetirlo")
+    void generate_ClosedMonth_BuildsStatementOnce() throws Exception {
+        // Arrange
+        YearMonth month = YearMonth.now().minusMonths(2);
+        transaction("DEPOSIT", "250.00");
+        transaction("WITHDRAW", "100.50");
+        transaction("DEPOSIT", "10.25");
+        moveToMonth(month);
+
+        // Act
+        JsonNode first = generate(month);
+        JsonNode second = generate(month);
+
+        // Assert
+        assertThat(first.get("generated").asInt()).isPositive();
+        assertThat(second.get("generated").asInt()).isZero();
+        JsonNode statement = statement(token, month);
+        assertThat(statement.get("openingBalance").decimalValue()).isEqualByComparingTo("1000.00");
+        assertThat(statement.get("closingBalance").decimalValue()).isEqualByComparingTo("1159.75");
+        assertThat(statement.get("totals").get(0).get("type").asText()).isEqualTo("DEPOSIT");
+        assertThat(statement.get("totals").get(0).get("count").asInt()).isEqualTo(2);
+        assertThat(statement.get("totals").get(0).get("amount").decimalValue()).isEqualByComparingTo("260.25");
+        assertThat(statement.get("totals").get(1).get("count").asInt()).isEqualTo(1);
+        assertThat(statement.get("totals").get(1).get("amount").decimalValue()).isEqualByComparingTo("100.50");
+        List<Long> sequences = new ArrayList<>();
+        statement.get("lines").forEach(line -> sequences.add(line.get("sequence").asLong()));
+        assertThat(sequences).containsExactly(1L, 2L, 3L);
+        assertThat(statement.get("lines").get(2).get("balanceAfter").decimalValue()).isEqualByComparingTo("1159.75");
+    }
+
+    @Test
+    @DisplayName("Debe arrastrar el saldo a los meses sin movimientos y listar los meses disponibles")
+    void generate_MonthWithoutTransactions_KeepsBalance() throws Exception {
+        // Arrange
+        YearMonth active = YearMonth.now().minusMonths(3);
+        YearMonth quiet = active.plusMonths(1);
+        transaction("WITHDRAW", "300.00");
+        moveToMonth(active);
+
+        // Act
+        generate(active);
+        generate(quiet);
+
+        // Assert
+        JsonNode statement = statement(token, quiet);
+        assertThat(statement.get("openingBalance").decimalValue()).isEqualByComparingTo("700.00");
+        assertThat(statement.get("closingBalance").decimalValue()).isEqualByComparingTo("700.00");
+        assertThat(statement.get("lines")).isEmpty();
+        JsonNode months = getJson("/accounts/number/" + accountNumber + "/statements", token);
+        assertThat(months.get(0).asText()).isEqualTo(quiet.toString());
+        assertThat(months.get(1).asText()).isEqualTo(active.toString());
+    }
+
+    @Test
+    @DisplayName("Debe deducir el saldo de un mes sin movimientos del primer movimiento posterior si no hay snapshot previo")
+    void generate_QuietMonthBeforeOnlySnapshot_UsesNextTransaction() throws Exception {
+        // Arrange: como una cuenta anterior a V6, el único snapshot es el de su último movimiento
+        YearMonth active = YearMonth.now().minusMonths(3);
+        YearMonth quiet = active.plusMonths(1);
+        transaction("WITHDRAW", "300.00");
+        transaction("DEPOSIT", "50.00");
+        moveToMonth(active);
+        String accountId = jdbcTemplate.queryForObject(
+                "SELECT CAST(id AS VARCHAR) FROM accounts WHERE account_number = ?", String.class, accountNumber);
+        jdbcTemplate.update("UPDATE transactions SET timestamp = ? WHERE CAST(account_id AS VARCHAR) = ? "
+                + "AND sequence_number = 2", quiet.plusMonths(1).atDay(5).atTime(9, 0), accountId);
+        jdbcTemplate.update("DELETE FROM balance_snapshots WHERE CAST(account_id AS VARCHAR) = ?", accountId);
+        jdbcTemplate.update("INSERT INTO balance_snapshots (id, account_id, sequence_number, balance, timestamp) "
+                + "SELECT RANDOM_UUID(), account_id, sequence_number, balance_after, timestamp FROM transactions "
+                + "WHERE CAST(account_id AS VARCHAR) = ? AND sequence_number = 2", accountId);
+
+        // Act
+        JsonNode result = generate(quiet);
+
+        // Assert
+        assertThat(result.get("failed").asInt()).isZero();
+        JsonNode statement = statement(token, quiet);
+        assertThat(statement.get("openingBalance").decimalValue()).isEqualByComparingTo("700.00");
+        assertThat(statement.get("closingBalance").decimalValue()).isEqualByComparingTo("700.00");
+    }
+
+    @Test
+    @DisplayName("Debe servir el estado como inmutable solo al dueño y responder 404 al mes sin estado")
+    void getStatement_OwnershipAndMissingMonth() throws Exception {
+        // Arrange
+        YearMonth month = YearMonth.now().minusMonths(2);
+        transaction("DEPOSIT", "5.00");
+        moveToMonth(month);
+        generate(month);
+        String otherToken = register();
+
+        // Act & Assert
+        mockMvc.perform(get("/accounts/number/" + accountNumber + "/statements/" + month)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, private, immutable"));
+        mockMvc.perform(get("/accounts/number/" + accountNumber + "/statements/" + month)
+                        .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/accounts/number/" + accountNumber + "/statements/" + month.minusMonths(6))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la generación de un mes que no cerró")
+    void generate_CurrentMonth_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/admin/accounts/statements/" + YearMonth.now())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Lleva la cuenta, su snapshot inicial y sus movimientos a días sucesivos del mes
+    private void moveToMonth(YearMonth month) {
+        LocalDateTime start = month.atDay(1).atTime(9, 0);
+        String accountId = jdbcTemplate.queryForObject(
+                "SELECT CAST(id AS VARCHAR) FROM accounts WHERE account_number = ?", String.class, accountNumber);
+        jdbcTemplate.update("UPDATE accounts SET created_at = ? WHERE CAST(id AS VARCHAR) = ?", start, accountId);
+        jdbcTemplate.update("UPDATE balance_snapshots SET timestamp = ? WHERE CAST(account_id AS VARCHAR) = ?",
+                start, accountId);
+        jdbcTemplate.update("UPDATE transactions SET timestamp = DATEADD(DAY, sequence_number, CAST(? AS TIMESTAMP)) "
+                + "WHERE CAST(account_id AS VARCHAR) = ?", start, accountId);
+    }
+
+    private JsonNode generate(YearMonth month) throws Exception {
+        return postJson("/admin/accounts/statements/" + month, adminToken, Map.of());
+    }
+
+    private JsonNode statement(String bearer, YearMonth month) throws Exception {
+        return getJson("/accounts/number/" + accountNumber + "/statements/" + month, bearer);
+    }
+
+    private void transaction(String type, String amount) throws Exception {
+        transaction(token, accountNumber, type, amount);
+    }
+}
@@ -0,0 +1,176 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Búsqueda de transacciones: filtros combinados, paginación por cursor sin repetir ni saltear
+ * filas, control de dueño y combinaciones rechazadas en la búsqueda admin entre cuentas.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TransactionSearchTest extends IntegrationTestSupport {
+
+    private String token;
+    private String adminToken;
+    private String accountNumber;
+    private String marker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = register();
+        adminToken = loginAdmin();
+        accountNumber = createAccount(token, "1000.00").get("accountNumber").asText();
+        // Texto único por test: la búsqueda admin recorre todas las cuentas de la base compartida
+        marker = "mk" + nextSequence();
+        for (int i = 1; i <= 7; i++) {
+            transaction(token, accountNumber, i % 2 == 0 ? "WITHDRAW" : "DEPOSIT", i + "0.00",
+                    (i % 3 == 0 ? "Rent " : "Coffee ") + marker + " #" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las páginas por cursor en orden, sin repetir ni saltear filas")
+    void search_Paginated_ReturnsEveryRowOnce() throws Exception {
+        // Act
+        List<String> descriptions = new ArrayList<>();
+        List<Boolean> hasMore = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = search("/transactions/search", token, params(
+                    "accountNumber", accountNumber, "limit", "3", "cursor", cursor));
+            page.get("transactions").forEach(t -> descriptions.add(t.get("description").asText()));
+            hasMore.add(page.get("hasMore").asBoolean());
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        // Assert
+        assertThat(descriptions).hasSize(7);
+        assertThat(descriptions.get(0)).endsWith("#7");
+        assertThat(descriptions.get(6)).endsWith("#1");
+        assertThat(descriptions).doesNotHaveDuplicates();
+        assertThat(hasMore).containsExactly(true, true, false);
+    }
+
+    @Test
+    @DisplayName("Debe combinar tipo, rango de monto, texto y fechas")
+    void search_CombinedFilters_MatchAll() throws Exception {
+        // Act
+        JsonNode byTypeAndAmount = search("/transactions/search", token, params(
+                "accountNumber", accountNumber, "type", "DEPOSIT", "minAmount", "20.00", "maxAmount", "60.00"));
+        JsonNode byText = search("/transactions/search", token, params(
+                "accountNumber", accountNumber, "q", "RENT " + marker));
+        JsonNode future = search("/transactions/search", token, params(
+                "accountNumber", accountNumber, "from", LocalDateTime.now().plusDays(1).toString()));
+
+        // Assert
+        assertThat(descriptions(byTypeAndAmount)).containsExactly(
+                "Coffee " + marker + " #5", "Rent " + marker + " #3");
+        assertThat(descriptions(byText)).containsExactly("Rent " + marker + " #6", "Rent " + marker + " #3");
+        assertThat(future.get("transactions")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la búsqueda en la cuenta de otro cliente y los filtros inválidos")
+    void search_OtherCustomerOrInvalidFilters_IsRejected() throws Exception {
+        // Arrange
+        String otherToken = register();
+
+        // Act & Assert
+        mockMvc.perform(get("/transactions/search").param("accountNumber", accountNumber)
+                        .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/transactions/search").header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/transactions/search").param("accountNumber", accountNumber).param("q", "ab")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/transactions/search").param("accountNumber", accountNumber).param("cursor", "???")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Debe buscar por texto entre cuentas dentro de un rango acotado y exigir el rango sin cuenta")
+    void adminSearch_AcrossAccounts_RequiresIndexBackedFilters() throws Exception {
+        // Arrange: la misma marca en una cuenta de otro cliente
+        String otherToken = register();
+        String otherAccount = createAccount(otherToken, "100.00").get("accountNumber").asText();
+        transaction(otherToken, otherAccount, "DEPOSIT", "5.00", "Rent " + marker + " other");
+
+        // Act
+        JsonNode byText = search("/admin/transactions/search", adminToken, params("q", "rent " + marker,
+                "from", LocalDateTime.now().minusHours(1).toString(),
+                "to", LocalDateTime.now().plusHours(1).toString()));
+        JsonNode byRange = search("/admin/transactions/search", adminToken, params(
+                "from", LocalDateTime.now().minusHours(1).toString(),
+                "to", LocalDateTime.now().plusHours(1).toString(),
+                "minAmount", "70.00", "maxAmount", "70.00", "limit", "200"));
+
+        // Assert
+        assertThat(descriptions(byText)).containsExactly(
+                "Rent " + marker + " other", "Rent " + marker + " #6", "Rent " + marker + " #3");
+        assertThat(descriptions(byRange)).contains("Coffee " + marker + " #7");
+        mockMvc.perform(get("/admin/transactions/search").param("minAmount", "10.00")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/admin/transactions/search").param("q", "rent " + marker)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/admin/transactions/search")
+                        .param("from", LocalDateTime.now().minusDays(90).toString())
+                        .param("to", LocalDateTime.now().toString())
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode search(String path, String bearer, Map<String, String> params) throws Exception {
+        var request = get(path).header("Authorization", "Bearer " + bearer);
+        params.forEach(request::param);
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    // Pares nombre/valor; los valores null se omiten
+    private Map<String, String> params(String... namesAndValues) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            if (namesAndValues[i + 1] != null) {
+                params.put(namesAndValues[i], namesAndValues[i + 1]);
+            }
+        }
+        return params;
+    }
+
+    private List<String> descriptions(JsonNode page) {
+        List<String> descriptions = new ArrayList<>();
+        page.get("transactions").forEach(t -> descriptions.add(t.get("description").asText()));
+        return descriptions;
+    }
+
+    private void transaction(String bearer, String account, String type, String amount, String description)
+            throws Exception {
+        postJson("/transactions", bearer, Map.of(
+                "accountNumber", account, "type", type, "amount", amount, "description", description));
+    }
+}
@@ -0,0 +1,125 @@
+package com.fintech.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fintech.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Envío asíncrono de punta a punta: 202 con id, el worker aplica o rechaza
+ * y el estado se consulta por el endpoint de seguimiento.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TransactionSubmissionTest extends IntegrationTestSupport {
+
+    private static final long TIMEOUT_MS = 10_000;
+
+    private String token;
+    private String accountNumber;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        token = register();
+        accountNumber = createAccount(token, "1000.00").get("accountNumber").asText();
+    }
+
+    @Test
+    @DisplayName("Debe aceptar el envío con 202 y aplicarlo en segundo plano")
+    void submit_Deposit_IsAppliedAsynchronously() throws Exception {
+        // Act
+        MvcResult result = mockMvc.perform(post("/transactions/submissions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "accountNumber", accountNumber, "type", "DEPOSIT", "amount", "250.00"))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn();
+        JsonNode accepted = objectMapper.readTree(result.getResponse().getContentAsString());
+        JsonNode applied = awaitProcessed(accepted.get("id").asText());
+
+        // Assert
+        assertThat(accepted.get("status").asText()).isEqualTo("PENDING");
+        assertThat(result.getResponse().getHeader("Location")).endsWith("/transactions/submissions/" + accepted.get("id").asText());
+        assertThat(applied.get("status").asText()).isEqualTo("APPLIED");
+        assertThat(applied.get("processedAt").isNull()).isFalse();
+        getJson("/transactions/" + applied.get("transactionId").asText(), token);
+        assertThat(balance(token, accountNumber)).isEqualByComparingTo("1250.00");
+    }
+
+    @Test
+    @DisplayName("Debe aplicar en orden los envíos de una cuenta y rechazar solo el que no tiene saldo")
+    void submit_SameAccountBurst_RejectsOnlyInvalidSubmission() throws Exception {
+        // Arrange
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(submit("DEPOSIT", "10.00"));
+        }
+        String overdraft = submit("WITHDRAW", "2000.00");
+        String withdrawal = submit("WITHDRAW", "50.00");
+
+        // Act
+        List<JsonNode> deposits = new ArrayList<>();
+        for (String id : ids) {
+            deposits.add(awaitProcessed(id));
+        }
+        JsonNode rejected = awaitProcessed(overdraft);
+        JsonNode applied = awaitProcessed(withdrawal);
+
+        // Assert
+        assertThat(deposits).allSatisfy(d -> assertThat(d.get("status").asText()).isEqualTo("APPLIED"));
+        assertThat(rejected.get("status").asText()).isEqualTo("REJECTED");
+        assertThat(rejected.get("reason").asText()).contains("Insufficient balance");
+        assertThat(rejected.get("transactionId").isNull()).isTrue();
+        assertThat(applied.get("status").asText()).isEqualTo("APPLIED");
+        assertThat(balance(token, accountNumber)).isEqualByComparingTo("1000.00");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 400 un envío mal formado y con 404 un id desconocido")
+    void submit_InvalidRequest_IsNotEnqueued() throws Exception {
+        mockMvc.perform(post("/transactions/submissions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "accountNumber", accountNumber, "type", "DEPOSIT", "amount", "10.005"))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/transactions/submissions/01920000-0000-7000-8000-0000000000ff")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    private String submit(String type, String amount) throws Exception {
+        return postJson("/transactions/submissions", token, Map.of(
+                "accountNumber", accountNumber, "type", type, "amount", amount)).get("id").asText();
+    }
+
+    private JsonNode awaitProcessed(String id) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        JsonNode submission = getJson("/transactions/submissions/" + id, token);
+        while ("PENDING".equals(submission.get("status").asText()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            submission = getJson("/transactions/submissions/" + id, token);
+        }
+        return submission;
+    }
+}
@@ -0,0 +1,64 @@
+package com.fintech.loadtest;
+
+import com.fintech.util.LogLinearHistogram;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Métricas de un endpoint: latencias en microsegundos y conteo por status HTTP.
+ * No es thread-safe; cada cliente mantiene las suyas y se combinan con merge al final.
+ */
+class EndpointStats {
+
+    private final LogLinearHistogram latencies = new LogLinearHistogram();
+    private final Map<Integer, Long> statusCounts = new TreeMap<>();
+    private long errors;
+
+    void record(long latencyNanos, int status) {
+        latencies.record(latencyNanos / 1_000);
+        statusCounts.merge(status, 1L, Long::sum);
+        if (status < 200 || status >= 300) {
+            errors++;
+        }
+    }
+
+    void merge(EndpointStats other) {
+        latencies.merge(other.latencies);
+        other.statusCounts.forEach((status, count) -> statusCounts.merge(status, count, Long::sum));
+        errors += other.errors;
+    }
+
+    long requests() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    LoadTestReport.EndpointReport toReport(String endpoint, Duration elapsed) {
+        long requests = requests();
+        return new LoadTestReport.EndpointReport(
+                endpoint,
+                requests,
+                errors,
+                LoadTestReport.ratio(errors, requests),
+                LoadTestReport.perSecond(requests, elapsed),
+                new LoadTestReport.Latency(
+                        toMillis(latencies.getMin()),
+                        toMillis(latencies.valueAtPercentile(50)),
+                        toMillis(latencies.valueAtPercentile(90)),
+                        toMillis(latencies.valueAtPercentile(99)),
+                        toMillis(latencies.valueAtPercentile(99.9)),
+                        toMillis(latencies.getMax())
+                ),
+                Map.copyOf(statusCounts)
+        );
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,287 @@
+package com.fintech.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fintech.loadtest.LoadTestConfig.Endpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Prueba de carga end-to-end: levanta la aplicación completa (filtro JWT, controllers, JPA
+ * sobre H2) en un puerto aleatorio y la ejercita con clientes HTTP en virtual threads.
+ * Cada cliente registra su usuario y su cuenta; cuando todos están listos ejecutan la mezcla
+ * configurada hasta agotar warmup + duración. Solo se mide lo ejecutado después del warmup.
+ *
+ * No corre con `mvn test`; se habilita con -Dloadtest=true (ver TEST.md).
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "logging.level.root=WARN"
+        }
+)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class LoadTest {
+
+    private static final String ADMIN_EMAIL = "admin@fintech.com";
+    private static final String ADMIN_PASSWORD = "admin123";
+    private static final String CLIENT_PASSWORD = "loadtest123";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Test
+    @DisplayName("Carga mixta: reporta throughput, tasa de error y percentiles por endpoint")
+    void mixedWorkload() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        baseUrl = "http://localhost:" + port + "/api/v1";
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            httpClient = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            // Arrange: sin límites de settings que conviertan la carga en errores 400
+            String adminToken = login(ADMIN_EMAIL, ADMIN_PASSWORD);
+            raiseSetting(adminToken, "MAX_DAILY_WITHDRAWAL", "1000000000.00");
+
+            // Act
+            // El registro (BCrypt) de todos los clientes a la vez saturaría la CPU antes de medir:
+            // se hace con concurrencia acotada y la carga arranca cuando todos están listos
+            Semaphore setupPermits = new Semaphore(config.setupConcurrency());
+            CountDownLatch ready = new CountDownLatch(config.clients());
+            CompletableFuture<Window> window = new CompletableFuture<>();
+            List<Future<Map<Endpoint, EndpointStats>>> results = new ArrayList<>();
+            for (int i = 0; i < config.clients(); i++) {
+                int clientId = i;
+                results.add(executor.submit(() -> runClient(config, clientId, adminToken, setupPermits, ready, window)));
+            }
+            awaitReady(ready, results);
+            Instant startedAt = Instant.now();
+            long measureFrom = System.nanoTime() + config.warmup().toNanos();
+            window.complete(new Window(measureFrom, measureFrom + config.duration().toNanos()));
+
+            Map<Endpoint, EndpointStats> merged = new EnumMap<>(Endpoint.class);
+            for (Future<Map<Endpoint, EndpointStats>> result : results) {
+                result.get().forEach((endpoint, stats) ->
+                        merged.computeIfAbsent(endpoint, e -> new EndpointStats()).merge(stats));
+            }
+
+            LoadTestReport report = buildReport(config, startedAt, merged);
+            Files.createDirectories(config.output().toAbsolutePath().getParent());
+            objectMapper.writeValue(config.output().toFile(), report);
+            System.out.println(objectMapper.writeValueAsString(report));
+
+            // Assert
+            assertThat(report.requests()).isPositive();
+            assertThat(report.errorRate()).isLessThanOrEqualTo(config.maxErrorRate());
+        }
+    }
+
+    private Map<Endpoint, EndpointStats> runClient(LoadTestConfig config, int clientId, String adminToken,
+                                                   Semaphore setupPermits, CountDownLatch ready,
+                                                   CompletableFuture<Window> window) throws Exception {
+        Random random = new Random(config.seed() + clientId);
+        String email = "loadtest" + clientId + "@fintech.com";
+        String accountNumber = String.format("%010d", 9_000_000_000L + clientId);
+
+        String token;
+        setupPermits.acquire();
+        try {
+            token = register(email, "Load Test Client " + clientId);
+            send(post("/accounts", token, Map.of(
+                    "accountNumber", accountNumber,
+                    "initialBalance", "100000.00")), 201);
+        } finally {
+            setupPermits.release();
+        }
+        ready.countDown();
+        long measureFrom = window.get().measureFrom();
+        long deadline = window.get().deadline();
+
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = config.pick(random.nextInt(config.totalWeight()));
+            HttpRequest request = switch (endpoint) {
+                case LOGIN -> post("/auth/login", null, Map.of("email", email, "password", CLIENT_PASSWORD));
+                case DEPOSIT -> post("/transactions", token, transaction(accountNumber, "DEPOSIT", random));
+                case WITHDRAW -> post("/transactions", token, transaction(accountNumber, "WITHDRAW", random));
+                case HISTORY -> get("/transactions/account/number/" + accountNumber, token);
+                case DASHBOARD -> get("/admin/reports/dashboard", adminToken);
+            };
+
+            long start = System.nanoTime();
+            int status = statusOf(request);
+            long end = System.nanoTime();
+            if (start >= measureFrom) {
+                stats.computeIfAbsent(endpoint, e -> new EndpointStats()).record(end - start, status);
+            }
+        }
+        return stats;
+    }
+
+    // Espera el setup de todos los clientes; si alguno falla, propaga su error
+    private void awaitReady(CountDownLatch ready, List<Future<Map<Endpoint, EndpointStats>>> results) throws Exception {
+        while (!ready.await(100, TimeUnit.MILLISECONDS)) {
+            for (Future<Map<Endpoint, EndpointStats>> result : results) {
+                if (result.isDone()) {
+                    result.get();
+                }
+            }
+        }
+    }
+
+    private int statusOf(HttpRequest request) throws InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            // Conexión rechazada / timeout: se reporta como status 0
+            return 0;
+        }
+    }
+
+    private LoadTestReport buildReport(LoadTestConfig config, Instant startedAt, Map<Endpoint, EndpointStats> stats) {
+        Duration elapsed = config.duration();
+        List<LoadTestReport.EndpointReport> endpoints = new ArrayList<>();
+        long requests = 0;
+        long errors = 0;
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            endpoints.add(entry.getValue().toReport(entry.getKey().label(), elapsed));
+            requests += entry.getValue().requests();
+            errors += entry.getValue().errors();
+        }
+
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put(Endpoint.LOGIN.label(), config.loginWeight());
+        mix.put(Endpoint.DEPOSIT.label(), config.depositWeight());
+        mix.put(Endpoint.WITHDRAW.label(), config.withdrawWeight());
+        mix.put(Endpoint.HISTORY.label(), config.historyWeight());
+        mix.put(Endpoint.DASHBOARD.label(), config.dashboardWeight());
+
+        return new LoadTestReport(
+                startedAt,
+                virtualThreads,
+                config.clients(),
+                config.warmup().toString(),
+                config.duration().toString(),
+                config.seed(),
+                mix,
+                requests,
+                errors,
+                LoadTestReport.ratio(errors, requests),
+                LoadTestReport.perSecond(requests, elapsed),
+                endpoints
+        );
+    }
+
+    private record Window(long measureFrom, long deadline) {}
+
+    // ==================== HTTP HELPERS ====================
+
+    private String register(String email, String name) throws Exception {
+        JsonNode body = send(post("/auth/register", null, Map.of(
+                "email", email,
+                "password", CLIENT_PASSWORD,
+                "name", name)), 201);
+        return body.get("token").asText();
+    }
+
+    private String login(String email, String password) throws Exception {
+        JsonNode body = send(post("/auth/login", null, Map.of("email", email, "password", password)), 200);
+        return body.get("token").asText();
+    }
+
+    private void raiseSetting(String adminToken, String key, String value) throws Exception {
+        send(post("/admin/settings", adminToken, Map.of(
+                "settingKey", key,
+                "settingValue", value,
+                "description", "Load test")), 201);
+    }
+
+    private Map<String, Object> transaction(String accountNumber, String type, Random random) {
+        // Montos chicos: los retiros no agotan el saldo inicial durante la corrida
+        String amount = String.format("%d.%02d", 1 + random.nextInt(50), random.nextInt(100));
+        return Map.of(
+                "accountNumber", accountNumber,
+                "type", type,
+                "amount", amount,
+                "description", "Load test " + type.toLowerCase());
+    }
+
+    private JsonNode send(HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri()
+                    + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest post(String path, String token, Map<String, ?> body) {
+        try {
+            return request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fintech.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Parámetros de la prueba de carga, leídos de system properties (-Dloadtest.*).
+ * Los pesos definen la mezcla de operaciones que ejecuta cada cliente.
+ */
+record LoadTestConfig(
+        int clients,
+        int setupConcurrency,
+        Duration warmup,
+        Duration duration,
+        long seed,
+        double maxErrorRate,
+        Path output,
+        int loginWeight,
+        int depositWeight,
+        int withdrawWeight,
+        int historyWeight,
+        int dashboardWeight
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.clients", 32),
+                Integer.getInteger("loadtest.setupConcurrency", 4),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT5S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Long.getLong("loadtest.seed", 42L),
+                Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01")),
+                Path.of(System.getProperty("loadtest.output", "target/loadtest/report.json")),
+                Integer.getInteger("loadtest.mix.login", 5),
+                Integer.getInteger("loadtest.mix.deposit", 35),
+                Integer.getInteger("loadtest.mix.withdraw", 20),
+                Integer.getInteger("loadtest.mix.history", 35),
+                Integer.getInteger("loadtest.mix.dashboard", 5)
+        );
+    }
+
+    Endpoint pick(int roll) {
+        int threshold = loginWeight;
+        if (roll < threshold) return Endpoint.LOGIN;
+        threshold += depositWeight;
+        if (roll < threshold) return Endpoint.DEPOSIT;
+        threshold += withdrawWeight;
+        if (roll < threshold) return Endpoint.WITHDRAW;
+        threshold += historyWeight;
+        if (roll < threshold) return Endpoint.HISTORY;
+        return Endpoint.DASHBOARD;
+    }
+
+    int totalWeight() {
+        return loginWeight + depositWeight + withdrawWeight + historyWeight + dashboardWeight;
+    }
+
+    enum Endpoint {
+        LOGIN("POST /auth/login"),
+        DEPOSIT("POST /transactions (DEPOSIT)"),
+        WITHDRAW("POST /transactions (WITHDRAW)"),
+        HISTORY("GET /transactions/account/number/{accountNumber}"),
+        DASHBOARD("GET /admin/reports/dashboard");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+}
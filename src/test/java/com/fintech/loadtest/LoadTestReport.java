@@ -0,0 +1,45 @@
+package com.fintech.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reporte de la prueba de carga, serializado a JSON en loadtest.output.
+ */
+record LoadTestReport(
+        Instant startedAt,
+        boolean virtualThreads,
+        int clients,
+        String warmup,
+        String duration,
+        long seed,
+        Map<String, Integer> mix,
+        long requests,
+        long errors,
+        double errorRate,
+        double throughputPerSecond,
+        List<EndpointReport> endpoints
+) {
+
+    record EndpointReport(
+            String endpoint,
+            long requests,
+            long errors,
+            double errorRate,
+            double throughputPerSecond,
+            Latency latencyMillis,
+            Map<Integer, Long> statusCounts
+    ) {}
+
+    record Latency(double min, double p50, double p90, double p99, double p999, double max) {}
+
+    static double ratio(long part, long total) {
+        return total == 0 ? 0.0 : (double) part / total;
+    }
+
+    static double perSecond(long count, Duration elapsed) {
+        return elapsed.isZero() ? 0.0 : count * 1_000.0 / elapsed.toMillis();
+    }
+}
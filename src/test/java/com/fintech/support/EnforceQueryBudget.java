@@ -0,0 +1,19 @@
+package com.fintech.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Falla el test si algún request ejecutado durante el test excede el presupuesto de
+ * sentencias SQL de su endpoint (@QueryBudget o metrics.query-budget.default-statements).
+ * Requiere un contexto Spring (@SpringBootTest) con el filtro web activo, p. ej. vía MockMvc.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface EnforceQueryBudget {
+}
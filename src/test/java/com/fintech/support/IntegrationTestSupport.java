@@ -0,0 +1,102 @@
+package com.fintech.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Base de los tests de integración contra la API vía MockMvc: registro y login, apertura de
+ * cuentas, transacciones y requests JSON autenticados. Todas las clases comparten la base H2,
+ * así que emails y números de cuenta salen de una misma secuencia para no repetirse.
+ * Las anotaciones de Spring (@SpringBootTest, @AutoConfigureMockMvc, @ActiveProfiles) las
+ * declara cada subclase con sus propiedades.
+ */
+public abstract class IntegrationTestSupport {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000);
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    protected static long nextSequence() {
+        return SEQUENCE.incrementAndGet();
+    }
+
+    protected static String nextAccountNumber() {
+        return String.format("%010d", 1_000_000_000L + nextSequence());
+    }
+
+    /** Registra un cliente nuevo y devuelve su token. */
+    protected String register() throws Exception {
+        return postJson("/auth/register", null, Map.of(
+                "email", "customer" + nextSequence() + "@fintech.com",
+                "password", "secret123", "name", "Test Customer")).get("token").asText();
+    }
+
+    protected String login(String email, String password) throws Exception {
+        return postJson("/auth/login", null, Map.of("email", email, "password", password)).get("token").asText();
+    }
+
+    protected String loginAdmin() throws Exception {
+        return login("admin@fintech.com", "admin123");
+    }
+
+    /** Abre una cuenta con un número nuevo y devuelve la respuesta (id, accountNumber, ...). */
+    protected JsonNode createAccount(String token, String initialBalance) throws Exception {
+        return postJson("/accounts", token, Map.of(
+                "accountNumber", nextAccountNumber(), "initialBalance", initialBalance));
+    }
+
+    /** Registra la transacción y devuelve la respuesta; falla si no es 2xx. */
+    protected JsonNode transaction(String token, String accountNumber, String type, Object amount) throws Exception {
+        return postJson("/transactions", token, Map.of("accountNumber", accountNumber, "type", type, "amount", amount));
+    }
+
+    /** Intenta la transacción y devuelve el status HTTP, sea cual sea. */
+    protected int transactionStatus(String token, String accountNumber, String type, Object amount) throws Exception {
+        return mockMvc.perform(post("/transactions")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "accountNumber", accountNumber, "type", type, "amount", amount))))
+                .andReturn().getResponse().getStatus();
+    }
+
+    protected BigDecimal balance(String token, String accountNumber) throws Exception {
+        return getJson("/accounts/number/" + accountNumber, token).get("balance").decimalValue();
+    }
+
+    protected JsonNode getJson(String path, String token) throws Exception {
+        MvcResult result = mockMvc.perform(get(path).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+
+    protected JsonNode postJson(String path, String token, Map<String, ?> body) throws Exception {
+        var request = post(path)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        MvcResult result = mockMvc.perform(request)
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
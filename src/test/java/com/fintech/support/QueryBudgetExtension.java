@@ -0,0 +1,58 @@
+package com.fintech.support;
+
+import com.fintech.event.QueryBudgetExceededEvent;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Escucha QueryBudgetExceededEvent durante cada test y lo convierte en un fallo.
+ * El listener se registra una vez por contexto Spring (los contextos se cachean entre clases).
+ */
+class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        violations(context).clear();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<QueryBudgetExceededEvent> violations = violations(context);
+        if (!violations.isEmpty()) {
+            String details = violations.stream()
+                    .map(v -> String.format("%s %s: %d statements (budget %d)", v.method(), v.uri(), v.statements(), v.budget()))
+                    .collect(Collectors.joining("\n  ", "\n  ", ""));
+            violations.clear();
+            throw new AssertionError("Query budget exceeded:" + details);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<QueryBudgetExceededEvent> violations(ExtensionContext context) {
+        ApplicationContext applicationContext = SpringExtension.getApplicationContext(context);
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(applicationContext, key -> {
+            List<QueryBudgetExceededEvent> recorded = new CopyOnWriteArrayList<>();
+            ApplicationListener<ApplicationEvent> listener = event -> {
+                if (event instanceof PayloadApplicationEvent<?> payloadEvent
+                        && payloadEvent.getPayload() instanceof QueryBudgetExceededEvent violation) {
+                    recorded.add(violation);
+                }
+            };
+            ((ConfigurableApplicationContext) applicationContext).addApplicationListener(listener);
+            return recorded;
+        }, List.class);
+    }
+}
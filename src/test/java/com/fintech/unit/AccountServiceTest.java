@@ -2,15 +2,20 @@ package com.fintech.unit;
 
 import com.fintech.dto.request.AccountRequest;
 import com.fintech.dto.response.AccountResponse;
+import com.fintech.event.AccountChangedEvent;
 import com.fintech.exception.AccountNotFoundException;
 import com.fintech.exception.DuplicateAccountException;
+import com.fintech.exception.UnauthorizedAccessException;
 import com.fintech.model.Account;
 import com.fintech.model.Customer;
 import com.fintech.model.User;
 import com.fintech.repository.AccountRepository;
 import com.fintech.repository.CustomerRepository;
 import com.fintech.repository.UserRepository;
+import com.fintech.security.JwtAuthenticationDetails;
 import com.fintech.service.AccountService;
+import com.fintech.service.BalanceCache;
+import com.fintech.service.LedgerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -26,6 +33,7 @@ import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,6 +44,9 @@ import static org.mockito.Mockito.*;
 @DisplayName("AccountService - Pruebas Unitarias")
 class AccountServiceTest {
 
+    private static final String ACCOUNT_ID = "01920000-0000-7000-8000-000000000001";
+    private static final String UNKNOWN_ID = "01920000-0000-7000-8000-0000000000ff";
+
     @Mock
     private AccountRepository accountRepository;
 
@@ -45,12 +56,21 @@ class AccountServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LedgerService ledgerService;
+
     @Mock
     private SecurityContext securityContext;
 
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private BalanceCache balanceCache;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -80,7 +100,7 @@ class AccountServiceTest {
 
     private Account createMockAccount(String id, String accountNumber, Customer customer, BigDecimal balance) {
         Account account = new Account();
-        account.setId(id);
+        account.setId(UUID.fromString(id));
         account.setAccountNumber(accountNumber);
         account.setCustomer(customer);
         account.setBalance(balance);
@@ -107,7 +127,7 @@ class AccountServiceTest {
         setupAuthentication("john@example.com", mockUser, mockCustomer);
         when(accountRepository.existsByAccountNumber(accountNumber)).thenReturn(false);
 
-        Account savedAccount = createMockAccount("acc-001", accountNumber, mockCustomer, initialBalance);
+        Account savedAccount = createMockAccount(ACCOUNT_ID, accountNumber, mockCustomer, initialBalance);
         when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
 
         // Act
@@ -115,7 +135,7 @@ class AccountServiceTest {
 
         // Assert
         assertThat(response).isNotNull();
-        assertThat(response.id()).isEqualTo("acc-001");
+        assertThat(response.id()).isEqualTo(ACCOUNT_ID);
         assertThat(response.accountNumber()).isEqualTo(accountNumber);
         assertThat(response.customerName()).isEqualTo("John Doe");
         assertThat(response.balance()).isEqualByComparingTo(initialBalance);
@@ -123,6 +143,8 @@ class AccountServiceTest {
 
         verify(accountRepository).existsByAccountNumber(accountNumber);
         verify(accountRepository).save(any(Account.class));
+        verify(ledgerService).openAccount(any(Account.class));
+        verify(eventPublisher).publishEvent(any(AccountChangedEvent.class));
     }
 
     @Test
@@ -145,43 +167,49 @@ class AccountServiceTest {
     void getAccountById_ExistingId_Success() {
         // Arrange
         setupAuthentication("john@example.com", mockUser, mockCustomer);
-        Account account = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"));
-        when(accountRepository.findById("acc-001")).thenReturn(Optional.of(account));
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"));
+        when(accountRepository.findById(UUID.fromString(ACCOUNT_ID))).thenReturn(Optional.of(account));
 
         // Act
-        AccountResponse response = accountService.getAccountById("acc-001");
+        AccountResponse response = accountService.getAccountById(ACCOUNT_ID);
 
         // Assert
         assertThat(response).isNotNull();
-        assertThat(response.id()).isEqualTo("acc-001");
+        assertThat(response.id()).isEqualTo(ACCOUNT_ID);
         assertThat(response.customerName()).isEqualTo("John Doe");
-        verify(accountRepository).findById("acc-001");
+        verify(accountRepository).findById(UUID.fromString(ACCOUNT_ID));
     }
 
     @Test
     @DisplayName("Debe lanzar excepción cuando el ID no existe")
     void getAccountById_NonExistingId_ThrowsException() {
         // Arrange
-        when(accountRepository.findById("invalid-id")).thenReturn(Optional.empty());
+        when(accountRepository.findById(UUID.fromString(UNKNOWN_ID))).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> accountService.getAccountById("invalid-id"))
+        assertThatThrownBy(() -> accountService.getAccountById(UNKNOWN_ID))
                 .isInstanceOf(AccountNotFoundException.class)
                 .hasMessageContaining("not found");
     }
 
+    @Test
+    @DisplayName("Debe tratar un ID mal formado como inexistente sin consultar la base")
+    void getAccountById_MalformedId_ThrowsExceptionWithoutQuery() {
+        // Act & Assert
+        assertThatThrownBy(() -> accountService.getAccountById("acc-001"))
+                .isInstanceOf(AccountNotFoundException.class);
+        verify(accountRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("Debe listar todas las cuentas del usuario autenticado")
     void getAllAccounts_MultipleAccounts_Success() {
         // Arrange
-        Customer otherCustomer = createMockCustomer("customer-002", createMockUser("user-002", "jane@example.com"), "Jane Smith");
-
         setupAuthentication("john@example.com", mockUser, mockCustomer);
 
-        Account account1 = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"));
-        Account account2 = createMockAccount("acc-002", "0987654321", otherCustomer, new BigDecimal("2000.00"));
+        Account account1 = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"));
 
-        when(accountRepository.findAll()).thenReturn(Arrays.asList(account1, account2));
+        when(accountRepository.findByCustomerId("customer-001")).thenReturn(Arrays.asList(account1));
 
         // Act
         List<AccountResponse> responses = accountService.getAllAccounts();
@@ -189,6 +217,7 @@ class AccountServiceTest {
         // Assert
         assertThat(responses).hasSize(1); // Solo la cuenta del usuario autenticado
         assertThat(responses.get(0).accountNumber()).isEqualTo("1234567890");
+        verify(accountRepository, never()).findAll(); // Filtrado en la consulta, no en memoria
     }
 
     @Test
@@ -196,8 +225,8 @@ class AccountServiceTest {
     void getActiveAccounts_FilterActive_Success() {
         // Arrange
         setupAuthentication("john@example.com", mockUser, mockCustomer);
-        Account activeAccount = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"));
-        when(accountRepository.findByActive(true)).thenReturn(Arrays.asList(activeAccount));
+        Account activeAccount = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"));
+        when(accountRepository.findByCustomerIdAndActive("customer-001", true)).thenReturn(Arrays.asList(activeAccount));
 
         // Act
         List<AccountResponse> responses = accountService.getActiveAccounts();
@@ -212,15 +241,15 @@ class AccountServiceTest {
     void deactivateAccount_ActiveAccount_Success() {
         // Arrange
         setupAuthentication("john@example.com", mockUser, mockCustomer);
-        Account account = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"));
-        when(accountRepository.findById("acc-001")).thenReturn(Optional.of(account));
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"));
+        when(accountRepository.findById(UUID.fromString(ACCOUNT_ID))).thenReturn(Optional.of(account));
         when(accountRepository.save(any(Account.class))).thenReturn(account);
 
         // Act
-        AccountResponse response = accountService.deactivateAccount("acc-001");
+        AccountResponse response = accountService.deactivateAccount(ACCOUNT_ID);
 
         // Assert
-        assertThat(response.id()).isEqualTo("acc-001");
+        assertThat(response.id()).isEqualTo(ACCOUNT_ID);
         assertThat(response.active()).isFalse();
         verify(accountRepository).save(any(Account.class));
     }
@@ -230,13 +259,13 @@ class AccountServiceTest {
     void activateAccount_InactiveAccount_Success() {
         // Arrange
         setupAuthentication("john@example.com", mockUser, mockCustomer);
-        Account account = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"));
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"));
         account.setActive(false);
-        when(accountRepository.findById("acc-001")).thenReturn(Optional.of(account));
+        when(accountRepository.findById(UUID.fromString(ACCOUNT_ID))).thenReturn(Optional.of(account));
         when(accountRepository.save(any(Account.class))).thenReturn(account);
 
         // Act
-        AccountResponse response = accountService.activateAccount("acc-001");
+        AccountResponse response = accountService.activateAccount(ACCOUNT_ID);
 
         // Assert
         assertThat(response.active()).isTrue();
@@ -247,7 +276,7 @@ class AccountServiceTest {
     void getAccountBalance_ExistingAccount_Success() {
         // Arrange
         setupAuthentication("john@example.com", mockUser, mockCustomer);
-        Account account = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"));
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"));
         when(accountRepository.findByAccountNumber("1234567890")).thenReturn(Optional.of(account));
 
         // Act
@@ -256,4 +285,39 @@ class AccountServiceTest {
         // Assert
         assertThat(balance).isEqualByComparingTo(new BigDecimal("1000.00"));
     }
+
+    @Test
+    @DisplayName("Debe retornar el saldo en cache sin consultar la base")
+    void getAccountBalance_CachedWithJwtDetails_NoRepositoryCalls() {
+        // Arrange
+        SecurityContextHolder.setContext(securityContext);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getDetails()).thenReturn(
+                new JwtAuthenticationDetails(new MockHttpServletRequest(), "customer-001"));
+        when(balanceCache.get("1234567890")).thenReturn(Optional.of(
+                new BalanceCache.CachedBalance(new BigDecimal("750.00"), "customer-001", 4L, System.nanoTime())));
+
+        // Act
+        BigDecimal balance = accountService.getAccountBalance("1234567890");
+
+        // Assert
+        assertThat(balance).isEqualByComparingTo(new BigDecimal("750.00"));
+        verifyNoInteractions(accountRepository, userRepository, customerRepository);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el saldo en cache de una cuenta de otro customer")
+    void getAccountBalance_CachedForOtherCustomer_ThrowsUnauthorized() {
+        // Arrange
+        SecurityContextHolder.setContext(securityContext);
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.getDetails()).thenReturn(
+                new JwtAuthenticationDetails(new MockHttpServletRequest(), "customer-001"));
+        when(balanceCache.get("1234567890")).thenReturn(Optional.of(
+                new BalanceCache.CachedBalance(new BigDecimal("750.00"), "customer-002", 4L, System.nanoTime())));
+
+        // Act & Assert
+        assertThatThrownBy(() -> accountService.getAccountBalance("1234567890"))
+                .isInstanceOf(UnauthorizedAccessException.class);
+    }
 }
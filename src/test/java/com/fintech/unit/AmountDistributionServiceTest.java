@@ -0,0 +1,141 @@
+package com.fintech.unit;
+
+import com.fintech.dto.response.AmountDistributionResponse;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.AmountHistogram;
+import com.fintech.model.TransactionType;
+import com.fintech.repository.AmountHistogramRepository;
+import com.fintech.service.AmountDistributionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AmountDistributionService - Pruebas Unitarias")
+class AmountDistributionServiceTest {
+
+    @Mock
+    private AmountHistogramRepository amountHistogramRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private AmountDistributionService amountDistributionService;
+
+    private final LocalDate today = LocalDate.now();
+
+    // La tabla amount_histograms en memoria: save reemplaza la fila del día y tipo
+    private final Map<TransactionType, AmountHistogram> rows = new HashMap<>();
+    private boolean failSave;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        lenient().when(amountHistogramRepository.findByDayAndType(any(), any()))
+                .thenAnswer(invocation -> Optional.ofNullable(rows.get(invocation.<TransactionType>getArgument(1))));
+        lenient().when(amountHistogramRepository.findByDayBetween(any(), any()))
+                .thenAnswer(invocation -> new ArrayList<>(rows.values()));
+        lenient().when(amountHistogramRepository.save(any())).thenAnswer(invocation -> {
+            if (failSave) {
+                throw new QueryTimeoutException("statement timeout");
+            }
+            AmountHistogram row = invocation.getArgument(0);
+            rows.put(row.getType(), row);
+            return row;
+        });
+    }
+
+    @Test
+    @DisplayName("Debe contar cada monto una sola vez antes y después del flush")
+    void flush_PersistedDeltas_AreCountedOnce() {
+        // Arrange
+        amountDistributionService.onTransactionCreated(deposit("10.00"));
+        amountDistributionService.onTransactionCreated(deposit("20.00"));
+        long beforeFlush = depositCount();
+
+        // Act
+        amountDistributionService.flush();
+        amountDistributionService.onTransactionCreated(deposit("30.00"));
+
+        // Assert
+        assertThat(beforeFlush).isEqualTo(2L);
+        assertThat(rows.get(TransactionType.DEPOSIT).getTotalCount()).isEqualTo(2L);
+        assertThat(depositCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Debe mantener visible y reintentar el delta cuyo flush falla")
+    void flush_PersistFailure_KeepsDeltaAndRetries() {
+        // Arrange
+        amountDistributionService.onTransactionCreated(deposit("10.00"));
+        failSave = true;
+
+        // Act
+        amountDistributionService.flush();
+        long afterFailure = depositCount();
+        failSave = false;
+        amountDistributionService.flush();
+
+        // Assert
+        assertThat(afterFailure).isEqualTo(1L);
+        assertThat(rows.get(TransactionType.DEPOSIT).getTotalCount()).isEqualTo(1L);
+        assertThat(depositCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Debe contar el delta que se está persistiendo en las lecturas concurrentes al flush")
+    void getDistribution_DuringFlush_SeesDeltaOnce() throws Exception {
+        // Arrange: la lectura arranca mientras el flush guarda la fila, antes del commit
+        amountDistributionService.onTransactionCreated(deposit("10.00"));
+        CompletableFuture<Long> concurrentRead = new CompletableFuture<>();
+        lenient().when(amountHistogramRepository.findByDayAndType(any(), any())).thenAnswer(invocation -> {
+            Thread.ofVirtual().start(() -> concurrentRead.complete(depositCount()));
+            Thread.sleep(50);
+            return Optional.empty();
+        });
+
+        // Act
+        amountDistributionService.flush();
+
+        // Assert
+        assertThat(concurrentRead.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        assertThat(depositCount()).isEqualTo(1L);
+    }
+
+    private long depositCount() {
+        List<AmountDistributionResponse> distribution = amountDistributionService.getDistribution(
+                today, today, TransactionType.DEPOSIT, List.of(50.0));
+        return distribution.get(0).count();
+    }
+
+    private TransactionCreatedEvent deposit(String amount) {
+        TransactionResponse transaction = new TransactionResponse(UUID.randomUUID().toString(), "0000000001", null,
+                TransactionType.DEPOSIT, new BigDecimal(amount), BigDecimal.ZERO, LocalDateTime.now(), null);
+        return new TransactionCreatedEvent(UUID.randomUUID(), "c-1", transaction, 1L);
+    }
+}
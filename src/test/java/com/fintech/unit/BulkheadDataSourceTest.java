@@ -0,0 +1,123 @@
+package com.fintech.unit;
+
+import com.fintech.datasource.BulkheadDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(target.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    @DisplayName("Debe liberar el permiso una sola vez al cerrar la conexión")
+    void close_ReleasesPermitOnce() throws SQLException {
+        // Arrange
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, 0, Duration.ofMillis(10));
+
+        // Act
+        Connection borrowed = dataSource.getConnection();
+        int activeWhileBorrowed = dataSource.getActive();
+        borrowed.close();
+        borrowed.close();
+
+        // Assert
+        assertThat(activeWhileBorrowed).isEqualTo(1);
+        assertThat(dataSource.getActive()).isZero();
+        verify(connection, times(2)).close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar de inmediato cuando no hay lugar en la cola de espera")
+    void getConnection_NoWaitersAllowed_RejectsImmediately() throws SQLException {
+        // Arrange
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, 0, Duration.ofSeconds(30));
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("bulkhead full");
+        assertThat(dataSource.getRejected()).isEqualTo(1);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuando el permiso no se libera dentro del timeout")
+    void getConnection_Timeout_Rejects() throws SQLException {
+        // Arrange
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, 10, Duration.ofMillis(50));
+        dataSource.getConnection();
+
+        // Act & Assert
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("no connection available");
+        assertThat(dataSource.getWaiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe entregar la conexión al hilo en espera cuando otra se cierra")
+    void getConnection_WaiterServedAfterClose() throws Exception {
+        // Arrange
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, 10, Duration.ofSeconds(5));
+        Connection first = dataSource.getConnection();
+        CountDownLatch served = new CountDownLatch(1);
+
+        // Act
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try (Connection ignored = dataSource.getConnection()) {
+                served.countDown();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (dataSource.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+        first.close();
+
+        // Assert
+        assertThat(served.await(5, TimeUnit.SECONDS)).isTrue();
+        waiter.join();
+        assertThat(dataSource.getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe liberar el permiso si el pool falla al entregar la conexión")
+    void getConnection_TargetFails_ReleasesPermit() throws SQLException {
+        // Arrange
+        BulkheadDataSource dataSource = new BulkheadDataSource(target, 1, 0, Duration.ofMillis(10));
+        when(target.getConnection()).thenThrow(new SQLException("pool timeout"));
+
+        // Act & Assert
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool timeout");
+        assertThat(dataSource.getActive()).isZero();
+    }
+}
@@ -0,0 +1,136 @@
+package com.fintech.unit;
+
+import com.fintech.dto.response.DashboardDeltaResponse;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.TransactionType;
+import com.fintech.service.DashboardChanges;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardChanges - Pruebas Unitarias")
+class DashboardChangesTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DashboardChanges dashboardChanges;
+
+    @Test
+    @DisplayName("Debe emitir en el tick los commits confirmados e ignorar los que vuelven atrás")
+    void tick_EmitsCommittedOnly() throws Exception {
+        // Arrange
+        runTransaction(deposit("10.00"), TransactionSynchronization.STATUS_COMMITTED, null);
+        runTransaction(deposit("99.00"), TransactionSynchronization.STATUS_ROLLED_BACK, null);
+
+        // Act
+        dashboardChanges.tick();
+        dashboardChanges.tick();
+
+        // Assert: el segundo tick no tiene nada que emitir
+        ArgumentCaptor<DashboardDeltaResponse> delta = ArgumentCaptor.forClass(DashboardDeltaResponse.class);
+        verify(eventPublisher).publishEvent(delta.capture());
+        assertThat(delta.getValue().sequence()).isEqualTo(1L);
+        assertThat(delta.getValue().newDeposits()).isEqualTo(1L);
+        assertThat(delta.getValue().depositAmount()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @DisplayName("Debe esperar al commit en curso para cortar e incluirlo en la secuencia del corte")
+    void cut_CommitInFlight_IsCoveredBySequence() throws Exception {
+        // Arrange: la transacción ya pasó beforeCommit y todavía no sumó sus montos
+        CountDownLatch committing = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> transaction = CompletableFuture.runAsync(() ->
+                runTransaction(deposit("10.00"), TransactionSynchronization.STATUS_COMMITTED, () -> {
+                    committing.countDown();
+                    await(finish);
+                }));
+        assertThat(committing.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicBoolean fixed = new AtomicBoolean();
+
+        // Act
+        CompletableFuture<Long> cut = CompletableFuture.supplyAsync(() -> dashboardChanges.cut(() -> fixed.set(true)));
+        Thread.sleep(200);
+        boolean fixedWhileCommitting = fixed.get();
+        finish.countDown();
+
+        // Assert
+        assertThat(cut.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        transaction.get(5, TimeUnit.SECONDS);
+        assertThat(fixedWhileCommitting).isFalse();
+        assertThat(fixed.get()).isTrue();
+    }
+
+    @Test
+    @DisplayName("No debe registrar nada fuera de una transacción")
+    void onTransactionCreated_WithoutTransaction_IsIgnored() {
+        // Act
+        dashboardChanges.onTransactionCreated(deposit("10.00"));
+        long sequence = dashboardChanges.cut(() -> { });
+
+        // Assert
+        assertThat(sequence).isZero();
+        verify(eventPublisher, never()).publishEvent(org.mockito.ArgumentMatchers.any(Object.class));
+    }
+
+    /**
+     * Simula el ciclo de una transacción en el hilo actual: publica el evento, pasa por
+     * beforeCommit, ejecuta whileCommitting (el commit en la base) y completa con status.
+     */
+    private void runTransaction(TransactionCreatedEvent event, int status, Runnable whileCommitting) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dashboardChanges.onTransactionCreated(event);
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                if (whileCommitting != null) {
+                    whileCommitting.run();
+                }
+                TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            }
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, status);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TransactionCreatedEvent deposit(String amount) {
+        TransactionResponse transaction = new TransactionResponse(UUID.randomUUID().toString(), "0000000001", null,
+                TransactionType.DEPOSIT, new BigDecimal(amount), BigDecimal.ZERO, LocalDateTime.now(), null);
+        return new TransactionCreatedEvent(UUID.randomUUID(), "c-1", transaction, 1L);
+    }
+}
@@ -0,0 +1,183 @@
+package com.fintech.unit;
+
+import com.fintech.dto.response.DashboardDeltaResponse;
+import com.fintech.dto.response.DashboardStatisticsResponse;
+import com.fintech.service.DashboardStreamService;
+import com.fintech.service.ReportsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardStreamService - Pruebas Unitarias")
+class DashboardStreamServiceTest {
+
+    private static final Pattern EVENT_HEADER = Pattern.compile("(?:id:(\\d+)\\n)?event:(\\w+)\\n");
+
+    @Mock
+    private ReportsService reportsService;
+
+    @InjectMocks
+    private DashboardStreamService dashboardStreamService;
+
+    private final DashboardStatisticsResponse statistics =
+            new DashboardStatisticsResponse(null, null, null, LocalDateTime.now());
+
+    @AfterEach
+    void tearDown() {
+        dashboardStreamService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Debe enviar el snapshot compartido y luego los deltas de cada tick")
+    void subscribe_SendsSnapshotThenDeltas() throws Exception {
+        // Arrange
+        when(reportsService.getDashboardSnapshot(0)).thenReturn(new ReportsService.DashboardSnapshot(statistics, 0));
+        SseEmitter emitter = dashboardStreamService.subscribe();
+        awaitEvents(emitter, 1);
+
+        // Act
+        dashboardStreamService.onDelta(delta(1, "10.00"));
+
+        // Assert
+        List<Event> events = awaitEvents(emitter, 2);
+        assertThat(events.get(0).name()).isEqualTo("snapshot");
+        assertThat(events.get(0).id()).isEqualTo("0");
+        assertThat(events.get(0).data()).isSameAs(statistics);
+        assertThat(events.get(1).name()).isEqualTo("delta");
+        assertThat(((DashboardDeltaResponse) events.get(1).data()).depositAmount()).isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @DisplayName("Debe completar un snapshot reutilizado con los deltas posteriores a su corte, sin repetirlos")
+    void subscribe_ReusedSnapshot_ReplaysLaterDeltasOnce() throws Exception {
+        // Arrange: el snapshot cubre el delta 1; el 2 se emitió antes de la suscripción
+        dashboardStreamService.onDelta(delta(1, "10.00"));
+        dashboardStreamService.onDelta(delta(2, "5.00"));
+        when(reportsService.getDashboardSnapshot(0)).thenReturn(new ReportsService.DashboardSnapshot(statistics, 1));
+
+        // Act
+        SseEmitter emitter = dashboardStreamService.subscribe();
+        awaitEvents(emitter, 2);
+        dashboardStreamService.onDelta(delta(3, "1.00"));
+
+        // Assert
+        List<Event> events = awaitEvents(emitter, 3);
+        assertThat(events).extracting(Event::id).containsExactly("1", "2", "3");
+        assertThat(events).extracting(Event::name).containsExactly("snapshot", "delta", "delta");
+    }
+
+    @Test
+    @DisplayName("Debe pedir un snapshot más nuevo si los deltas posteriores al corte ya no están en el historial")
+    void subscribe_SnapshotOlderThanHistory_RequestsNewerSnapshot() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(dashboardStreamService, "historySize", 2);
+        for (long sequence = 1; sequence <= 4; sequence++) {
+            dashboardStreamService.onDelta(delta(sequence, "1.00"));
+        }
+        when(reportsService.getDashboardSnapshot(0)).thenReturn(new ReportsService.DashboardSnapshot(statistics, 1));
+        when(reportsService.getDashboardSnapshot(2)).thenReturn(new ReportsService.DashboardSnapshot(statistics, 3));
+
+        // Act
+        SseEmitter emitter = dashboardStreamService.subscribe();
+
+        // Assert
+        List<Event> events = awaitEvents(emitter, 2);
+        assertThat(events).extracting(Event::id).containsExactly("3", "4");
+        verify(reportsService).getDashboardSnapshot(2);
+    }
+
+    @Test
+    @DisplayName("Debe desconectar al suscriptor cuyo buffer se llena")
+    void onDelta_SlowSubscriber_IsDropped() throws Exception {
+        // Arrange: el envío queda bloqueado esperando el snapshot, así que los deltas se acumulan
+        ReflectionTestUtils.setField(dashboardStreamService, "bufferSize", 2);
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reportsService.getDashboardSnapshot(0)).thenAnswer(invocation -> {
+            reading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ReportsService.DashboardSnapshot(statistics, 0);
+        });
+        dashboardStreamService.subscribe();
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        for (long sequence = 1; sequence <= 3; sequence++) {
+            dashboardStreamService.onDelta(delta(sequence, "1.00"));
+        }
+        release.countDown();
+
+        // Assert
+        List<?> subscribers = (List<?>) ReflectionTestUtils.getField(dashboardStreamService, "subscribers");
+        assertThat(subscribers).isEmpty();
+    }
+
+    private DashboardDeltaResponse delta(long sequence, String deposited) {
+        return new DashboardDeltaResponse(sequence, LocalDateTime.now(), 1L, new BigDecimal(deposited),
+                0L, BigDecimal.ZERO, new BigDecimal(deposited), 0L, 0L);
+    }
+
+    /**
+     * Eventos que el emitter recibió antes de tener una respuesta asociada: en un test unitario
+     * no hay request, así que todos los envíos quedan en earlySendAttempts, en orden.
+     */
+    private List<Event> awaitEvents(SseEmitter emitter, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<Event> events = sentEvents(emitter);
+        while (events.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            events = sentEvents(emitter);
+        }
+        assertThat(events).hasSizeGreaterThanOrEqualTo(expected);
+        return events;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Event> sentEvents(SseEmitter emitter) {
+        List<Event> events = new ArrayList<>();
+        synchronized (emitter) {
+            Set<ResponseBodyEmitter.DataWithMediaType> sent = (Set<ResponseBodyEmitter.DataWithMediaType>)
+                    ReflectionTestUtils.getField(emitter, "earlySendAttempts");
+            String id = null;
+            String name = null;
+            for (ResponseBodyEmitter.DataWithMediaType part : sent) {
+                if (part.getData() instanceof String text) {
+                    Matcher header = EVENT_HEADER.matcher(text);
+                    if (header.find()) {
+                        id = header.group(1);
+                        name = header.group(2);
+                    }
+                } else if (name != null) {
+                    events.add(new Event(id, name, part.getData()));
+                    id = null;
+                    name = null;
+                }
+            }
+        }
+        return events;
+    }
+
+    private record Event(String id, String name, Object data) {}
+}
@@ -0,0 +1,98 @@
+package com.fintech.unit;
+
+import com.fintech.util.LogLinearHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("LogLinearHistogram - Pruebas Unitarias")
+class LogLinearHistogramTest {
+
+    @Test
+    @DisplayName("Debe estimar percentiles con error relativo menor al 2%")
+    void valueAtPercentile_UniformValues_WithinRelativeError() {
+        // Arrange
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long cents = 1; cents <= 1_000_000; cents++) {
+            histogram.record(cents);
+        }
+
+        // Act & Assert
+        assertThat(histogram.getTotalCount()).isEqualTo(1_000_000);
+        assertThat((double) histogram.valueAtPercentile(50)).isCloseTo(500_000, within(10_000.0));
+        assertThat((double) histogram.valueAtPercentile(90)).isCloseTo(900_000, within(18_000.0));
+        assertThat((double) histogram.valueAtPercentile(99)).isCloseTo(990_000, within(19_800.0));
+        assertThat(histogram.valueAtPercentile(0)).isEqualTo(1);
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    @DisplayName("Debe ser exacto para valores pequeños")
+    void valueAtPercentile_SmallValues_Exact() {
+        // Arrange
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(30);
+
+        // Act & Assert
+        assertThat(histogram.valueAtPercentile(50)).isEqualTo(20);
+        assertThat(histogram.getMin()).isEqualTo(10);
+        assertThat(histogram.getMax()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Debe combinar histogramas igual que si se registraran juntos")
+    void merge_TwoHistograms_EqualsCombined() {
+        // Arrange
+        Random random = new Random(42);
+        LogLinearHistogram first = new LogLinearHistogram();
+        LogLinearHistogram second = new LogLinearHistogram();
+        LogLinearHistogram combined = new LogLinearHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong(1, 10_000_000);
+            (i % 2 == 0 ? first : second).record(value);
+            combined.record(value);
+        }
+
+        // Act
+        first.merge(second);
+
+        // Assert
+        assertThat(first).isEqualTo(combined);
+        assertThat(first.valueAtPercentile(99)).isEqualTo(combined.valueAtPercentile(99));
+    }
+
+    @Test
+    @DisplayName("Debe codificar y decodificar sin pérdida")
+    void encodeDecode_RoundTrip_Success() {
+        // Arrange
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(0);
+        histogram.record(150);
+        histogram.record(10_000_000_00L);
+        histogram.recordCount(2_500, 7);
+
+        // Act
+        LogLinearHistogram decoded = LogLinearHistogram.decode(histogram.encode());
+
+        // Assert
+        assertThat(decoded).isEqualTo(histogram);
+        assertThat(decoded.getTotalCount()).isEqualTo(10);
+        assertThat(decoded.getMax()).isEqualTo(10_000_000_00L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar valores negativos")
+    void record_NegativeValue_ThrowsException() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+
+        assertThatThrownBy(() -> histogram.record(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
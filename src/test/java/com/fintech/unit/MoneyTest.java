@@ -0,0 +1,89 @@
+package com.fintech.unit;
+
+import com.fintech.util.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money - Pruebas Unitarias")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Debe convertir montos de hasta dos decimales sin pérdida en ambos sentidos")
+    void of_ScaleUpToTwo_RoundTrips() {
+        // Act & Assert
+        assertThat(Money.of(new BigDecimal("1234.56")).cents()).isEqualTo(123_456L);
+        assertThat(Money.of(new BigDecimal("100")).cents()).isEqualTo(10_000L);
+        assertThat(Money.of(new BigDecimal("0.10")).cents()).isEqualTo(10L);
+        assertThat(Money.of(new BigDecimal("5.000")).cents()).isEqualTo(500L);
+        assertThat(Money.of(new BigDecimal("-7.5")).cents()).isEqualTo(-750L);
+        assertThat(Money.ofCents(123_456L).toBigDecimal()).isEqualTo(new BigDecimal("1234.56"));
+        assertThat(Money.ofCents(5L).toString()).isEqualTo("0.05");
+    }
+
+    @Test
+    @DisplayName("Debe rechazar fracciones de centavo salvo en la conversión con redondeo")
+    void of_FractionOfCent_RequiresRounding() {
+        // Arrange
+        BigDecimal amount = new BigDecimal("10.005");
+
+        // Act & Assert
+        assertThatThrownBy(() -> Money.of(amount)).isInstanceOf(ArithmeticException.class);
+        assertThat(Money.ofRounded(amount).cents()).isEqualTo(1_001L);
+        assertThat(Money.ofRounded(new BigDecimal("10.004")).cents()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("Debe detectar overflow en lugar de dar la vuelta")
+    void arithmetic_Overflow_Throws() {
+        // Arrange
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        Money min = Money.ofCents(Long.MIN_VALUE);
+
+        // Act & Assert
+        assertThatThrownBy(() -> max.plus(Money.ofCents(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> min.minus(Money.ofCents(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> min.dividedBy(-1)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("92233720368547758.08")))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Debe dividir redondeando igual que BigDecimal HALF_UP")
+    void dividedBy_MatchesBigDecimalHalfUp() {
+        long[] amounts = {0, 1, 5, 149, 150, 151, 1_000_01, -1, -5, -150, -151, 999_999_99};
+        long[] divisors = {1, 2, 3, 7, 100, -3};
+
+        for (long cents : amounts) {
+            for (long divisor : divisors) {
+                // Act
+                Money result = Money.ofCents(cents).dividedBy(divisor);
+
+                // Assert
+                BigDecimal expected = BigDecimal.valueOf(cents, 2)
+                        .divide(BigDecimal.valueOf(divisor), 2, RoundingMode.HALF_UP);
+                assertThat(result.toBigDecimal()).as("%d / %d", cents, divisor).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Debe comparar por valor en centavos")
+    void comparisons_UseCents() {
+        // Arrange
+        Money small = Money.ofCents(99);
+        Money large = Money.of(new BigDecimal("1.00"));
+
+        // Act & Assert
+        assertThat(small.isLessThan(large)).isTrue();
+        assertThat(large.isGreaterThan(small)).isTrue();
+        assertThat(large.compareTo(Money.ofCents(100))).isZero();
+        assertThat(large).isEqualTo(Money.of(new BigDecimal("1")));
+        assertThat(large.minus(small)).isEqualTo(Money.ofCents(1));
+    }
+}
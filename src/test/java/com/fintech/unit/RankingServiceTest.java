@@ -0,0 +1,165 @@
+package com.fintech.unit;
+
+import com.fintech.dto.response.AccountActivityRankingResponse;
+import com.fintech.dto.response.CustomerVolumeRankingResponse;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.Customer;
+import com.fintech.model.TransactionType;
+import com.fintech.repository.AccountRepository;
+import com.fintech.repository.CustomerRepository;
+import com.fintech.repository.DailyAccountActivity;
+import com.fintech.repository.TransactionRepository;
+import com.fintech.service.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RankingService - Pruebas Unitarias")
+class RankingServiceTest {
+
+    private static final UUID ACCOUNT_1 = UUID.fromString("01920000-0000-7000-8000-000000000001");
+    private static final UUID ACCOUNT_2 = UUID.fromString("01920000-0000-7000-8000-000000000002");
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @InjectMocks
+    private RankingService rankingService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        // Sin cache entre llamadas: cada ranking se calcula sobre el estado actual
+        ReflectionTestUtils.setField(rankingService, "cacheTtl", Duration.ZERO);
+        lenient().when(customerRepository.findAllById(anyIterable())).thenReturn(List.of(
+                customer("c-1", "Ana"), customer("c-2", "Bruno")));
+    }
+
+    @Test
+    @DisplayName("Debe cargar la actividad desde la base y ordenar las cuentas del día por movimientos")
+    void getMostActiveAccountsToday_WarmsUpFromDatabase() {
+        // Arrange
+        when(transactionRepository.summarizeDailyActivity(any(), any())).thenReturn(List.of(
+                row(ACCOUNT_1, "0000000001", "c-1", today, 2, "30.00", 2),
+                row(ACCOUNT_2, "0000000002", "c-2", today, 5, "10.00", 7),
+                row(ACCOUNT_1, "0000000001", "c-1", today.minusDays(1), 9, "90.00", 11)));
+
+        // Act
+        List<AccountActivityRankingResponse> accounts = rankingService.getMostActiveAccountsToday(10);
+        List<CustomerVolumeRankingResponse> customers = rankingService.getTopCustomersByVolume(2, 10);
+
+        // Assert
+        assertThat(accounts).extracting(AccountActivityRankingResponse::accountNumber)
+                .containsExactly("0000000002", "0000000001");
+        assertThat(accounts.get(0).customerName()).isEqualTo("Bruno");
+        assertThat(customers.get(0).customerId()).isEqualTo("c-1");
+        assertThat(customers.get(0).volume()).isEqualByComparingTo("120.00");
+        verify(transactionRepository, times(1)).summarizeDailyActivity(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe sumar los commits posteriores a la carga y descartar los que la consulta ya contó")
+    void onTransactionCreated_AfterWarmUp_CountsOnlyNewCommits() {
+        // Arrange
+        when(transactionRepository.summarizeDailyActivity(any(), any())).thenReturn(List.of(
+                row(ACCOUNT_1, "0000000001", "c-1", today, 2, "30.00", 2)));
+        rankingService.getMostActiveAccountsToday(10);
+
+        // Act
+        rankingService.onTransactionCreated(event(ACCOUNT_1, 2, "20.00"));
+        rankingService.onTransactionCreated(event(ACCOUNT_1, 3, "5.00"));
+        rankingService.onTransactionCreated(event(ACCOUNT_2, 1, "1.00"));
+
+        // Assert
+        List<AccountActivityRankingResponse> accounts = rankingService.getMostActiveAccountsToday(10);
+        assertThat(accounts).extracting(AccountActivityRankingResponse::transactionCount).containsExactly(3L, 1L);
+        assertThat(accounts.get(0).volume()).isEqualByComparingTo("35.00");
+    }
+
+    @Test
+    @DisplayName("No debe perder ni contar dos veces los commits que llegan mientras corre el rebuild")
+    void refreshActivity_EventsDuringQuery_AreCountedOnce() {
+        // Arrange: la carga inicial ve la secuencia 1
+        when(transactionRepository.summarizeDailyActivity(any(), any()))
+                .thenReturn(List.of(row(ACCOUNT_1, "0000000001", "c-1", today, 1, "10.00", 1)))
+                // Durante la consulta del rebuild se confirman la 2 (que la consulta ve) y la 3 (que no)
+                .thenAnswer(invocation -> {
+                    rankingService.onTransactionCreated(event(ACCOUNT_1, 2, "10.00"));
+                    rankingService.onTransactionCreated(event(ACCOUNT_1, 3, "10.00"));
+                    return List.of(row(ACCOUNT_1, "0000000001", "c-1", today, 2, "20.00", 2));
+                });
+        rankingService.getMostActiveAccountsToday(10);
+
+        // Act
+        rankingService.refreshActivity();
+
+        // Assert
+        AccountActivityRankingResponse account = rankingService.getMostActiveAccountsToday(10).get(0);
+        assertThat(account.transactionCount()).isEqualTo(3L);
+        assertThat(account.volume()).isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    @DisplayName("Debe ignorar los eventos anteriores a la carga inicial")
+    void onTransactionCreated_BeforeWarmUp_IsIgnored() {
+        // Arrange
+        when(transactionRepository.summarizeDailyActivity(any(), any())).thenReturn(List.of(
+                row(ACCOUNT_1, "0000000001", "c-1", today, 1, "10.00", 1)));
+
+        // Act: la carga inicial ya incluye este commit
+        rankingService.onTransactionCreated(event(ACCOUNT_1, 1, "10.00"));
+
+        // Assert
+        assertThat(rankingService.getMostActiveAccountsToday(10).get(0).transactionCount()).isEqualTo(1L);
+    }
+
+    private DailyAccountActivity row(UUID accountId, String accountNumber, String customerId, LocalDate day,
+                                     long count, String volume, long lastSequence) {
+        return new DailyAccountActivity(accountId, accountNumber, customerId, day, count,
+                new BigDecimal(volume), lastSequence);
+    }
+
+    private TransactionCreatedEvent event(UUID accountId, long sequence, String amount) {
+        String accountNumber = accountId.equals(ACCOUNT_1) ? "0000000001" : "0000000002";
+        String customerId = accountId.equals(ACCOUNT_1) ? "c-1" : "c-2";
+        TransactionResponse transaction = new TransactionResponse("t-" + sequence, accountNumber, null,
+                TransactionType.DEPOSIT, new BigDecimal(amount), BigDecimal.ZERO, LocalDateTime.now(), null);
+        return new TransactionCreatedEvent(accountId, customerId, transaction, sequence);
+    }
+
+    private Customer customer(String id, String name) {
+        Customer customer = new Customer();
+        customer.setId(id);
+        customer.setName(name);
+        return customer;
+    }
+}
@@ -0,0 +1,224 @@
+package com.fintech.unit;
+
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.TransactionType;
+import com.fintech.service.RecentTransactionsCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RecentTransactionsCache - Pruebas Unitarias")
+class RecentTransactionsCacheTest {
+
+    private static final String ACCOUNT = "1234567890";
+    private static final String OTHER_ACCOUNT = "9876543210";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecentTransactionsCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RecentTransactionsCache(meterRegistry);
+        ReflectionTestUtils.setField(cache, "capacity", 3);
+        ReflectionTestUtils.invokeMethod(cache, "registerMetrics");
+    }
+
+    @Test
+    @DisplayName("Debe cargar la cuenta una vez y servir las lecturas siguientes desde memoria")
+    void getLatest_SecondRead_IsHit() {
+        // Act
+        List<TransactionResponse> first = cache.getLatest(ACCOUNT, 2, loader(ACCOUNT, 5, 4, 3));
+        List<TransactionResponse> second = cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 5, 4, 3));
+
+        // Assert
+        assertThat(first).extracting(TransactionResponse::description).containsExactly("5", "4");
+        assertThat(second).extracting(TransactionResponse::description).containsExactly("5", "4", "3");
+        assertThat(loads).hasValue(1);
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe agregar los commits al anillo descartando el más antiguo")
+    void onTransactionCreated_AppendsInOrder() {
+        // Arrange
+        cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 2, 1));
+
+        // Act
+        cache.onTransactionCreated(event(ACCOUNT, 3));
+        cache.onTransactionCreated(event(ACCOUNT, 4));
+
+        // Assert
+        assertThat(cache.getLatest(ACCOUNT, 3, loader(ACCOUNT)))
+                .extracting(TransactionResponse::description).containsExactly("4", "3", "2");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Debe combinar los commits que llegan mientras la cuenta se carga")
+    void getLatest_CommitDuringLoad_IsNotLost() {
+        // Act: la carga vio hasta la 2; la 2 y la 3 se confirman mientras tanto
+        List<TransactionResponse> latest = cache.getLatest(ACCOUNT, 3, () -> {
+            cache.onTransactionCreated(event(ACCOUNT, 3));
+            cache.onTransactionCreated(event(ACCOUNT, 2));
+            return entries(ACCOUNT, 2, 1);
+        });
+
+        // Assert
+        assertThat(latest).extracting(TransactionResponse::description).containsExactly("3", "2", "1");
+    }
+
+    @Test
+    @DisplayName("Debe descartar el anillo ante un salto de secuencia y recargarlo")
+    void onTransactionCreated_SequenceGap_ReloadsAccount() {
+        // Arrange
+        cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 2, 1));
+
+        // Act: la 3 se escribió en otro nodo
+        cache.onTransactionCreated(event(ACCOUNT, 4));
+        List<TransactionResponse> latest = cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 4, 3, 2));
+
+        // Assert
+        assertThat(latest).extracting(TransactionResponse::description).containsExactly("4", "3", "2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Debe descartar la cuenta menos usada al superar el límite de memoria")
+    void getLatest_OverMemoryCap_EvictsLeastRecentlyUsedAccount() {
+        // Arrange: una sola cuenta entra en el límite
+        ReflectionTestUtils.setField(cache, "maxMemory", DataSize.ofBytes(1500));
+        cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 3, 2, 1));
+
+        // Act
+        cache.getLatest(OTHER_ACCOUNT, 3, loader(OTHER_ACCOUNT, 3, 2, 1));
+        cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 3, 2, 1));
+
+        // Assert
+        assertThat(loads).hasValue(3);
+        assertThat(meterRegistry.get("fintech.transactions.recent.cache.evictions").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("fintech.transactions.recent.cache.accounts").gauge().value())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe recargar la cuenta cuando vence el ttl")
+    void getLatest_AfterTtl_ReloadsAccount() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMillis(1));
+        cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 2, 1));
+        Thread.sleep(5);
+
+        // Act: la 3 se escribió en otro nodo y no hubo commits locales
+        List<TransactionResponse> latest = cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 3, 2, 1));
+
+        // Assert
+        assertThat(latest).extracting(TransactionResponse::description).containsExactly("3", "2", "1");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Debe quitar las cuentas vencidas y liberar su memoria")
+    void removeExpired_DropsExpiredAccounts() throws InterruptedException {
+        // Arrange
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMillis(1));
+        cache.getLatest(ACCOUNT, 3, loader(ACCOUNT, 2, 1));
+        Thread.sleep(5);
+
+        // Act
+        cache.removeExpired();
+
+        // Assert
+        assertThat(meterRegistry.get("fintech.transactions.recent.cache.accounts").gauge().value()).isZero();
+        assertThat(meterRegistry.get("fintech.transactions.recent.cache.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("No debe perder commits ni memoria con escrituras y lecturas concurrentes de varias cuentas")
+    void onTransactionCreated_ConcurrentAccounts_KeepsEveryRing() throws Exception {
+        // Arrange
+        List<String> accounts = List.of("0000000001", "0000000002", "0000000003", "0000000004");
+        accounts.forEach(account -> cache.getLatest(account, 3, loader(account)));
+        int commits = 500;
+
+        // Act: un escritor por cuenta (los commits de una cuenta son secuenciales) y lectores de todas
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (String account : accounts) {
+                tasks.add(executor.submit(() -> {
+                    for (long sequence = 1; sequence <= commits; sequence++) {
+                        cache.onTransactionCreated(event(account, sequence));
+                    }
+                }));
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < commits; i++) {
+                        accounts.forEach(other -> cache.getLatest(other, 3, loader(other)));
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+
+        // Assert
+        for (String account : accounts) {
+            assertThat(cache.getLatest(account, 3, loader(account)))
+                    .extracting(TransactionResponse::description).containsExactly("500", "499", "498");
+        }
+        assertThat(loads).hasValue(accounts.size());
+        double oneRing = meterRegistry.get("fintech.transactions.recent.cache.bytes").gauge().value() / accounts.size();
+        assertThat(oneRing).isEqualTo(3 * (320 + 2 * (36 + 10 + 8 + 3)));
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("fintech.transactions.recent.cache").tag("result", result).counter().count();
+    }
+
+    private Supplier<List<RecentTransactionsCache.Entry>> loader(String accountNumber, long... sequences) {
+        return () -> {
+            loads.incrementAndGet();
+            return entries(accountNumber, sequences);
+        };
+    }
+
+    private List<RecentTransactionsCache.Entry> entries(String accountNumber, long... sequences) {
+        List<RecentTransactionsCache.Entry> entries = new ArrayList<>();
+        for (long sequence : sequences) {
+            entries.add(new RecentTransactionsCache.Entry(sequence, transaction(accountNumber, sequence)));
+        }
+        return entries;
+    }
+
+    private TransactionCreatedEvent event(String accountNumber, long sequence) {
+        return new TransactionCreatedEvent(UUID.randomUUID(), "customer-001",
+                transaction(accountNumber, sequence), sequence);
+    }
+
+    private TransactionResponse transaction(String accountNumber, long sequence) {
+        return new TransactionResponse(UUID.randomUUID().toString(), accountNumber, "John Doe",
+                TransactionType.DEPOSIT, new BigDecimal("10.00"), new BigDecimal("100.00"),
+                LocalDateTime.now(), String.valueOf(sequence));
+    }
+}
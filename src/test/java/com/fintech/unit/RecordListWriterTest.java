@@ -0,0 +1,91 @@
+package com.fintech.unit;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.json.RecordListWriter;
+import com.fintech.model.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordListWriterTest {
+
+    private static final TypeReference<List<TransactionResponse>> LIST_TYPE = new TypeReference<>() {};
+
+    @Test
+    @DisplayName("Debe escribir los mismos bytes que la serialización genérica de Jackson")
+    void write_MatchesDefaultSerialization() throws IOException {
+        // Arrange
+        ObjectMapper mapper = mapper(new ObjectMapper());
+        List<TransactionResponse> transactions = transactions();
+
+        // Act
+        byte[] streamed = write(mapper, transactions);
+
+        // Assert
+        assertThat(streamed).isEqualTo(mapper.writerFor(LIST_TYPE).writeValueAsBytes(transactions));
+    }
+
+    @Test
+    @DisplayName("Debe escribir Smile con la factory del ObjectMapper")
+    void write_Smile_RoundTrips() throws IOException {
+        // Arrange
+        ObjectMapper mapper = mapper(new ObjectMapper(new SmileFactory()));
+        List<TransactionResponse> transactions = transactions();
+
+        // Act
+        List<TransactionResponse> read = mapper.readValue(write(mapper, transactions), LIST_TYPE);
+
+        // Assert
+        assertThat(read).isEqualTo(transactions);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar solo a listas declaradas como List de un record")
+    void recordElementType_OnlyRecordLists() {
+        // Act & Assert
+        assertThat(RecordListWriter.recordElementType(List.of(), LIST_TYPE.getType()))
+                .isEqualTo(TransactionResponse.class);
+        assertThat(RecordListWriter.recordElementType(List.of(), new TypeReference<List<String>>() {}.getType()))
+                .isNull();
+        assertThat(RecordListWriter.recordElementType(List.of(), List.class)).isNull();
+        assertThat(RecordListWriter.recordElementType(transactions().get(0), TransactionResponse.class)).isNull();
+    }
+
+    private static byte[] write(ObjectMapper mapper, List<TransactionResponse> transactions) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new RecordListWriter(mapper).write(transactions, TransactionResponse.class, out, JsonEncoding.UTF8);
+        return out.toByteArray();
+    }
+
+    private static ObjectMapper mapper(ObjectMapper mapper) {
+        return mapper.registerModule(new JavaTimeModule())
+                .registerModule(new BlackbirdModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static List<TransactionResponse> transactions() {
+        List<TransactionResponse> transactions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            transactions.add(new TransactionResponse("tx-" + i, "000000000" + i, "Owner " + i,
+                    i % 2 == 0 ? TransactionType.DEPOSIT : TransactionType.WITHDRAW,
+                    new BigDecimal("10.5" + i), new BigDecimal("100.00"),
+                    LocalDateTime.of(2026, 3, 1, 10, i), i == 1 ? null : "Pago " + i));
+        }
+        return transactions;
+    }
+}
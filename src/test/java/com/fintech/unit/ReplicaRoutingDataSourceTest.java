@@ -0,0 +1,134 @@
+package com.fintech.unit;
+
+import com.fintech.datasource.ReadYourWrites;
+import com.fintech.datasource.ReplicaLagMonitor;
+import com.fintech.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+        lenient().when(lagMonitor.isReplicaUsable()).thenReturn(true);
+        routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReadYourWrites.end();
+    }
+
+    @Test
+    @DisplayName("Debe enviar las transacciones de solo lectura a la réplica y las de escritura al primario")
+    void getConnection_ByTransactionType() throws SQLException {
+        // Act
+        Connection read = connectionFor(true);
+        Connection write = connectionFor(false);
+
+        // Assert
+        assertThat(read).isSameAs(replicaConnection);
+        assertThat(write).isSameAs(primaryConnection);
+        assertThat(routing.getRouted(ReplicaRoutingDataSource.Reason.READ)).isEqualTo(1);
+        assertThat(routing.getRouted(ReplicaRoutingDataSource.Reason.WRITE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario después de una escritura en el mismo request")
+    void getConnection_AfterWriteInRequest_StaysOnPrimary() throws SQLException {
+        // Arrange
+        ReadYourWrites.begin();
+        Connection before = connectionFor(true);
+
+        // Act
+        connectionFor(false);
+        Connection after = connectionFor(true);
+        ReadYourWrites.end();
+        ReadYourWrites.begin();
+        Connection nextRequest = connectionFor(true);
+
+        // Assert
+        assertThat(before).isSameAs(replicaConnection);
+        assertThat(after).isSameAs(primaryConnection);
+        assertThat(nextRequest).isSameAs(replicaConnection);
+        assertThat(routing.getRouted(ReplicaRoutingDataSource.Reason.STICKY)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("No debe recordar escrituras fuera de un request")
+    void getConnection_WriteOutsideRequest_IsNotSticky() throws SQLException {
+        // Act
+        connectionFor(false);
+        Connection read = connectionFor(true);
+
+        // Assert
+        assertThat(ReadYourWrites.isSticky()).isFalse();
+        assertThat(read).isSameAs(replicaConnection);
+    }
+
+    @Test
+    @DisplayName("Debe leer del primario cuando la réplica está atrasada")
+    void getConnection_ReplicaLagging_FallsBackToPrimary() throws SQLException {
+        // Arrange
+        when(lagMonitor.isReplicaUsable()).thenReturn(false);
+
+        // Act
+        Connection read = connectionFor(true);
+
+        // Assert
+        assertThat(read).isSameAs(primaryConnection);
+        assertThat(routing.getRouted(ReplicaRoutingDataSource.Reason.LAGGING)).isEqualTo(1);
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Debe usar el primario fuera de una transacción")
+    void getConnection_NoTransaction_UsesPrimary() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    private Connection connectionFor(boolean readOnly) throws SQLException {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            return routing.getConnection();
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+}
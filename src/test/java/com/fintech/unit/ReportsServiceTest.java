@@ -0,0 +1,143 @@
+package com.fintech.unit;
+
+import com.fintech.dto.response.DashboardStatisticsResponse;
+import com.fintech.model.RoleType;
+import com.fintech.model.TransactionType;
+import com.fintech.repository.AccountRepository;
+import com.fintech.repository.TransactionRepository;
+import com.fintech.repository.UserRepository;
+import com.fintech.service.DashboardChanges;
+import com.fintech.service.ReportsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportsService - Pruebas Unitarias")
+class ReportsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DashboardChanges dashboardChanges;
+
+    @InjectMocks
+    private ReportsService reportsService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(dashboardChanges.cut(any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return 0L;
+        });
+    }
+
+    @Test
+    @DisplayName("Debe calcular las tres secciones del dashboard con fecha de cálculo")
+    void getDashboardStatistics_ComputesAllSections() {
+        // Arrange
+        when(userRepository.count()).thenReturn(3L);
+        when(userRepository.countByRoleName(RoleType.ROLE_ADMIN)).thenReturn(1L);
+        when(accountRepository.count()).thenReturn(2L);
+        when(transactionRepository.countByType(TransactionType.DEPOSIT)).thenReturn(5L);
+
+        // Act
+        DashboardStatisticsResponse response = reportsService.getDashboardStatistics();
+
+        // Assert
+        assertThat(response.userStats().totalUsers()).isEqualTo(3L);
+        assertThat(response.userStats().adminUsers()).isEqualTo(1L);
+        assertThat(response.accountStats().totalAccounts()).isEqualTo(2L);
+        assertThat(response.transactionStats().totalDeposits()).isEqualTo(5L);
+        assertThat(response.computedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar el snapshot dentro de la ventana de staleness")
+    void getDashboardStatistics_FreshSnapshot_IsReused() {
+        // Act
+        DashboardStatisticsResponse first = reportsService.getDashboardStatistics();
+        DashboardStatisticsResponse second = reportsService.getDashboardStatistics();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).count();
+        verify(transactionRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("Debe recalcular cuando el snapshot está vencido")
+    void getDashboardStatistics_StaleSnapshot_IsRecomputed() {
+        // Arrange
+        ReflectionTestUtils.setField(reportsService, "dashboardMaxStaleness", Duration.ZERO);
+
+        // Act
+        reportsService.getDashboardStatistics();
+        reportsService.getDashboardStatistics();
+
+        // Assert
+        verify(userRepository, times(2)).count();
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar un solo recálculo para admins concurrentes")
+    void getDashboardStatistics_ConcurrentCallers_SingleComputation() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.count()).thenAnswer(invocation -> {
+            release.await();
+            return 1L;
+        });
+
+        int callers = 8;
+        List<Future<DashboardStatisticsResponse>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(reportsService::getDashboardStatistics));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            DashboardStatisticsResponse expected = results.get(0).get();
+            for (Future<DashboardStatisticsResponse> result : results) {
+                assertThat(result.get()).isSameAs(expected);
+            }
+        }
+
+        // Assert
+        verify(userRepository, times(1)).count();
+    }
+}
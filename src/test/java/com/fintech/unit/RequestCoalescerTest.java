@@ -0,0 +1,190 @@
+package com.fintech.unit;
+
+import com.fintech.coalescing.RequestCoalescer;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.TransactionCreatedEvent;
+import com.fintech.model.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestCoalescer - Pruebas Unitarias")
+class RequestCoalescerTest {
+
+    private static final String METHOD = "AccountService.getAccountByNumber";
+    private static final String ACCOUNT = "1234567890";
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar una sola vez las llamadas idénticas concurrentes y compartir el resultado")
+    void execute_ConcurrentIdenticalCalls_ShareOneExecution() throws Exception {
+        // Arrange
+        int callers = 8;
+        List<Future<Object>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            results.add(executor.submit(() -> call("alice", 5_000)));
+            started.await();
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> call("alice", 5_000)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            // Assert
+            for (Future<Object> result : results) {
+                assertThat(result.get()).isEqualTo("result-1");
+            }
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(count("executed")).isEqualTo(1.0);
+        assertThat(count("joined")).isEqualTo(callers - 1.0);
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar por separado las llamadas de distintos usuarios")
+    void execute_DifferentUsers_AreNotCoalesced() throws Exception {
+        // Arrange
+        release.countDown();
+
+        // Act
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Object> alice = executor.submit(() -> call("alice", 5_000));
+            Future<Object> bob = executor.submit(() -> call("bob", 5_000));
+            alice.get();
+            bob.get();
+        }
+
+        // Assert
+        assertThat(executions).hasValue(2);
+        assertThat(count("joined")).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe ejecutar por su cuenta la llamada que supera la espera máxima")
+    void execute_MaxWaitExceeded_RunsOwnCall() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // Arrange
+            Future<Object> leader = executor.submit(() -> call("alice", 5_000));
+            started.await();
+
+            // Act
+            Object follower = call("alice", 50);
+            release.countDown();
+
+            // Assert
+            assertThat(follower).isEqualTo("result-2");
+            assertThat(leader.get()).isEqualTo("result-1");
+        }
+        assertThat(count("timeout")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Debe propagar la excepción de la ejecución a quienes la esperaban")
+    void execute_Failure_IsSharedWithWaitingCalls() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // Arrange
+            Future<Object> leader = executor.submit(() -> execute(false, 5_000, () -> {
+                started.countDown();
+                release.await();
+                throw new IllegalStateException("boom");
+            }));
+            started.await();
+
+            // Act
+            Future<Object> follower = executor.submit(() -> execute(false, 5_000, () -> "unexpected"));
+            Thread.sleep(200);
+            release.countDown();
+
+            // Assert
+            assertThatThrownBy(leader::get).hasRootCauseMessage("boom");
+            assertThatThrownBy(follower::get).hasRootCauseMessage("boom");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe iniciar otra ejecución para las llamadas que llegan después de un commit de la cuenta")
+    void execute_AfterCommitOnAccount_StartsNewExecution() throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // Arrange
+            Future<Object> leader = executor.submit(() -> call("alice", 5_000));
+            started.await();
+
+            // Act
+            coalescer.onTransactionCreated(new TransactionCreatedEvent(UUID.randomUUID(), "customer-001",
+                    new TransactionResponse(UUID.randomUUID().toString(), ACCOUNT, "Alice", TransactionType.DEPOSIT,
+                            BigDecimal.TEN, BigDecimal.TEN, LocalDateTime.now(), null), 1L));
+            Future<Object> afterCommit = executor.submit(() -> call("alice", 5_000));
+
+            // Assert: la segunda ejecución no espera a la primera
+            assertThat(afterCommit.get(5, TimeUnit.SECONDS)).isEqualTo("result-2");
+            release.countDown();
+            assertThat(leader.get()).isEqualTo("result-1");
+        }
+        assertThat(count("joined")).isZero();
+    }
+
+    private Object call(String user, long maxWaitMillis) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        return execute(true, maxWaitMillis, () -> {
+            int execution = executions.incrementAndGet();
+            if (execution == 1) {
+                started.countDown();
+                release.await();
+            }
+            return "result-" + execution;
+        });
+    }
+
+    private Object execute(boolean perUser, long maxWaitMillis, RequestCoalescer.Call call) throws Exception {
+        try {
+            return coalescer.execute(METHOD, new Object[]{ACCOUNT}, perUser, maxWaitMillis, call);
+        } catch (Exception | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private double count(String outcome) {
+        var counter = meterRegistry.find("fintech.coalescing.calls").tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
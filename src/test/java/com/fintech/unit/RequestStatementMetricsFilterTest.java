@@ -0,0 +1,102 @@
+package com.fintech.unit;
+
+import com.fintech.event.QueryBudgetExceededEvent;
+import com.fintech.metrics.RequestStatementMetricsFilter;
+import com.fintech.metrics.StatementCountingInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RequestStatementMetricsFilterTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestStatementMetricsFilter filter;
+    private StatementCountingInspector inspector;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestStatementMetricsFilter(meterRegistry, eventPublisher);
+        inspector = new StatementCountingInspector();
+    }
+
+    @Test
+    @DisplayName("Debe registrar las sentencias del request con el patrón de URI como tag")
+    void doFilter_CountsStatementsPerUriTemplate() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts/number/1234567890");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select * from accounts");
+            inspector.inspect("select * from customers");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/accounts/number/{accountNumber}");
+        });
+
+        // Assert
+        DistributionSummary summary = meterRegistry.get("fintech.http.jpa.statements")
+                .tag("method", "GET")
+                .tag("uri", "/accounts/number/{accountNumber}")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("No debe contar sentencias ejecutadas fuera de un request")
+    void inspect_OutsideRequest_NotCounted() throws Exception {
+        // Arrange
+        inspector.inspect("select * from transactions");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/unknown");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        // Assert
+        DistributionSummary summary = meterRegistry.get("fintech.http.jpa.statements")
+                .tag("uri", "UNKNOWN")
+                .summary();
+        assertThat(summary.totalAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Debe publicar un evento cuando el request excede el presupuesto de sentencias")
+    void doFilter_BudgetExceeded_PublishesEvent() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(filter, "defaultBudget", 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/users");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select * from users");
+            inspector.inspect("select * from customers where user_id=?");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/admin/users");
+        });
+
+        // Assert
+        ArgumentCaptor<QueryBudgetExceededEvent> captor = ArgumentCaptor.forClass(QueryBudgetExceededEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().uri()).isEqualTo("/admin/users");
+        assertThat(captor.getValue().statements()).isEqualTo(2);
+        assertThat(captor.getValue().budget()).isEqualTo(1);
+        assertThat(meterRegistry.get("fintech.http.query.budget.exceeded").counter().count()).isEqualTo(1.0);
+    }
+}
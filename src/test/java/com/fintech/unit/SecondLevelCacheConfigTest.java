@@ -0,0 +1,87 @@
+package com.fintech.unit;
+
+import com.fintech.config.SecondLevelCacheConfig;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SecondLevelCacheConfig - Pruebas Unitarias")
+class SecondLevelCacheConfigTest {
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    private final SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+
+    private final List<CacheManager> cacheManagers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        cacheManagers.forEach(CacheManager::close);
+    }
+
+    @Test
+    @DisplayName("Debe crear un CacheManager por contexto con la configuración de cada uno")
+    void hibernateCacheManager_PerContext_KeepsOwnSettings() {
+        // Arrange
+        when(applicationContext.getId()).thenReturn("application");
+        CacheManager first = create(new MockEnvironment().withProperty("second-level-cache.roles.max-size", "10"));
+
+        // Act
+        CacheManager second = create(new MockEnvironment().withProperty("second-level-cache.roles.max-size", "20"));
+        first.close();
+
+        // Assert
+        assertThat(second.getURI()).isNotEqualTo(first.getURI());
+        assertThat(second.isClosed()).isFalse();
+        assertThat(maximumSize(second, "roles")).hasValue(20);
+        assertThat(second.getCache("customers")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Debe fallar si la región ya existe con otro tamaño o vencimiento")
+    void createIfMissing_DifferentSettings_Fails() {
+        // Arrange
+        when(applicationContext.getId()).thenReturn("application");
+        CacheManager cacheManager = create(new MockEnvironment());
+
+        // Act
+        ReflectionTestUtils.invokeMethod(SecondLevelCacheConfig.class, "createIfMissing",
+                cacheManager, "roles", 100L, Duration.ofHours(1));
+
+        // Assert
+        assertThatThrownBy(() -> ReflectionTestUtils.invokeMethod(SecondLevelCacheConfig.class, "createIfMissing",
+                cacheManager, "roles", 100L, Duration.ofMinutes(5)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("roles");
+        assertThat(maximumSize(cacheManager, "roles")).hasValue(100);
+    }
+
+    private CacheManager create(MockEnvironment environment) {
+        CacheManager cacheManager = config.hibernateCacheManager(applicationContext, environment);
+        cacheManagers.add(cacheManager);
+        return cacheManager;
+    }
+
+    private OptionalLong maximumSize(CacheManager cacheManager, String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class).getMaximumSize();
+    }
+}
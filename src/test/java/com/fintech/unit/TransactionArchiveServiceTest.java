@@ -0,0 +1,127 @@
+package com.fintech.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fintech.dto.response.ArchivedTransactionResponse;
+import com.fintech.model.TransactionType;
+import com.fintech.service.TransactionArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionArchiveService - Pruebas Unitarias")
+class TransactionArchiveServiceTest {
+
+    @TempDir
+    private Path archiveDir;
+
+    private TransactionArchiveService transactionArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        transactionArchiveService = new TransactionArchiveService(objectMapper);
+        ReflectionTestUtils.setField(transactionArchiveService, "archiveDir", archiveDir);
+    }
+
+    @Test
+    @DisplayName("Debe archivar un mes y leerlo de vuelta en el mismo orden")
+    void archiveMonth_ThenSearch_ReturnsSameTransactions() {
+        // Arrange
+        YearMonth month = YearMonth.of(2024, 1);
+        List<ArchivedTransactionResponse> transactions = List.of(
+                archived("t-1", "1111111111", TransactionType.DEPOSIT, "100.00", LocalDateTime.of(2024, 1, 3, 10, 0)),
+                archived("t-2", "2222222222", TransactionType.WITHDRAW, "25.50", LocalDateTime.of(2024, 1, 15, 9, 30)));
+
+        // Act
+        long written = transactionArchiveService.archiveMonth(month, transactions.stream(), 2);
+        List<ArchivedTransactionResponse> result =
+                transactionArchiveService.search(month, month, null, null, 100);
+
+        // Assert
+        assertThat(written).isEqualTo(2);
+        assertThat(result).containsExactlyElementsOf(transactions);
+        assertThat(archiveDir.resolve("transactions-2024-01.jsonl.gz")).exists();
+        assertThat(transactionArchiveService.getArchivedMonths()).containsExactly(month);
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por cuenta, tipo y rango de meses respetando el límite")
+    void search_WithFilters_ReturnsMatchingTransactions() {
+        // Arrange
+        transactionArchiveService.archiveMonth(YearMonth.of(2024, 1), Stream.of(
+                archived("t-1", "1111111111", TransactionType.DEPOSIT, "10.00", LocalDateTime.of(2024, 1, 1, 0, 0)),
+                archived("t-2", "2222222222", TransactionType.DEPOSIT, "20.00", LocalDateTime.of(2024, 1, 2, 0, 0))), 2);
+        transactionArchiveService.archiveMonth(YearMonth.of(2024, 2), Stream.of(
+                archived("t-3", "1111111111", TransactionType.WITHDRAW, "5.00", LocalDateTime.of(2024, 2, 1, 0, 0)),
+                archived("t-4", "1111111111", TransactionType.DEPOSIT, "30.00", LocalDateTime.of(2024, 2, 2, 0, 0))), 2);
+        transactionArchiveService.archiveMonth(YearMonth.of(2024, 3), Stream.of(
+                archived("t-5", "1111111111", TransactionType.DEPOSIT, "40.00", LocalDateTime.of(2024, 3, 1, 0, 0))), 1);
+
+        // Act
+        List<ArchivedTransactionResponse> deposits = transactionArchiveService.search(
+                YearMonth.of(2024, 1), YearMonth.of(2024, 2), "1111111111", TransactionType.DEPOSIT, 100);
+        List<ArchivedTransactionResponse> limited = transactionArchiveService.search(
+                YearMonth.of(2024, 1), YearMonth.of(2024, 3), null, null, 3);
+
+        // Assert
+        assertThat(deposits).extracting(ArchivedTransactionResponse::id).containsExactly("t-1", "t-4");
+        assertThat(limited).extracting(ArchivedTransactionResponse::id).containsExactly("t-1", "t-2", "t-3");
+    }
+
+    @Test
+    @DisplayName("No debe dejar archivo si la exportación no coincide con el conteo esperado")
+    void archiveMonth_CountMismatch_LeavesNoArchive() throws Exception {
+        // Arrange
+        YearMonth month = YearMonth.of(2024, 1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> transactionArchiveService.archiveMonth(month, Stream.of(
+                archived("t-1", "1111111111", TransactionType.DEPOSIT, "10.00", LocalDateTime.of(2024, 1, 1, 0, 0))), 2))
+                .isInstanceOf(IllegalStateException.class);
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe aceptar reintentos de un mes ya archivado solo si el conteo coincide")
+    void archiveMonth_AlreadyArchived_IsIdempotentForSameCount() {
+        // Arrange
+        YearMonth month = YearMonth.of(2024, 1);
+        ArchivedTransactionResponse transaction =
+                archived("t-1", "1111111111", TransactionType.DEPOSIT, "10.00", LocalDateTime.of(2024, 1, 1, 0, 0));
+        transactionArchiveService.archiveMonth(month, Stream.of(transaction), 1);
+
+        // Act
+        long retried = transactionArchiveService.archiveMonth(month, Stream.of(transaction), 1);
+
+        // Assert
+        assertThat(retried).isEqualTo(1);
+        assertThatThrownBy(() -> transactionArchiveService.archiveMonth(month, Stream.empty(), 5))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already exists");
+        assertThat(transactionArchiveService.search(month, month, null, null, 100)).containsExactly(transaction);
+    }
+
+    private ArchivedTransactionResponse archived(String id, String accountNumber, TransactionType type,
+                                                 String amount, LocalDateTime timestamp) {
+        return new ArchivedTransactionResponse(id, "acc-" + accountNumber, accountNumber, type,
+                new BigDecimal(amount), new BigDecimal("1000.00"), timestamp, "Archivada");
+    }
+}
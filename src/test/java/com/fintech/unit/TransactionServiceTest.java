@@ -2,10 +2,14 @@ package com.fintech.unit;
 
 import com.fintech.dto.request.TransactionRequest;
 import com.fintech.dto.response.TransactionResponse;
+import com.fintech.event.TransactionCreatedEvent;
 import com.fintech.exception.AccountNotFoundException;
+import com.fintech.exception.DailyLimitExceededException;
 import com.fintech.exception.InactiveAccountException;
 import com.fintech.exception.InsufficientBalanceException;
+import com.fintech.exception.InvalidTransactionAmountException;
 import com.fintech.exception.TransactionNotFoundException;
+import com.fintech.metrics.TransactionMetrics;
 import com.fintech.model.Account;
 import com.fintech.model.Customer;
 import com.fintech.model.Transaction;
@@ -13,6 +17,9 @@ import com.fintech.model.TransactionType;
 import com.fintech.model.User;
 import com.fintech.repository.AccountRepository;
 import com.fintech.repository.TransactionRepository;
+import com.fintech.service.LedgerService;
+import com.fintech.service.RecentTransactionsCache;
+import com.fintech.service.SettingsService;
 import com.fintech.service.TransactionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,28 +28,51 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("TransactionService - Pruebas Unitarias")
 class TransactionServiceTest {
 
+    private static final String ACCOUNT_ID = "01920000-0000-7000-8000-000000000001";
+    private static final String TRANSACTION_ID_1 = "01920000-0000-7000-8000-000000000101";
+    private static final String TRANSACTION_ID_2 = "01920000-0000-7000-8000-000000000102";
+    private static final String UNKNOWN_ID = "01920000-0000-7000-8000-0000000000ff";
+
     @Mock
     private TransactionRepository transactionRepository;
 
     @Mock
     private AccountRepository accountRepository;
 
+    @Mock
+    private SettingsService settingsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionMetrics transactionMetrics;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private RecentTransactionsCache recentTransactionsCache;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -72,7 +102,7 @@ class TransactionServiceTest {
 
     private Account createMockAccount(String id, String accountNumber, Customer customer, BigDecimal balance, Boolean active) {
         Account account = new Account();
-        account.setId(id);
+        account.setId(UUID.fromString(id));
         account.setAccountNumber(accountNumber);
         account.setCustomer(customer);
         account.setBalance(balance);
@@ -89,11 +119,11 @@ class TransactionServiceTest {
         BigDecimal depositAmount = new BigDecimal("500.00");
         TransactionRequest request = new TransactionRequest(accountNumber, TransactionType.DEPOSIT, depositAmount, "Salary deposit");
 
-        Account account = createMockAccount("acc-001", accountNumber, mockCustomer, currentBalance, true);
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
+        Account account = createMockAccount(ACCOUNT_ID, accountNumber, mockCustomer, currentBalance, true);
+        when(accountRepository.findForUpdateByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
 
         Transaction savedTransaction = new Transaction();
-        savedTransaction.setId("tx-001");
+        savedTransaction.setId(UUID.fromString(TRANSACTION_ID_1));
         savedTransaction.setAccount(account);
         savedTransaction.setType(TransactionType.DEPOSIT);
         savedTransaction.setAmount(depositAmount);
@@ -108,13 +138,16 @@ class TransactionServiceTest {
 
         // Assert
         assertThat(response).isNotNull();
-        assertThat(response.id()).isEqualTo("tx-001");
+        assertThat(response.id()).isEqualTo(TRANSACTION_ID_1);
         assertThat(response.type()).isEqualTo(TransactionType.DEPOSIT);
         assertThat(response.amount()).isEqualByComparingTo(depositAmount);
         assertThat(response.balanceAfter()).isEqualByComparingTo(new BigDecimal("1500.00"));
 
-        verify(accountRepository).findByAccountNumber(accountNumber);
+        verify(accountRepository).findForUpdateByAccountNumber(accountNumber);
         verify(transactionRepository).save(any(Transaction.class));
+        verify(ledgerService).nextSequence(account);
+        verify(ledgerService).recordEntry(account, savedTransaction);
+        verify(eventPublisher).publishEvent(any(TransactionCreatedEvent.class));
     }
 
     @Test
@@ -126,11 +159,11 @@ class TransactionServiceTest {
         BigDecimal withdrawAmount = new BigDecimal("300.00");
         TransactionRequest request = new TransactionRequest(accountNumber, TransactionType.WITHDRAW, withdrawAmount, "Cash withdrawal");
 
-        Account account = createMockAccount("acc-001", accountNumber, mockCustomer, currentBalance, true);
-        when(accountRepository.findByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
+        Account account = createMockAccount(ACCOUNT_ID, accountNumber, mockCustomer, currentBalance, true);
+        when(accountRepository.findForUpdateByAccountNumber(accountNumber)).thenReturn(Optional.of(account));
 
         Transaction savedTransaction = new Transaction();
-        savedTransaction.setId("tx-002");
+        savedTransaction.setId(UUID.fromString(TRANSACTION_ID_2));
         savedTransaction.setAccount(account);
         savedTransaction.setType(TransactionType.WITHDRAW);
         savedTransaction.setAmount(withdrawAmount);
@@ -154,7 +187,7 @@ class TransactionServiceTest {
     void createTransaction_NonExistingAccount_ThrowsException() {
         // Arrange
         TransactionRequest request = new TransactionRequest("9999999999", TransactionType.DEPOSIT, new BigDecimal("100.00"), "Test");
-        when(accountRepository.findByAccountNumber("9999999999")).thenReturn(Optional.empty());
+        when(accountRepository.findForUpdateByAccountNumber("9999999999")).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> transactionService.createTransaction(request))
@@ -169,8 +202,8 @@ class TransactionServiceTest {
     void createTransaction_InactiveAccount_ThrowsException() {
         // Arrange
         TransactionRequest request = new TransactionRequest("1234567890", TransactionType.DEPOSIT, new BigDecimal("100.00"), "Test");
-        Account inactiveAccount = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"), false);
-        when(accountRepository.findByAccountNumber("1234567890")).thenReturn(Optional.of(inactiveAccount));
+        Account inactiveAccount = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"), false);
+        when(accountRepository.findForUpdateByAccountNumber("1234567890")).thenReturn(Optional.of(inactiveAccount));
 
         // Act & Assert
         assertThatThrownBy(() -> transactionService.createTransaction(request))
@@ -185,8 +218,8 @@ class TransactionServiceTest {
     void createTransaction_InsufficientBalance_ThrowsException() {
         // Arrange
         TransactionRequest request = new TransactionRequest("1234567890", TransactionType.WITHDRAW, new BigDecimal("2000.00"), "Overdraft attempt");
-        Account account = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"), true);
-        when(accountRepository.findByAccountNumber("1234567890")).thenReturn(Optional.of(account));
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"), true);
+        when(accountRepository.findForUpdateByAccountNumber("1234567890")).thenReturn(Optional.of(account));
 
         // Act & Assert
         assertThatThrownBy(() -> transactionService.createTransaction(request))
@@ -194,16 +227,54 @@ class TransactionServiceTest {
                 .hasMessageContaining("Insufficient balance");
 
         verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionMetrics).recordRejected(eq(TransactionType.WITHDRAW), any(InsufficientBalanceException.class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar retiro que supera el límite diario usando la suma del día")
+    void createTransaction_DailyLimitExceeded_ThrowsException() {
+        // Arrange
+        TransactionRequest request = new TransactionRequest("1234567890", TransactionType.WITHDRAW, new BigDecimal("600.00"), "ATM");
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("10000.00"), true);
+        when(accountRepository.findForUpdateByAccountNumber("1234567890")).thenReturn(Optional.of(account));
+        when(settingsService.findSettingValue("MIN_TRANSACTION_AMOUNT")).thenReturn(Optional.of("1.00"));
+        when(settingsService.findSettingValue("MAX_TRANSACTION_AMOUNT")).thenReturn(Optional.of("100000.00"));
+        when(settingsService.findSettingValue("MAX_DAILY_WITHDRAWAL")).thenReturn(Optional.of("1000.00"));
+        when(transactionRepository.sumAmountByAccountAndTypeBetweenDates(
+                eq("1234567890"), eq(TransactionType.WITHDRAW), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(new BigDecimal("400.01")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> transactionService.createTransaction(request))
+                .isInstanceOf(DailyLimitExceededException.class)
+                .hasMessageContaining("1000.00");
+
+        assertThat(account.getBalance()).isEqualByComparingTo(new BigDecimal("10000.00"));
+        verify(transactionRepository, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar montos con más de dos decimales")
+    void createTransaction_AmountWithFractionOfCent_ThrowsException() {
+        // Arrange
+        TransactionRequest request = new TransactionRequest("1234567890", TransactionType.DEPOSIT, new BigDecimal("10.005"), "Test");
+
+        // Act & Assert
+        assertThatThrownBy(() -> transactionService.createTransaction(request))
+                .isInstanceOf(InvalidTransactionAmountException.class)
+                .hasMessageContaining("2 decimal places");
+
+        verify(accountRepository, never()).findForUpdateByAccountNumber(any());
     }
 
     @Test
     @DisplayName("Debe obtener transacción por ID")
     void getTransactionById_ExistingId_Success() {
         // Arrange
-        Account account = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"), true);
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"), true);
 
         Transaction transaction = new Transaction();
-        transaction.setId("tx-001");
+        transaction.setId(UUID.fromString(TRANSACTION_ID_1));
         transaction.setAccount(account);
         transaction.setType(TransactionType.DEPOSIT);
         transaction.setAmount(new BigDecimal("500.00"));
@@ -211,14 +282,14 @@ class TransactionServiceTest {
         transaction.setTimestamp(LocalDateTime.now());
         transaction.setDescription("Test deposit");
 
-        when(transactionRepository.findById("tx-001")).thenReturn(Optional.of(transaction));
+        when(transactionRepository.findById(UUID.fromString(TRANSACTION_ID_1))).thenReturn(Optional.of(transaction));
 
         // Act
-        TransactionResponse response = transactionService.getTransactionById("tx-001");
+        TransactionResponse response = transactionService.getTransactionById(TRANSACTION_ID_1);
 
         // Assert
         assertThat(response).isNotNull();
-        assertThat(response.id()).isEqualTo("tx-001");
+        assertThat(response.id()).isEqualTo(TRANSACTION_ID_1);
         assertThat(response.type()).isEqualTo(TransactionType.DEPOSIT);
     }
 
@@ -226,10 +297,10 @@ class TransactionServiceTest {
     @DisplayName("Debe lanzar excepción si ID no existe")
     void getTransactionById_NonExistingId_ThrowsException() {
         // Arrange
-        when(transactionRepository.findById("invalid-id")).thenReturn(Optional.empty());
+        when(transactionRepository.findById(UUID.fromString(UNKNOWN_ID))).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> transactionService.getTransactionById("invalid-id"))
+        assertThatThrownBy(() -> transactionService.getTransactionById(UNKNOWN_ID))
                 .isInstanceOf(TransactionNotFoundException.class)
                 .hasMessageContaining("not found");
     }
@@ -238,10 +309,10 @@ class TransactionServiceTest {
     @DisplayName("Debe listar todas las transacciones")
     void getAllTransactions_MultipleTransactions_Success() {
         // Arrange
-        Account account = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"), true);
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"), true);
 
         Transaction transaction1 = new Transaction();
-        transaction1.setId("tx-001");
+        transaction1.setId(UUID.fromString(TRANSACTION_ID_1));
         transaction1.setAccount(account);
         transaction1.setType(TransactionType.DEPOSIT);
         transaction1.setAmount(new BigDecimal("500.00"));
@@ -249,7 +320,7 @@ class TransactionServiceTest {
         transaction1.setTimestamp(LocalDateTime.now());
 
         Transaction transaction2 = new Transaction();
-        transaction2.setId("tx-002");
+        transaction2.setId(UUID.fromString(TRANSACTION_ID_2));
         transaction2.setAccount(account);
         transaction2.setType(TransactionType.WITHDRAW);
         transaction2.setAmount(new BigDecimal("200.00"));
@@ -263,18 +334,18 @@ class TransactionServiceTest {
 
         // Assert
         assertThat(responses).hasSize(2);
-        assertThat(responses.get(0).id()).isEqualTo("tx-001");
-        assertThat(responses.get(1).id()).isEqualTo("tx-002");
+        assertThat(responses.get(0).id()).isEqualTo(TRANSACTION_ID_1);
+        assertThat(responses.get(1).id()).isEqualTo(TRANSACTION_ID_2);
     }
 
     @Test
     @DisplayName("Debe filtrar transacciones por número de cuenta")
     void getTransactionsByAccountNumber_ExistingAccount_Success() {
         // Arrange
-        Account account = createMockAccount("acc-001", "1234567890", mockCustomer, new BigDecimal("1000.00"), true);
+        Account account = createMockAccount(ACCOUNT_ID, "1234567890", mockCustomer, new BigDecimal("1000.00"), true);
 
         Transaction transaction = new Transaction();
-        transaction.setId("tx-001");
+        transaction.setId(UUID.fromString(TRANSACTION_ID_1));
         transaction.setAccount(account);
         transaction.setType(TransactionType.DEPOSIT);
         transaction.setAmount(new BigDecimal("500.00"));
@@ -0,0 +1,171 @@
+package com.fintech.unit;
+
+import com.fintech.dto.request.TransactionRequest;
+import com.fintech.dto.response.TransactionResponse;
+import com.fintech.model.SubmissionStatus;
+import com.fintech.model.TransactionSubmission;
+import com.fintech.model.TransactionType;
+import com.fintech.repository.PendingSubmission;
+import com.fintech.repository.TransactionSubmissionRepository;
+import com.fintech.service.TransactionService;
+import com.fintech.service.TransactionSubmissionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionSubmissionService - Pruebas Unitarias")
+class TransactionSubmissionServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private TransactionSubmissionRepository submissionRepository;
+
+    @Mock
+    private TransactionService transactionService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private TransactionSubmissionService submissionService;
+
+    private TransactionSubmission submission;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(submissionService, "workers", 1);
+        ReflectionTestUtils.setField(submissionService, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(submissionService, "retryBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(submissionService, "staleAfter", Duration.ZERO);
+        ReflectionTestUtils.invokeMethod(submissionService, "init");
+
+        // La fila vive en memoria: el servicio la lee y la modifica como si fuera la entidad
+        submission = new TransactionSubmission();
+        submission.setId(UUID.fromString("01920000-0000-7000-8000-000000000001"));
+        submission.setAccountNumber("0000000001");
+        submission.setType(TransactionType.DEPOSIT);
+        submission.setAmount(new BigDecimal("10.00"));
+        submission.setStatus(SubmissionStatus.PENDING);
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        lenient().when(submissionRepository.save(any())).thenReturn(submission);
+        lenient().when(submissionRepository.findAllById(anyIterable())).thenAnswer(invocation -> List.of(submission));
+        lenient().when(submissionRepository.findById(submission.getId())).thenAnswer(invocation -> Optional.of(submission));
+        submissionService.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        submissionService.stop();
+    }
+
+    @Test
+    @DisplayName("Debe reintentar una falla transitoria y aplicar el envío")
+    void submit_TransientFailure_IsRetriedAndApplied() throws Exception {
+        // Arrange
+        when(transactionService.applySubmission(any()))
+                .thenThrow(new QueryTimeoutException("statement timeout"))
+                .thenThrow(new CannotAcquireLockException("lock timeout"))
+                .thenReturn(applied());
+
+        // Act
+        submissionService.submit(request());
+
+        // Assert
+        await(() -> submission.getStatus() != SubmissionStatus.PENDING);
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.APPLIED);
+        assertThat(submission.getReason()).isNull();
+        verify(transactionService, times(3)).applySubmission(any());
+    }
+
+    @Test
+    @DisplayName("Debe dejar PENDING el envío que agota los reintentos por una falla transitoria y retomarlo en el barrido")
+    void submit_TransientFailureExhausted_StaysPendingUntilSweep() throws Exception {
+        // Arrange
+        when(transactionService.applySubmission(any()))
+                .thenThrow(new QueryTimeoutException("statement timeout"))
+                .thenThrow(new QueryTimeoutException("statement timeout"))
+                .thenThrow(new QueryTimeoutException("statement timeout"))
+                .thenReturn(applied());
+        submissionService.submit(request());
+        // Agotados los reintentos el envío sale de la cola sin marcarse
+        await(() -> !isTracked());
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.PENDING);
+        when(submissionRepository.findPendingAfter(any(), any(), any(), any())).thenReturn(List.of(
+                new PendingSubmission(submission.getId(), submission.getAccountNumber())));
+
+        // Act
+        submissionService.requeueStale();
+
+        // Assert
+        await(() -> submission.getStatus() != SubmissionStatus.PENDING);
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.APPLIED);
+        verify(transactionService, times(MAX_ATTEMPTS + 1)).applySubmission(any());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el envío cuando una falla inesperada persiste en todos los intentos")
+    void submit_UnexpectedFailure_IsRejectedAfterRetries() throws Exception {
+        // Arrange
+        when(transactionService.applySubmission(any())).thenThrow(new IllegalStateException("boom"));
+
+        // Act
+        submissionService.submit(request());
+
+        // Assert
+        await(() -> submission.getStatus() != SubmissionStatus.PENDING);
+        assertThat(submission.getStatus()).isEqualTo(SubmissionStatus.REJECTED);
+        assertThat(submission.getReason()).isEqualTo("Processing failed: boom");
+        verify(transactionService, times(MAX_ATTEMPTS)).applySubmission(any());
+    }
+
+    private TransactionRequest request() {
+        return new TransactionRequest(submission.getAccountNumber(), submission.getType(), submission.getAmount(), null);
+    }
+
+    private TransactionResponse applied() {
+        return new TransactionResponse(UUID.randomUUID().toString(), submission.getAccountNumber(), null,
+                TransactionType.DEPOSIT, submission.getAmount(), submission.getAmount(), LocalDateTime.now(), null);
+    }
+
+    private boolean isTracked() {
+        return ((Set<?>) ReflectionTestUtils.getField(submissionService, "tracked")).contains(submission.getId());
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
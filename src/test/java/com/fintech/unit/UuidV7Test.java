@@ -0,0 +1,66 @@
+package com.fintech.unit;
+
+import com.fintech.util.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UuidV7 - Pruebas Unitarias")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Debe generar UUIDs versión 7 con variante RFC y el instante actual")
+    void generate_ReturnsVersion7WithCurrentTimestamp() {
+        // Arrange
+        Instant before = Instant.now().minusMillis(1);
+
+        // Act
+        UUID uuid = UuidV7.generate();
+
+        // Assert
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestampOf(uuid)).isBetween(before, Instant.now().plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Debe generar ids únicos y estrictamente crecientes dentro del mismo milisegundo")
+    void generate_ManyIds_StrictlyIncreasing() {
+        // Act
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(UuidV7.generate());
+        }
+
+        // Assert: el orden de los bits más significativos es el orden de la clave primaria
+        Set<UUID> unique = new HashSet<>(ids);
+        assertThat(unique).hasSize(ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(),
+                    ids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe leer ids existentes en texto y rechazar valores mal formados")
+    void parse_AcceptsCanonicalFormOnly() {
+        // Arrange
+        UUID legacy = UUID.randomUUID();
+
+        // Act & Assert
+        assertThat(UuidV7.parse(legacy.toString())).contains(legacy);
+        assertThat(UuidV7.parse("acc-001")).isEmpty();
+        assertThat(UuidV7.parse("1-1-1-1-1")).isEmpty();
+        assertThat(UuidV7.parse(null)).isEmpty();
+        assertThatThrownBy(() -> UuidV7.timestampOf(legacy)).isInstanceOf(IllegalArgumentException.class);
+    }
+}